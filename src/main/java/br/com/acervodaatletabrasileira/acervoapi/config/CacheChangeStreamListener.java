@@ -0,0 +1,319 @@
+package br.com.acervodaatletabrasileira.acervoapi.config;
+
+import br.com.acervodaatletabrasileira.acervoapi.service.CacheLocalService;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Invalidação de cache entre instâncias via change streams do MongoDB.
+ *
+ * Um único change stream no banco, filtrado pelas coleções cacheadas,
+ * repassa (coleção, _id) de cada escrita ao CacheLocalService — inclusive
+ * das escritas feitas pela própria instância, o que é inofensivo.
+ *
+ * - Reconexões retomam do último evento processado (token em memória).
+ * - O token também é persistido, um documento por instância
+ *   (app.cache.change-stream-instancia) e no máximo a cada
+ *   app.cache.change-stream-token-intervalo, para que um reinício com o
+ *   mesmo nome retome de onde parou. Documentos de instâncias que não
+ *   voltam expiram sozinhos (TTL).
+ * - Se o token não está mais no oplog, todos os caches são esvaziados,
+ *   o token persistido é apagado e o stream recomeça do ponto atual.
+ * - Mongo standalone (dev local) não suporta change streams: a instância
+ *   segue apenas com expiração por TTL.
+ */
+@Slf4j
+@Component
+public class CacheChangeStreamListener {
+
+    private static final List<String> COLECOES = List.of(
+            "itens_acervo",
+            "atletas",
+            "modalidades",
+            "fotografas",
+            "configuracoes_fiscais"
+    );
+
+    /**
+     * Códigos do servidor: change stream indisponível (standalone)
+     * e resume token fora do oplog
+     */
+    private static final Set<Integer> CHANGE_STREAM_NAO_SUPORTADO = Set.of(40573, 40324);
+    private static final int HISTORICO_PERDIDO = 286;
+
+    private static final String COLECAO_TOKENS = "sincronizacao_cache";
+    private static final String PREFIXO_TOKEN = "change-stream-caches:";
+
+    /**
+     * Token de instância que não atualiza o documento por esse tempo é descartado
+     */
+    private static final Duration VALIDADE_TOKEN = Duration.ofDays(7);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final CacheLocalService cacheLocalService;
+    private final String idToken;
+    private final Duration intervaloToken;
+
+    private final AtomicReference<BsonValue> ultimoToken = new AtomicReference<>();
+
+    /**
+     * Último token gravado no banco (comparado por identidade com ultimoToken)
+     */
+    private final AtomicReference<BsonValue> tokenGravado = new AtomicReference<>();
+
+    private volatile Disposable assinatura;
+    private volatile Disposable gravacaoToken;
+
+    @Value("${app.cache.change-stream:true}")
+    private boolean habilitado;
+
+    public CacheChangeStreamListener(
+            ReactiveMongoTemplate mongoTemplate,
+            CacheLocalService cacheLocalService,
+            @Value("${app.cache.change-stream-instancia:local}") String instancia,
+            @Value("${app.cache.change-stream-token-intervalo:10s}") Duration intervaloToken
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.cacheLocalService = cacheLocalService;
+        this.idToken = PREFIXO_TOKEN + instancia;
+        this.intervaloToken = intervaloToken;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!habilitado) {
+            log.info("Invalidação por change stream desabilitada; caches apenas com TTL");
+            return;
+        }
+
+        // O token persistido é lido uma única vez: as novas tentativas
+        // retomam de ultimoToken, que a perda de histórico zera
+        assinatura = carregarToken()
+                .doOnNext(token -> {
+                    ultimoToken.set(token);
+                    tokenGravado.set(token);
+                })
+                .thenMany(Flux.defer(this::escutar)
+                        // O stream só termina após "invalidate" (ex: dropDatabase): recomeça do ponto atual
+                        .repeat()
+                        .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                                .maxBackoff(Duration.ofMinutes(1))
+                                .filter(e -> !naoSuportado(e))
+                                .doBeforeRetryAsync(sinal -> {
+                                    if (!historicoPerdido(sinal.failure())) {
+                                        log.warn("Change stream interrompido, reconectando: {}", sinal.failure().getMessage());
+                                        return Mono.empty();
+                                    }
+                                    log.warn("Resume token expirado; esvaziando caches e reiniciando o change stream");
+                                    ultimoToken.set(null);
+                                    cacheLocalService.invalidarTudo();
+                                    return removerToken();
+                                })))
+                .subscribe(
+                        null,
+                        e -> {
+                            if (naoSuportado(e)) {
+                                log.warn("MongoDB sem suporte a change streams; caches apenas com TTL ({})", e.getMessage());
+                            } else {
+                                log.error("Change stream de invalidação de cache encerrado", e);
+                            }
+                        }
+                );
+
+        gravacaoToken = Flux.interval(intervaloToken, intervaloToken)
+                .onBackpressureDrop()
+                .concatMap(tick -> gravarTokenPendente(), 1)
+                .subscribe();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void encerrar() {
+        for (Disposable atual : new Disposable[]{assinatura, gravacaoToken}) {
+            if (atual != null) {
+                atual.dispose();
+            }
+        }
+        if (habilitado) {
+            // Último token processado, para o próximo início desta instância
+            try {
+                gravarTokenPendente().block(Duration.ofSeconds(5));
+            } catch (RuntimeException e) {
+                log.warn("Resume token não persistido no encerramento: {}", e.getMessage());
+            }
+        }
+    }
+
+    /* =====================================================
+       STREAM
+       ===================================================== */
+
+    private Flux<Void> escutar() {
+        BsonValue token = ultimoToken.get();
+        log.info("Change stream de invalidação de cache iniciado ({})", token != null ? "retomado" : "do ponto atual");
+
+        return mongoTemplate.changeStream(Document.class)
+                .withOptions(opcoes -> {
+                    opcoes.filter(Aggregation.newAggregation(
+                            Aggregation.match(Criteria.where("ns.coll").in(COLECOES)),
+                            // Só o necessário para invalidar (sem fullDocument)
+                            Aggregation.project("operationType", "ns", "documentKey")
+                    ));
+                    if (token != null) {
+                        opcoes.resumeAfter(token);
+                    }
+                })
+                .listen()
+                .concatMap(this::processar);
+    }
+
+    private Mono<Void> processar(ChangeStreamEvent<Document> evento) {
+        ChangeStreamDocument<Document> bruto = evento.getRaw();
+        if (bruto == null) {
+            return Mono.empty();
+        }
+
+        String colecao = evento.getCollectionName();
+        OperationType operacao = bruto.getOperationType();
+
+        if (bruto.getDocumentKey() != null && bruto.getDocumentKey().containsKey("_id")) {
+            cacheLocalService.documentoAlterado(colecao, idDe(bruto.getDocumentKey().get("_id")));
+        } else if (operacao == OperationType.DROP
+                || operacao == OperationType.RENAME
+                || operacao == OperationType.DROP_DATABASE
+                || operacao == OperationType.INVALIDATE) {
+            log.info("Evento '{}' em '{}': esvaziando caches", operacao.getValue(), colecao);
+            cacheLocalService.invalidarTudo();
+        }
+
+        BsonValue token = evento.getResumeToken();
+        if (token == null || operacao == OperationType.INVALIDATE) {
+            // Não é possível retomar após "invalidate"
+            ultimoToken.set(null);
+            return Mono.empty();
+        }
+        // Persistido em segundo plano (gravarTokenPendente), não a cada evento
+        ultimoToken.set(token);
+        return Mono.empty();
+    }
+
+    /**
+     * _id de String mapeado pelo Spring pode estar salvo como ObjectId
+     */
+    private String idDe(BsonValue id) {
+        if (id.isObjectId()) return id.asObjectId().getValue().toHexString();
+        if (id.isString()) return id.asString().getValue();
+        return id.toString();
+    }
+
+    /* =====================================================
+       PERSISTÊNCIA DO RESUME TOKEN
+       ===================================================== */
+
+    private Mono<BsonValue> carregarToken() {
+        Index expiracao = new Index().on("atualizadoEm", Sort.Direction.ASC).expire(VALIDADE_TOKEN);
+
+        return mongoTemplate.indexOps(COLECAO_TOKENS)
+                .ensureIndex(expiracao)
+                .onErrorResume(e -> {
+                    log.warn("Índice de expiração dos resume tokens não criado: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then(mongoTemplate.findById(idToken, Document.class, COLECAO_TOKENS))
+                .mapNotNull(documento -> documento.getString("token"))
+                .map(json -> (BsonValue) BsonDocument.parse(json))
+                .onErrorResume(e -> {
+                    log.warn("Resume token ilegível, iniciando do ponto atual: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Grava ultimoToken se mudou desde a última gravação
+     * (nulo → nada: após perda de histórico o documento já foi removido)
+     */
+    private Mono<Void> gravarTokenPendente() {
+        BsonValue token = ultimoToken.get();
+        if (token == null || token == tokenGravado.get()) {
+            return Mono.empty();
+        }
+        return salvarToken(token).doOnSuccess(v -> tokenGravado.set(token));
+    }
+
+    private Mono<Void> salvarToken(BsonValue token) {
+        return mongoTemplate.upsert(
+                        Query.query(Criteria.where("_id").is(idToken)),
+                        Update.update("token", token.asDocument().toJson())
+                                .set("atualizadoEm", Instant.now()),
+                        COLECAO_TOKENS
+                )
+                // Falha ao gravar o token não deve derrubar o stream
+                .onErrorResume(e -> {
+                    log.warn("Não foi possível persistir o resume token: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> removerToken() {
+        tokenGravado.set(null);
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").is(idToken)), COLECAO_TOKENS)
+                .onErrorResume(e -> {
+                    log.warn("Não foi possível remover o resume token expirado: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /* =====================================================
+       CLASSIFICAÇÃO DE ERROS
+       ===================================================== */
+
+    private boolean naoSuportado(Throwable e) {
+        MongoCommandException comando = causaComando(e);
+        return comando != null && CHANGE_STREAM_NAO_SUPORTADO.contains(comando.getErrorCode());
+    }
+
+    private boolean historicoPerdido(Throwable e) {
+        MongoCommandException comando = causaComando(e);
+        return comando != null && comando.getErrorCode() == HISTORICO_PERDIDO;
+    }
+
+    private MongoCommandException causaComando(Throwable e) {
+        Throwable atual = e;
+        while (atual != null) {
+            if (atual instanceof MongoCommandException comando) {
+                return comando;
+            }
+            atual = atual.getCause();
+        }
+        return null;
+    }
+}
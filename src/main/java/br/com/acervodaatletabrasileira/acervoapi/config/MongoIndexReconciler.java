@@ -0,0 +1,216 @@
+package br.com.acervodaatletabrasileira.acervoapi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reconciliador de índices do MongoDB.
+ *
+ * Na inicialização (sem bloquear o startup):
+ * 1. cria os índices declarados (@Indexed / @CompoundIndex) que ainda não existem;
+ * 2. percorre as consultas derivadas dos repositórios e reporta
+ *    as que não têm nenhum índice de suporte.
+ *
+ * Substitui a dependência de auto-index-creation
+ * ou de criação manual de índices no Atlas.
+ */
+@Slf4j
+@Component
+public class MongoIndexReconciler {
+
+    /**
+     * Tipos de predicado que um índice B-tree consegue atender
+     * (regex não ancorada e negações ficam de fora).
+     */
+    private static final Set<Part.Type> PREDICADOS_INDEXAVEIS = EnumSet.of(
+            Part.Type.SIMPLE_PROPERTY,
+            Part.Type.IN,
+            Part.Type.TRUE,
+            Part.Type.FALSE,
+            Part.Type.BETWEEN,
+            Part.Type.GREATER_THAN,
+            Part.Type.GREATER_THAN_EQUAL,
+            Part.Type.LESS_THAN,
+            Part.Type.LESS_THAN_EQUAL,
+            Part.Type.BEFORE,
+            Part.Type.AFTER,
+            Part.Type.IS_NULL,
+            Part.Type.STARTING_WITH
+    );
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final ApplicationContext applicationContext;
+
+    @Value("${app.mongo.reconciliar-indices:true}")
+    private boolean habilitado;
+
+    public MongoIndexReconciler(
+            ReactiveMongoTemplate mongoTemplate,
+            MongoMappingContext mappingContext,
+            ApplicationContext applicationContext
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+        this.applicationContext = applicationContext;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconciliar() {
+        if (!habilitado) {
+            log.info("Reconciliação de índices desabilitada (app.mongo.reconciliar-indices=false)");
+            return;
+        }
+
+        Flux.fromIterable(entidadesDocumentadas())
+                .concatMap(this::garantirIndices)
+                .thenMany(Flux.defer(this::verificarConsultas))
+                .subscribe(
+                        null,
+                        e -> log.error("Falha na reconciliação de índices do MongoDB", e),
+                        () -> log.info("Reconciliação de índices do MongoDB concluída")
+                );
+    }
+
+    /* =====================================================
+       CRIAÇÃO DOS ÍNDICES DECLARADOS
+       ===================================================== */
+
+    private List<MongoPersistentEntity<?>> entidadesDocumentadas() {
+        return mappingContext.getPersistentEntities()
+                .stream()
+                .filter(entity -> entity.isAnnotationPresent(Document.class))
+                .collect(Collectors.toList());
+    }
+
+    private Flux<String> garantirIndices(MongoPersistentEntity<?> entity) {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        List<IndexDefinition> declarados = new ArrayList<>();
+        resolver.resolveIndexFor(entity.getTypeInformation()).forEach(declarados::add);
+
+        return Flux.fromIterable(declarados)
+                .concatMap(definicao ->
+                        mongoTemplate.indexOps(entity.getCollection())
+                                .ensureIndex(definicao)
+                                .doOnNext(nome -> log.debug(
+                                        "Índice '{}' garantido em '{}'", nome, entity.getCollection()
+                                ))
+                                // Um índice inválido (ex: unique com duplicatas) não impede os demais
+                                .onErrorResume(e -> {
+                                    log.warn(
+                                            "Não foi possível criar índice {} em '{}': {}",
+                                            definicao.getIndexKeys().toJson(),
+                                            entity.getCollection(),
+                                            e.getMessage()
+                                    );
+                                    return Mono.empty();
+                                })
+                );
+    }
+
+    /* =====================================================
+       VERIFICAÇÃO DAS CONSULTAS DERIVADAS
+       ===================================================== */
+
+    private Flux<String> verificarConsultas() {
+        Repositories repositories = new Repositories(applicationContext);
+
+        return Flux.fromIterable(entidadesDocumentadas())
+                .concatMap(entity -> repositories.getRepositoryInformationFor(entity.getType())
+                        .map(info -> verificarRepositorio(entity, info))
+                        .orElseGet(Flux::empty));
+    }
+
+    private Flux<String> verificarRepositorio(MongoPersistentEntity<?> entity, RepositoryInformation info) {
+        return mongoTemplate.indexOps(entity.getCollection())
+                .getIndexInfo()
+                .map(this::campoInicial)
+                .collect(Collectors.toSet())
+                .flatMapMany(camposIniciais -> Flux.fromIterable(info.getQueryMethods())
+                        .filter(method -> !possuiIndiceDeSuporte(entity, method, camposIniciais))
+                        .map(method -> {
+                            String consulta = info.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                            log.warn(
+                                    "Consulta sem índice de suporte em '{}': {}",
+                                    entity.getCollection(),
+                                    consulta
+                            );
+                            return consulta;
+                        }));
+    }
+
+    /**
+     * Uma consulta é considerada suportada quando cada ramo do OR
+     * tem ao menos um predicado indexável cujo campo é o primeiro
+     * campo de algum índice da coleção.
+     */
+    private boolean possuiIndiceDeSuporte(
+            MongoPersistentEntity<?> entity,
+            Method method,
+            Set<String> camposIniciais
+    ) {
+        PartTree tree;
+        try {
+            tree = new PartTree(method.getName(), entity.getType());
+        } catch (RuntimeException e) {
+            // Não é consulta derivada (ex: @Query) — fora do escopo desta verificação
+            return true;
+        }
+
+        if (!tree.iterator().hasNext()) {
+            return true;
+        }
+
+        return tree.stream().allMatch(orPart ->
+                orPart.stream()
+                        .filter(this::indexavel)
+                        .map(part -> nomeDoCampo(part))
+                        .anyMatch(camposIniciais::contains)
+        );
+    }
+
+    private boolean indexavel(Part part) {
+        if (part.shouldIgnoreCase() == Part.IgnoreCaseType.ALWAYS) {
+            return false;
+        }
+        if (part.getType() == Part.Type.CONTAINING) {
+            // Containing em array vira igualdade; em String vira regex não ancorada
+            return part.getProperty().getLeafProperty().isCollection();
+        }
+        return PREDICADOS_INDEXAVEIS.contains(part.getType());
+    }
+
+    private String nomeDoCampo(Part part) {
+        return mappingContext.getPersistentPropertyPath(part.getProperty())
+                .toDotPath(MongoPersistentProperty::getFieldName);
+    }
+
+    private String campoInicial(IndexInfo indexInfo) {
+        return indexInfo.getIndexFields().get(0).getKey();
+    }
+}
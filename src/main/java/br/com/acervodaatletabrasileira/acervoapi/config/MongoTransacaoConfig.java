@@ -0,0 +1,21 @@
+package br.com.acervodaatletabrasileira.acervoapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+
+/**
+ * Transações multi-documento do MongoDB (requer replica set).
+ *
+ * Só participam as operações executadas dentro de um TransactionalOperator;
+ * o restante da aplicação continua sem sessão nem transação.
+ */
+@Configuration
+public class MongoTransacaoConfig {
+
+    @Bean
+    public ReactiveMongoTransactionManager reactiveMongoTransactionManager(ReactiveMongoDatabaseFactory fabrica) {
+        return new ReactiveMongoTransactionManager(fabrica);
+    }
+}
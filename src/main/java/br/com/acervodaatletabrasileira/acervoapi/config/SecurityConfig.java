@@ -115,6 +115,13 @@ public class SecurityConfig {
                             "/acervo/**"
                     ).permitAll();
 
+                    // Busca em lote: leitura pública via POST (corpo com a lista de ids)
+                    exchanges.pathMatchers(HttpMethod.POST,
+                            "/modalidades/batch",
+                            "/atletas/batch",
+                            "/acervo/batch"
+                    ).permitAll();
+
                 /* ==========================
                    5. DASHBOARD ATLETA
                    ========================== */
@@ -208,7 +215,8 @@ public class SecurityConfig {
                 "Authorization",
                 "Content-Type",
                 "X-Requested-With",
-                "Accept"
+                "Accept",
+                "Idempotency-Key"
         ));
 
         config.setAllowCredentials(true);
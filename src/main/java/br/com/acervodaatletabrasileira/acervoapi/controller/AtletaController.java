@@ -3,19 +3,26 @@ package br.com.acervodaatletabrasileira.acervoapi.controller;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaFormDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaPerfilDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaPublicoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.LoteIdsDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
 import br.com.acervodaatletabrasileira.acervoapi.service.AtletaService;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import br.com.acervodaatletabrasileira.acervoapi.util.RespostaCondicional;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.security.Principal;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/atletas")
@@ -58,22 +65,42 @@ public class AtletaController {
        LEITURA PÚBLICA (COM DTO DE PROTEÇÃO)
        ===================================================== */
 
-    @Operation(summary = "Lista atletas do acervo (visão pública protegida)")
-    @GetMapping
-    public Flux<AtletaPublicoDTO> listar(
+    @Operation(summary = "Lista atletas do acervo (visão pública protegida), paginado por cursor")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginaDTO<AtletaPublicoDTO>>> listar(
             @Parameter(description = "Filtrar por: HISTORICA, ATIVA ou ESPOLIO")
-            @RequestParam(required = false) Atleta.CategoriaAtleta categoria
+            @RequestParam(required = false) Atleta.CategoriaAtleta categoria,
+            @Parameter(description = "Cursor opaco retornado em proximoCursor da página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Atletas por página (padrão 24, máximo 100)")
+            @RequestParam(required = false) Integer tamanho,
+            ServerWebExchange exchange
     ) {
-        Flux<Atleta> atletas;
-        if (categoria != null) {
-            atletas = atletaService.findAll()
-                    .filter(atleta -> atleta.getCategoria() == categoria);
-        } else {
-            atletas = atletaService.findAll();
-        }
+        return atletaService.listarPublicas(categoria, cursor, tamanho)
+                .flatMap(pagina -> RespostaCondicional.responder(
+                        exchange,
+                        RespostaCondicional.versaoColecao(
+                                pagina.itens(),
+                                Atleta::getId,
+                                Atleta::getAtualizadoEm,
+                                categoria,
+                                pagina.proximoCursor()
+                        ),
+                        // Aplica a conversão para DTO para esconder dados sensíveis
+                        () -> Mono.just(pagina.map(AtletaPublicoDTO::fromModel))
+                ))
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest);
+    }
 
-        // Aplica a conversão para DTO para esconder dados sensíveis
-        return atletas.map(AtletaPublicoDTO::fromModel);
+    @Operation(
+            summary = "Transmite a lista pública de atletas em fluxo contínuo",
+            description = "Accept: application/x-ndjson ou text/event-stream."
+    )
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<AtletaPublicoDTO> transmitir(
+            @RequestParam(required = false) Atleta.CategoriaAtleta categoria
+    ) {
+        return atletaService.transmitirPublicas(categoria).map(AtletaPublicoDTO::fromModel);
     }
 
     @Operation(summary = "Busca os dados públicos de uma atleta pelo ID")
@@ -84,11 +111,36 @@ public class AtletaController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Busca dados públicos de atletas em lote",
+            description = "Até " + LoteIdsDTO.MAXIMO_IDS + " ids; resposta indexada por id. " +
+                    "Ids inexistentes são omitidos."
+    )
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Map<String, AtletaPublicoDTO>>> buscarEmLote(@RequestBody LoteIdsDTO lote) {
+        return Mono.fromCallable(lote::idsNormalizados)
+                .flatMap(atletaService::buscarPublicasPorIds)
+                .map(ResponseEntity::ok)
+                .onErrorResume(
+                        IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().build())
+                );
+    }
+
     @Operation(summary = "Busca o perfil completo da atleta pelo Slug (Dados + Acervo)")
     @GetMapping("/perfil/{slug}")
-    public Mono<ResponseEntity<AtletaPerfilDTO>> buscarPorSlug(@PathVariable String slug) {
-        return atletaService.getPerfilCompletoBySlug(slug)
-                .map(ResponseEntity::ok)
+    public Mono<ResponseEntity<AtletaPerfilDTO>> buscarPorSlug(
+            @PathVariable String slug,
+            ServerWebExchange exchange
+    ) {
+        // A versão do perfil (atleta + acervo) é checada antes de carregar os itens
+        return atletaService.findBySlug(slug)
+                .flatMap(atleta -> atletaService.versaoPerfil(atleta)
+                        .flatMap(versao -> RespostaCondicional.responder(
+                                exchange,
+                                versao,
+                                () -> atletaService.montarPerfil(atleta)
+                        )))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,50 @@
+package br.com.acervodaatletabrasileira.acervoapi.controller;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheCoalescidoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheDTO;
+import br.com.acervodaatletabrasileira.acervoapi.service.CacheLocalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/cache")
+@Tag(
+        name = "Cache",
+        description = "Observabilidade e manutenção dos caches em memória desta instância"
+)
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheController {
+
+    private final CacheLocalService cacheLocalService;
+
+    public CacheController(CacheLocalService cacheLocalService) {
+        this.cacheLocalService = cacheLocalService;
+    }
+
+    @Operation(summary = "Acertos, falhas, despejos e expirações por cache (instância atual)")
+    @GetMapping("/estatisticas")
+    public Mono<List<EstatisticasCacheDTO>> estatisticas() {
+        return Mono.fromSupplier(cacheLocalService::estatisticas);
+    }
+
+    @Operation(summary = "Cálculos, coalescência e tempo de cálculo por chave dos caches de dashboard (instância atual)")
+    @GetMapping("/coalescidos")
+    public Mono<List<EstatisticasCacheCoalescidoDTO>> estatisticasCoalescidos() {
+        return Mono.fromSupplier(cacheLocalService::estatisticasCoalescidos);
+    }
+
+    @Operation(summary = "Esvazia todos os caches desta instância")
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> limpar() {
+        return Mono.fromRunnable(cacheLocalService::invalidarTudo);
+    }
+}
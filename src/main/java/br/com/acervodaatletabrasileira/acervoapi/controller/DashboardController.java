@@ -2,17 +2,27 @@ package br.com.acervodaatletabrasileira.acervoapi.controller;
 
 import br.com.acervodaatletabrasileira.acervoapi.dto.AdminDashboardStatsDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaDashboardStatsDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.SerieReceitaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.DimensaoReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.GranularidadeReceita;
 import br.com.acervodaatletabrasileira.acervoapi.service.DashboardService;
+import br.com.acervodaatletabrasileira.acervoapi.service.ReceitaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 
 import java.security.Principal;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/dashboard") // Removido o /api para manter o padrão das outras rotas
@@ -20,9 +30,11 @@ import java.security.Principal;
 public class DashboardController {
 
     private final DashboardService service;
+    private final ReceitaService receitaService;
 
-    public DashboardController(DashboardService service) {
+    public DashboardController(DashboardService service, ReceitaService receitaService) {
         this.service = service;
+        this.receitaService = receitaService;
     }
 
     @Operation(
@@ -35,6 +47,51 @@ public class DashboardController {
         return service.getAdminStats();
     }
 
+    @Operation(
+            summary = "Receita ao longo do tempo (Admin)",
+            description = "Série por DIA, MES ou ANO; dimensao GLOBAL (padrão), ATLETA, TIPO_LICENCA ou ITEM " +
+                    "(as três últimas exigem chave). Sem intervalo: últimos 30 dias / 12 meses / 10 anos. " +
+                    "Até " + ReceitaService.MAXIMO_PERIODOS + " períodos.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/admin/receita")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<SerieReceitaDTO>> getReceitaAdmin(
+            @RequestParam(required = false) String granularidade,
+            @RequestParam(required = false) String dimensao,
+            @RequestParam(required = false) String chave,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim
+    ) {
+        return Mono.defer(() -> service.getReceita(
+                        GranularidadeReceita.deNome(granularidade),
+                        DimensaoReceita.deNome(dimensao),
+                        chave,
+                        inicio,
+                        fim
+                ))
+                .map(ResponseEntity::ok)
+                .onErrorResume(
+                        IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().build())
+                );
+    }
+
+    @Operation(
+            summary = "Reconstrói os agregados de receita a partir das transações (Admin)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/admin/receita/reconstruir")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<ResponseEntity<Void>> reconstruirReceita() {
+        return receitaService.reconstruir()
+                .thenReturn(ResponseEntity.noContent().<Void>build())
+                .onErrorResume(
+                        IllegalStateException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build())
+                );
+    }
+
     @Operation(
             summary = "Resumo estatístico da Atleta (Visão Individual)",
             security = @SecurityRequirement(name = "bearerAuth")
@@ -51,4 +108,36 @@ public class DashboardController {
 
         return service.getAtletaStats(identificador.trim());
     }
+
+    @Operation(
+            summary = "Receita da Atleta ao longo do tempo (Visão Individual)",
+            description = "Série por DIA, MES ou ANO dos licenciamentos da própria atleta.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/atleta/receita")
+    @PreAuthorize("hasRole('ATLETA')")
+    public Mono<ResponseEntity<SerieReceitaDTO>> getReceitaAtleta(
+            Principal principal,
+            @RequestParam(required = false) String granularidade,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim
+    ) {
+        String identificador = principal != null ? principal.getName() : null;
+
+        if (identificador == null || identificador.isBlank()) {
+            return Mono.error(new IllegalStateException("Identificador da atleta inválido no token"));
+        }
+
+        return Mono.defer(() -> service.getAtletaReceita(
+                        identificador.trim(),
+                        GranularidadeReceita.deNome(granularidade),
+                        inicio,
+                        fim
+                ))
+                .map(ResponseEntity::ok)
+                .onErrorResume(
+                        IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().build())
+                );
+    }
 }
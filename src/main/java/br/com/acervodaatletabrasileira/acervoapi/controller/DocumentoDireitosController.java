@@ -3,6 +3,7 @@ package br.com.acervodaatletabrasileira.acervoapi.controller;
 import br.com.acervodaatletabrasileira.acervoapi.model.DocumentoDireitos;
 import br.com.acervodaatletabrasileira.acervoapi.model.TipoDecisao;
 import br.com.acervodaatletabrasileira.acervoapi.service.GovernancaService;
+import br.com.acervodaatletabrasileira.acervoapi.service.ResumoDireitosService;
 import br.com.acervodaatletabrasileira.acervoapi.repository.DocumentoDireitosRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,6 +15,7 @@ import reactor.core.publisher.Mono;
 
 import java.security.Principal;
 import java.time.Instant;
+import java.util.Arrays;
 
 @RestController
 @RequestMapping("/admin/juridico/documentos")
@@ -27,13 +29,16 @@ public class DocumentoDireitosController {
 
     private final DocumentoDireitosRepository repository;
     private final GovernancaService governancaService;
+    private final ResumoDireitosService resumoDireitosService;
 
     public DocumentoDireitosController(
             DocumentoDireitosRepository repository,
-            GovernancaService governancaService
+            GovernancaService governancaService,
+            ResumoDireitosService resumoDireitosService
     ) {
         this.repository = repository;
         this.governancaService = governancaService;
+        this.resumoDireitosService = resumoDireitosService;
     }
 
     /* =====================================================
@@ -73,6 +78,7 @@ public class DocumentoDireitosController {
         );
 
         return repository.save(documento)
+                .flatMap(saved -> resumoDireitosService.recalcular(saved.getItemAcervoId()).thenReturn(saved))
                 .flatMap(saved ->
                         governancaService.registrarDecisao(
                                 br.com.acervodaatletabrasileira.acervoapi.model.TipoDecisao.JURIDICA,
@@ -105,7 +111,12 @@ public class DocumentoDireitosController {
                     atualizado.setCriadoEm(existente.getCriadoEm());
                     atualizado.setAtualizadoEm(Instant.now());
 
-                    return repository.save(atualizado);
+                    // O documento pode ter mudado de item: os dois resumos mudam
+                    return repository.save(atualizado)
+                            .flatMap(saved -> resumoDireitosService.recalcular(Arrays.asList(
+                                    existente.getItemAcervoId(),
+                                    saved.getItemAcervoId()
+                            )).thenReturn(saved));
                 })
                 .flatMap(saved ->
                         governancaService.registrarDecisao(
@@ -141,6 +152,7 @@ public class DocumentoDireitosController {
                     doc.setAtualizadoEm(Instant.now());
                     return repository.save(doc);
                 })
+                .flatMap(saved -> resumoDireitosService.recalcular(saved.getItemAcervoId()).thenReturn(saved))
                 .flatMap(saved ->
                         governancaService.registrarDecisao(
                                 br.com.acervodaatletabrasileira.acervoapi.model.TipoDecisao.JURIDICA,
@@ -170,6 +182,7 @@ public class DocumentoDireitosController {
                 )
                 .flatMap(doc ->
                         repository.deleteById(id)
+                                .then(resumoDireitosService.recalcular(doc.getItemAcervoId()))
                                 .then(
                                         governancaService.registrarDecisao(
                                                 TipoDecisao.JURIDICA,
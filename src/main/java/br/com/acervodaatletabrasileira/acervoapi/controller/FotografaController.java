@@ -2,15 +2,20 @@ package br.com.acervodaatletabrasileira.acervoapi.controller;
 
 import br.com.acervodaatletabrasileira.acervoapi.dto.FotografaPerfilDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.FotografaPublicoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.model.Fotografa;
 import br.com.acervodaatletabrasileira.acervoapi.service.FotografaService;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import br.com.acervodaatletabrasileira.acervoapi.util.RespostaCondicional;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -50,19 +55,41 @@ public class FotografaController {
        LEITURA PÚBLICA (LISTAGEM)
        ===================================================== */
 
-    @Operation(summary = "Lista fotógrafas do acervo (visão pública protegida)")
-    @GetMapping
-    public Flux<FotografaPublicoDTO> listarPublico(
+    @Operation(summary = "Lista fotógrafas do acervo (visão pública protegida), paginado por cursor")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginaDTO<FotografaPublicoDTO>>> listarPublico(
             @Parameter(description = "Filtrar por categoria: HISTORICA, ATIVA ou ESPOLIO")
-            @RequestParam(required = false) Fotografa.CategoriaFotografa categoria
+            @RequestParam(required = false) Fotografa.CategoriaFotografa categoria,
+            @Parameter(description = "Cursor opaco retornado em proximoCursor da página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Fotógrafas por página (padrão 24, máximo 100)")
+            @RequestParam(required = false) Integer tamanho,
+            ServerWebExchange exchange
     ) {
-        Flux<Fotografa> fotografas = fotografaService.findAllPublicas();
-
-        if (categoria != null) {
-            fotografas = fotografas.filter(f -> f.getCategoria() == categoria);
-        }
+        return fotografaService.listarPublicas(categoria, cursor, tamanho)
+                .flatMap(pagina -> RespostaCondicional.responder(
+                        exchange,
+                        RespostaCondicional.versaoColecao(
+                                pagina.itens(),
+                                Fotografa::getId,
+                                Fotografa::getAtualizadoEm,
+                                categoria,
+                                pagina.proximoCursor()
+                        ),
+                        () -> Mono.just(pagina.map(FotografaPublicoDTO::fromModel))
+                ))
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest);
+    }
 
-        return fotografas.map(FotografaPublicoDTO::fromModel);
+    @Operation(
+            summary = "Transmite a lista pública de fotógrafas em fluxo contínuo",
+            description = "Accept: application/x-ndjson ou text/event-stream."
+    )
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<FotografaPublicoDTO> transmitirPublico(
+            @RequestParam(required = false) Fotografa.CategoriaFotografa categoria
+    ) {
+        return fotografaService.transmitirPublicas(categoria).map(FotografaPublicoDTO::fromModel);
     }
 
     /* =====================================================
@@ -83,9 +110,16 @@ public class FotografaController {
 
     @Operation(summary = "Busca perfil público completo da fotógrafa pelo Slug (Dados + Coleção)")
     @GetMapping("/perfil/{slug}")
-    public Mono<ResponseEntity<FotografaPerfilDTO>> buscarPerfilPorSlug(@PathVariable String slug) {
+    public Mono<ResponseEntity<FotografaPerfilDTO>> buscarPerfilPorSlug(
+            @PathVariable String slug,
+            ServerWebExchange exchange
+    ) {
         return fotografaService.findPublicaBySlug(slug)
-                .map(f -> ResponseEntity.ok(FotografaPerfilDTO.fromModel(f)))
+                .flatMap(f -> RespostaCondicional.responder(
+                        exchange,
+                        RespostaCondicional.versao(f.getId(), f.getAtualizadoEm()),
+                        () -> Mono.just(FotografaPerfilDTO.fromModel(f))
+                ))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -13,10 +13,10 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
-import java.util.List;
 
 @RestController
 @RequestMapping("/admin/governanca")
@@ -43,9 +43,16 @@ public class GovernancaController {
        CONSULTA FILTRADA
        ===================================================== */
 
-    @Operation(summary = "Lista logs de governança por período")
-    @GetMapping("/logs")
-    public Mono<List<LogDecisao>> listarPorPeriodo(
+    @Operation(
+            summary = "Lista logs de governança por período",
+            description = "Suporta streaming com Accept: application/x-ndjson ou text/event-stream."
+    )
+    @GetMapping(value = "/logs", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.TEXT_EVENT_STREAM_VALUE
+    })
+    public Flux<LogDecisao> listarPorPeriodo(
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
             Instant inicio,
@@ -54,8 +61,8 @@ public class GovernancaController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
             Instant fim
     ) {
-        return governancaService.listarPorPeriodo(inicio, fim)
-                .collectList();
+        // Flux direto do cursor: em NDJSON/SSE cada log é enviado assim que lido
+        return governancaService.listarPorPeriodo(inicio, fim);
     }
 
     /* =====================================================
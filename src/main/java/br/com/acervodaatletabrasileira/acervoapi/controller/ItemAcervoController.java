@@ -1,12 +1,24 @@
 package br.com.acervodaatletabrasileira.acervoapi.controller;
 
+import br.com.acervodaatletabrasileira.acervoapi.dto.FiltroAcervoDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.FotoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoCardDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoCreateDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoResponseDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.LoteIdsDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ResultadoFacetadoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.ExpansaoAcervo;
 import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.service.ExpansaoAcervoService;
 import br.com.acervodaatletabrasileira.acervoapi.service.ItemAcervoService;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import br.com.acervodaatletabrasileira.acervoapi.util.RespostaCondicional;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
@@ -17,10 +29,17 @@ import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,10 +58,16 @@ import java.util.stream.Collectors;
 public class ItemAcervoController {
 
     private final ItemAcervoService service;
+    private final ExpansaoAcervoService expansaoService;
     private final ObjectMapper objectMapper;
 
-    public ItemAcervoController(ItemAcervoService service, ObjectMapper objectMapper) {
+    public ItemAcervoController(
+            ItemAcervoService service,
+            ExpansaoAcervoService expansaoService,
+            ObjectMapper objectMapper
+    ) {
         this.service = service;
+        this.expansaoService = expansaoService;
         this.objectMapper = objectMapper;
     }
 
@@ -50,30 +75,242 @@ public class ItemAcervoController {
        CONSULTA PÚBLICA
        ===================================================== */
 
-    @Operation(summary = "Lista itens públicos (Históricos e Licenciáveis)")
-    @GetMapping
-    public Flux<ItemAcervoResponseDTO> listarPublicados() {
-        return service.listarPublicados();
+    @Operation(summary = "Lista itens públicos (Históricos e Licenciáveis), paginado por cursor")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PaginaDTO<ItemAcervoCardDTO>>> listarPublicados(
+            @Parameter(description = "Cursor opaco retornado em proximoCursor da página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Itens por página (padrão 24, máximo 100)")
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand,
+            ServerWebExchange exchange
+    ) {
+        return comExpansoes(expand, expansoes -> service.listarPublicados(cursor, tamanho)
+                .flatMap(pagina -> responderPagina(exchange, pagina, expansoes))
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest));
+    }
+
+    @Operation(
+            summary = "Transmite todo o catálogo público em fluxo contínuo",
+            description = "Accept: application/x-ndjson ou text/event-stream. " +
+                    "Cada card é enviado assim que lido do banco, sem paginação."
+    )
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ItemAcervoCardDTO> transmitirPublicados(
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand
+    ) {
+        Set<ExpansaoAcervo> expansoes;
+        try {
+            expansoes = ExpansaoAcervo.deNomes(expand);
+        } catch (IllegalArgumentException e) {
+            // Erro antes do primeiro card: a resposta ainda sai como 400
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+        }
+
+        if (expansoes.isEmpty()) {
+            return service.transmitirPublicados();
+        }
+        // Expansão resolvida por blocos de cards (uma consulta por bloco)
+        return service.transmitirPublicados()
+                .buffer(CursorPaginacao.TAMANHO_MAXIMO)
+                .concatMap(bloco -> expansaoService.expandirCards(bloco, expansoes))
+                .flatMapIterable(bloco -> bloco);
+    }
+
+    @Operation(
+            summary = "Busca textual no acervo público, ordenada por relevância",
+            description = "Pesquisa título, descrição, local, procedência, crédito autoral " +
+                    "e nomes de atletas/modalidade, com radicalização em português " +
+                    "e sem distinção de acentos."
+    )
+    @GetMapping("/busca")
+    public Mono<ResponseEntity<PaginaDTO<ItemAcervoCardDTO>>> buscar(
+            @Parameter(description = "Termos de busca (aceita \"frase exata\" e -exclusão)")
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand
+    ) {
+        return comExpansoes(expand, expansoes -> service.buscar(q, cursor, tamanho)
+                .flatMap(pagina -> expansaoService.expandirPagina(pagina, expansoes))
+                .map(ResponseEntity::ok)
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest));
+    }
+
+    @Operation(
+            summary = "Pesquisa facetada no acervo público",
+            description = "Devolve a página filtrada e as contagens por faceta " +
+                    "(tipo, modalidade, atleta, status, era) em uma única consulta."
+    )
+    @GetMapping("/pesquisa")
+    public Mono<ResponseEntity<ResultadoFacetadoDTO<ItemAcervoCardDTO>>> pesquisar(
+            @RequestParam(required = false) TipoItemAcervo tipo,
+            @RequestParam(required = false) String modalidadeId,
+            @RequestParam(required = false) String atletaId,
+            @RequestParam(required = false) StatusItemAcervo status,
+            @Parameter(description = "Era, em décadas (ex: 1920)")
+            @RequestParam(required = false) Integer decada,
+            @Parameter(description = "Facetas a calcular, separadas por vírgula (padrão: configuração da aplicação)")
+            @RequestParam(required = false) List<String> facetas,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand
+    ) {
+        return comExpansoes(expand, expansoes -> service.pesquisarFacetado(
+                        new FiltroAcervoDTO(tipo, modalidadeId, atletaId, status, decada),
+                        facetas,
+                        cursor,
+                        tamanho
+                )
+                .flatMap(resultado -> expansaoService.expandirPagina(resultado.pagina(), expansoes)
+                        .map(pagina -> new ResultadoFacetadoDTO<>(pagina, resultado.facetas())))
+                .map(ResponseEntity::ok)
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest));
+    }
+
+    @Operation(
+            summary = "Busca itens públicos em lote",
+            description = "Até " + LoteIdsDTO.MAXIMO_IDS + " ids; resposta indexada por id. " +
+                    "Itens inexistentes ou não públicos são omitidos."
+    )
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Map<String, ItemAcervoResponseDTO>>> buscarEmLote(
+            @RequestBody LoteIdsDTO lote,
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand
+    ) {
+        return comExpansoes(expand, expansoes -> {
+            Set<String> ids;
+            try {
+                ids = lote.idsNormalizados();
+            } catch (IllegalArgumentException e) {
+                return RespostaErro.badRequest(e);
+            }
+
+            return service.buscarPublicadosPorIds(ids)
+                    .flatMap(itens -> expansaoService.expandirDetalhes(List.copyOf(itens.values()), expansoes))
+                    .map(itens -> {
+                        Map<String, ItemAcervoResponseDTO> porId = new LinkedHashMap<>();
+                        itens.forEach(item -> porId.put(item.id(), item));
+                        return ResponseEntity.ok(porId);
+                    });
+        });
     }
 
     @Operation(summary = "Busca detalhe de um item público")
     @GetMapping("/{id}")
-    public Mono<ResponseEntity<ItemAcervoResponseDTO>> buscarPorId(@PathVariable String id) {
-        return service.buscarPublicadoPorId(id)
-                .map(ResponseEntity::ok)
+    public Mono<ResponseEntity<ItemAcervoResponseDTO>> buscarPorId(
+            @PathVariable String id,
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand,
+            ServerWebExchange exchange
+    ) {
+        return comExpansoes(expand, expansoes -> responderItem(exchange, id, expansoes));
+    }
+
+    private Mono<ResponseEntity<ItemAcervoResponseDTO>> responderItem(
+            ServerWebExchange exchange,
+            String id,
+            Set<ExpansaoAcervo> expansoes
+    ) {
+        if (!expansoes.isEmpty()) {
+            // Os resumos entram na versão: renomear a atleta também muda o ETag
+            return service.buscarPublicado(id)
+                    .flatMap(item -> expansaoService.expandir(service.toResponseDTO(item), expansoes))
+                    .flatMap(dto -> RespostaCondicional.responder(
+                            exchange,
+                            RespostaCondicional.versaoComposta(dto.atualizadoEm(), dto.id(), dto.atualizadoEm(), dto.atletas(), dto.modalidade()),
+                            dto
+                    ))
+                    .defaultIfEmpty(ResponseEntity.notFound().build());
+        }
+
+        return service.buscarPublicado(id)
+                .flatMap(item -> RespostaCondicional.responder(
+                        exchange,
+                        RespostaCondicional.versao(item.getId(), item.getAtualizadoEm()),
+                        () -> Mono.just(service.toResponseDTO(item))
+                ))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Lista itens públicos de uma atleta")
+    @Operation(summary = "Lista itens públicos de uma atleta, paginado por cursor")
     @GetMapping("/atleta/{atletaId}")
-    public Flux<ItemAcervoResponseDTO> listarPorAtleta(@PathVariable String atletaId) {
-        return service.listarPublicadosPorAtleta(atletaId);
+    public Mono<ResponseEntity<PaginaDTO<ItemAcervoCardDTO>>> listarPorAtleta(
+            @PathVariable String atletaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand,
+            ServerWebExchange exchange
+    ) {
+        return comExpansoes(expand, expansoes -> service.listarPublicadosPorAtleta(atletaId, cursor, tamanho)
+                .flatMap(pagina -> responderPagina(exchange, pagina, expansoes))
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest));
     }
 
-    @Operation(summary = "Lista itens públicos por modalidade")
+    @Operation(summary = "Lista itens públicos por modalidade, paginado por cursor")
     @GetMapping("/modalidade/{modalidadeId}")
-    public Flux<ItemAcervoResponseDTO> listarPorModalidade(@PathVariable String modalidadeId) {
-        return service.listarPublicadosPorModalidade(modalidadeId);
+    public Mono<ResponseEntity<PaginaDTO<ItemAcervoCardDTO>>> listarPorModalidade(
+            @PathVariable String modalidadeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Resumos a embutir, separados por vírgula: atletas, modalidade")
+            @RequestParam(required = false) List<String> expand,
+            ServerWebExchange exchange
+    ) {
+        return comExpansoes(expand, expansoes -> service.listarPublicadosPorModalidade(modalidadeId, cursor, tamanho)
+                .flatMap(pagina -> responderPagina(exchange, pagina, expansoes))
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest));
+    }
+
+    /**
+     * expand inválido → 400 com a mensagem, sem consultar o acervo.
+     * Só o parse do expand é tratado aqui: erros da consulta seguem
+     * o tratamento de cada endpoint.
+     */
+    private static <T> Mono<ResponseEntity<T>> comExpansoes(
+            List<String> expand,
+            Function<Set<ExpansaoAcervo>, Mono<ResponseEntity<T>>> resposta
+    ) {
+        Set<ExpansaoAcervo> expansoes;
+        try {
+            expansoes = ExpansaoAcervo.deNomes(expand);
+        } catch (IllegalArgumentException e) {
+            return RespostaErro.badRequest(e);
+        }
+        return resposta.apply(expansoes);
+    }
+
+    /**
+     * ETag fraco da página: (id, direitosLicenciaveis, atualizadoEm) de cada
+     * card + próximo cursor (+ resumos embutidos, quando há expansão).
+     *
+     * direitosLicenciaveis muda sem atualizadoEm (recálculo do resumo
+     * jurídico, vencimento de documento), por isso entra na versão.
+     */
+    private Mono<ResponseEntity<PaginaDTO<ItemAcervoCardDTO>>> responderPagina(
+            ServerWebExchange exchange,
+            PaginaDTO<ItemAcervoCardDTO> pagina,
+            Set<ExpansaoAcervo> expansoes
+    ) {
+        return expansaoService.expandirPagina(pagina, expansoes)
+                .flatMap(expandida -> {
+                    RespostaCondicional.Versao versao = RespostaCondicional.versaoColecao(
+                            expandida.itens(),
+                            card -> card.id() + "/" + card.direitosLicenciaveis(),
+                            ItemAcervoCardDTO::atualizadoEm,
+                            expandida.proximoCursor(),
+                            expansoes.isEmpty() ? null : expandida.itens().stream()
+                                    .map(card -> List.of(Objects.toString(card.atletas()), Objects.toString(card.modalidade())))
+                                    .toList()
+                    );
+                    return RespostaCondicional.responder(exchange, versao, expandida);
+                });
     }
 
     /* =====================================================
@@ -81,13 +318,18 @@ public class ItemAcervoController {
        ===================================================== */
 
     @Operation(
-            summary = "Lista todos os itens (inclui rascunhos)",
+            summary = "Lista todos os itens (inclui rascunhos), paginado por cursor",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
-    public Flux<ItemAcervo> listarTodos() {
-        return service.listarTodos();
+    public Mono<ResponseEntity<PaginaDTO<ItemAcervo>>> listarTodos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho
+    ) {
+        return service.listarTodos(cursor, tamanho)
+                .map(ResponseEntity::ok)
+                .onErrorResume(CursorPaginacao.CursorInvalidoException.class, RespostaErro::badRequest);
     }
 
     @Operation(
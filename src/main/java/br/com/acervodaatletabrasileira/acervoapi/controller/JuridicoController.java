@@ -3,6 +3,7 @@ package br.com.acervodaatletabrasileira.acervoapi.controller;
 import br.com.acervodaatletabrasileira.acervoapi.model.DocumentoDireitos;
 import br.com.acervodaatletabrasileira.acervoapi.model.TipoDecisao;
 import br.com.acervodaatletabrasileira.acervoapi.service.GovernancaService;
+import br.com.acervodaatletabrasileira.acervoapi.service.ResumoDireitosService;
 import br.com.acervodaatletabrasileira.acervoapi.repository.DocumentoDireitosRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -28,13 +29,16 @@ public class JuridicoController {
 
     private final DocumentoDireitosRepository documentoRepository;
     private final GovernancaService governancaService;
+    private final ResumoDireitosService resumoDireitosService;
 
     public JuridicoController(
             DocumentoDireitosRepository documentoRepository,
-            GovernancaService governancaService
+            GovernancaService governancaService,
+            ResumoDireitosService resumoDireitosService
     ) {
         this.documentoRepository = documentoRepository;
         this.governancaService = governancaService;
+        this.resumoDireitosService = resumoDireitosService;
     }
 
     /* =====================================================
@@ -87,6 +91,7 @@ public class JuridicoController {
                     doc.setAtualizadoEm(Instant.now());
 
                     return documentoRepository.save(doc)
+                            .flatMap(saved -> resumoDireitosService.recalcular(saved.getItemAcervoId()).thenReturn(saved))
                             .flatMap(saved ->
                                     governancaService.registrarDecisao(
                                             TipoDecisao.JURIDICA,
@@ -126,6 +131,7 @@ public class JuridicoController {
                     doc.setAtualizadoEm(Instant.now());
 
                     return documentoRepository.save(doc)
+                            .flatMap(saved -> resumoDireitosService.recalcular(saved.getItemAcervoId()).thenReturn(saved))
                             .flatMap(saved ->
                                     governancaService.registrarDecisao(
                                             TipoDecisao.JURIDICA,
@@ -1,10 +1,14 @@
 package br.com.acervodaatletabrasileira.acervoapi.controller;
 
+import br.com.acervodaatletabrasileira.acervoapi.dto.CarrinhoLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasLatenciaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ExtratoAtletaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.PropostaLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ReciboCarrinhoDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.SimulacaoFaturamentoDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.TransacaoResponseDTO;
 import br.com.acervodaatletabrasileira.acervoapi.model.Licenciamento;
+import br.com.acervodaatletabrasileira.acervoapi.service.IdempotenciaService;
 import br.com.acervodaatletabrasileira.acervoapi.service.LicenciamentoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,9 +16,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.security.Principal;
+import java.util.List;
+
 @RestController
 @RequestMapping("/licenciamento")
 @Tag(
@@ -23,10 +31,17 @@ import reactor.core.publisher.Mono;
 )
 public class LicenciamentoController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final LicenciamentoService service;
+    private final IdempotenciaService idempotenciaService;
 
-    public LicenciamentoController(LicenciamentoService service) {
+    public LicenciamentoController(
+            LicenciamentoService service,
+            IdempotenciaService idempotenciaService
+    ) {
         this.service = service;
+        this.idempotenciaService = idempotenciaService;
     }
 
     /* =====================================================
@@ -45,17 +60,69 @@ public class LicenciamentoController {
        LICENCIAMENTO (ATO FORMAL)
        ===================================================== */
 
+    /**
+     * Com Idempotency-Key, repetições (retry de cliente ou proxy) recebem
+     * a mesma transação em vez de gerar outra
+     */
     @Operation(
             summary = "Efetiva um licenciamento autorizado (gera transação)",
+            description = "Envie o cabeçalho Idempotency-Key para repetir a requisição com segurança",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @PostMapping("/efetivar")
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("hasAnyRole('ADMIN', 'ATLETA')")
     public Mono<TransacaoResponseDTO> efetivarLicenciamento(
-            @RequestBody PropostaLicenciamentoDTO proposta
+            @RequestBody PropostaLicenciamentoDTO proposta,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Principal principal
+    ) {
+        return idempotenciaService.executar(
+                "licenciamento.efetivar:" + principal.getName(),
+                idempotencyKey,
+                proposta,
+                TransacaoResponseDTO.class,
+                () -> service.efetivarLicenciamento(proposta)
+        ).onErrorMap(LicenciamentoController::erroIdempotencia);
+    }
+
+    @Operation(
+            summary = "Efetiva vários itens de uma vez (tudo ou nada) e retorna o recibo consolidado",
+            description = "Envie o cabeçalho Idempotency-Key para repetir a requisição com segurança",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/carrinho/efetivar")
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("hasAnyRole('ADMIN', 'ATLETA')")
+    public Mono<ReciboCarrinhoDTO> efetivarCarrinho(
+            @RequestBody CarrinhoLicenciamentoDTO carrinho,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Principal principal
     ) {
-        return service.efetivarLicenciamento(proposta);
+        return idempotenciaService.executar(
+                "licenciamento.carrinho:" + principal.getName(),
+                idempotencyKey,
+                carrinho,
+                ReciboCarrinhoDTO.class,
+                () -> service.efetivarCarrinho(carrinho, principal.getName())
+        ).onErrorMap(LicenciamentoController::erroIdempotencia);
+    }
+
+    /**
+     * Erros da Idempotency-Key viram 4xx: o cliente distingue conflito
+     * (repetir não adianta) de falha que vale tentar de novo
+     */
+    private static Throwable erroIdempotencia(Throwable erro) {
+        if (erro instanceof IdempotenciaService.ChaveInvalidaException) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, erro.getMessage(), erro);
+        }
+        if (erro instanceof IdempotenciaService.ChaveReutilizadaException) {
+            return new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, erro.getMessage(), erro);
+        }
+        if (erro instanceof IdempotenciaService.ChaveEmProcessamentoException) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, erro.getMessage(), erro);
+        }
+        return erro;
     }
 
     /* =====================================================
@@ -84,6 +151,16 @@ public class LicenciamentoController {
         return service.listarLicenciamentosPorItem(itemAcervoId);
     }
 
+    @Operation(
+            summary = "Latência por etapa da simulação e da efetivação (instância atual)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/admin/latencias")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<List<EstatisticasLatenciaDTO>> latencias() {
+        return Mono.fromSupplier(service::estatisticasLatencia);
+    }
+
     /* =====================================================
        EXTRATOS FINANCEIROS
        ===================================================== */
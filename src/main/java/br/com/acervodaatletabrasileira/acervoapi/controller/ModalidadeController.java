@@ -1,9 +1,11 @@
 package br.com.acervodaatletabrasileira.acervoapi.controller;
 
+import br.com.acervodaatletabrasileira.acervoapi.dto.LoteIdsDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ModalidadeDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ModalidadePublicaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.model.Modalidade;
 import br.com.acervodaatletabrasileira.acervoapi.service.ModalidadeService;
+import br.com.acervodaatletabrasileira.acervoapi.util.RespostaCondicional;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,9 +13,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/modalidades")
 @Tag(name = "Modalidades", description = "Endpoints públicos e administrativos das modalidades do acervo")
@@ -26,32 +33,60 @@ public class ModalidadeController {
     }
 
     /* =====================================================
-       LEITURA PÚBLICA (Com Proteção DTO e Filtro de Ativas)
+       LEITURA PÚBLICA (Com Proteção DTO e Registro de Ativas em Memória)
        ===================================================== */
 
     @Operation(summary = "Lista todas as modalidades ativas para o público")
     @GetMapping
-    public Flux<ModalidadePublicaDTO> listarTodas() {
-        return modalidadeService.findAll()
-                .filter(m -> Boolean.TRUE.equals(m.getAtiva()))
-                .map(ModalidadePublicaDTO::fromModel);
+    public Mono<ResponseEntity<List<ModalidadePublicaDTO>>> listarTodas(ServerWebExchange exchange) {
+        List<Modalidade> modalidades = modalidadeService.listarAtivas();
+        return RespostaCondicional.responder(
+                exchange,
+                RespostaCondicional.versaoColecao(modalidades, Modalidade::getId, Modalidade::getAtualizadoEm),
+                () -> Mono.just(modalidades.stream().map(ModalidadePublicaDTO::fromModel).toList())
+        );
     }
 
     @Operation(summary = "Busca uma modalidade ativa pelo ID")
     @GetMapping("/{id}")
     public Mono<ResponseEntity<ModalidadePublicaDTO>> buscarPorId(@PathVariable String id) {
-        return modalidadeService.findById(id)
-                .filter(m -> Boolean.TRUE.equals(m.getAtiva()))
+        return modalidadeService.buscarAtivaPorId(id)
                 .map(m -> ResponseEntity.ok(ModalidadePublicaDTO.fromModel(m)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Busca modalidades ativas em lote",
+            description = "Até " + LoteIdsDTO.MAXIMO_IDS + " ids; resposta indexada por id. " +
+                    "Modalidades inativas ou inexistentes são omitidas."
+    )
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<Map<String, ModalidadePublicaDTO>>> buscarEmLote(@RequestBody LoteIdsDTO lote) {
+        return Mono.fromCallable(lote::idsNormalizados)
+                .map(ids -> {
+                    Map<String, ModalidadePublicaDTO> modalidades = new LinkedHashMap<>();
+                    modalidadeService.buscarAtivasPorIds(ids)
+                            .forEach((id, m) -> modalidades.put(id, ModalidadePublicaDTO.fromModel(m)));
+                    return ResponseEntity.ok(modalidades);
+                })
+                .onErrorResume(
+                        IllegalArgumentException.class,
+                        e -> Mono.just(ResponseEntity.badRequest().build())
+                );
+    }
+
     @Operation(summary = "Busca uma modalidade ativa pelo Slug (URL Amigável)")
     @GetMapping("/slug/{slug}")
-    public Mono<ResponseEntity<ModalidadePublicaDTO>> buscarPorSlug(@PathVariable String slug) {
-        return modalidadeService.findBySlug(slug)
-                .filter(m -> Boolean.TRUE.equals(m.getAtiva()))
-                .map(m -> ResponseEntity.ok(ModalidadePublicaDTO.fromModel(m)))
+    public Mono<ResponseEntity<ModalidadePublicaDTO>> buscarPorSlug(
+            @PathVariable String slug,
+            ServerWebExchange exchange
+    ) {
+        return modalidadeService.buscarAtivaPorSlug(slug)
+                .flatMap(m -> RespostaCondicional.responder(
+                        exchange,
+                        RespostaCondicional.versao(m.getId(), m.getAtualizadoEm()),
+                        () -> Mono.just(ModalidadePublicaDTO.fromModel(m))
+                ))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,26 @@
+package br.com.acervodaatletabrasileira.acervoapi.controller;
+
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 400 com a mensagem no corpo ({"error": ...}, como no AuthController)
+ * para endpoints cujo corpo de sucesso tem outro tipo (ex: página).
+ *
+ * Usado só para erros específicos do cliente (cursor, expand, lote):
+ * as demais exceções seguem o tratamento padrão.
+ */
+final class RespostaErro {
+
+    private RespostaErro() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Mono<ResponseEntity<T>> badRequest(Throwable erro) {
+        // O corpo é serializado pelo tipo real (Map), não pelo tipo declarado
+        ResponseEntity<?> resposta = ResponseEntity.badRequest().body(Map.of("error", erro.getMessage()));
+        return Mono.just((ResponseEntity<T>) resposta);
+    }
+}
@@ -1,9 +1,15 @@
 package br.com.acervodaatletabrasileira.acervoapi.dto;
 
-import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
-import java.util.List;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
 
+import java.util.Map;
+
+/**
+ * Perfil público "combo": atleta + primeira página do acervo (cards)
+ * + totais por tipo. Demais páginas: /acervo/atleta/{id}?cursor=proximoCursor
+ */
 public record AtletaPerfilDTO(
         AtletaPublicoDTO atleta, // Agora usamos o DTO limpo aqui
-        List<ItemAcervo> itens
-) {}
\ No newline at end of file
+        PaginaDTO<ItemAcervoCardDTO> acervo,
+        Map<TipoItemAcervo, Long> totaisPorTipo
+) {}
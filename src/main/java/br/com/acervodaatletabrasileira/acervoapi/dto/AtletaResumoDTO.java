@@ -0,0 +1,27 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+
+/**
+ * Resumo de atleta embutido nos itens do acervo (?expand=atletas)
+ */
+public record AtletaResumoDTO(
+        String id,
+        String nome,
+        String slug,
+
+        /**
+         * publicId (Cloudinary) da foto de perfil
+         */
+        String avatarPublicId
+) {
+
+    public static AtletaResumoDTO fromModel(Atleta atleta) {
+        return new AtletaResumoDTO(
+                atleta.getId(),
+                atleta.getNome(),
+                atleta.getSlug(),
+                atleta.getFotoPerfil() != null ? atleta.getFotoPerfil().getPublicId() : null
+        );
+    }
+}
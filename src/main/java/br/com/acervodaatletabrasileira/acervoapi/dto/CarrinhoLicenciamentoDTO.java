@@ -0,0 +1,17 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import java.util.List;
+
+/**
+ * Licenciamento de vários itens de uma vez (ex: agências).
+ *
+ * Tudo ou nada: se qualquer item for inválido ou estiver bloqueado
+ * juridicamente, nenhum é licenciado.
+ */
+public record CarrinhoLicenciamentoDTO(
+
+        /**
+         * Um item de acervo por proposta (sem repetição)
+         */
+        List<PropostaLicenciamentoDTO> itens
+) {}
@@ -0,0 +1,11 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+/**
+ * Um valor de faceta e quantos itens o possuem
+ * (considerando os filtros aplicados).
+ */
+public record ContagemFacetaDTO(
+        String valor,
+        long total
+) {
+}
@@ -0,0 +1,42 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import java.util.List;
+
+/**
+ * Estatísticas de um cache coalescido (desde o início da instância).
+ *
+ * - acertos: servidos dentro do TTL
+ * - obsoletosServidos: servidos após o TTL enquanto o recálculo rodava
+ * - calculos: execuções reais do cálculo
+ * - compartilhadas: requisições que aguardaram um cálculo já em andamento
+ * - taxaCoalescencia: compartilhadas / (calculos + compartilhadas)
+ */
+public record EstatisticasCacheCoalescidoDTO(
+        String nome,
+        long ttlSegundos,
+        long obsoletoSegundos,
+        long requisicoes,
+        long acertos,
+        long obsoletosServidos,
+        long calculos,
+        long compartilhadas,
+        long falhas,
+        double taxaCoalescencia,
+        List<ChaveDTO> chaves
+) {
+
+    /**
+     * Tempos de cálculo por chave (idadeSegundos nulo → sem valor guardado)
+     */
+    public record ChaveDTO(
+            String chave,
+            long calculos,
+            long compartilhadas,
+            long falhas,
+            double ultimoCalculoMs,
+            double mediaCalculoMs,
+            double maximoCalculoMs,
+            Long idadeSegundos
+    ) {
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+/**
+ * Estatísticas acumuladas de um cache em memória (desde o início da instância).
+ *
+ * - despejos: removidos por limite de tamanho (LRU)
+ * - expiracoes: removidos por TTL
+ * - invalidacoes: removidos por escrita na entidade
+ */
+public record EstatisticasCacheDTO(
+        String nome,
+        long tamanho,
+        long capacidade,
+        long ttlSegundos,
+        long acertos,
+        long falhas,
+        long despejos,
+        long expiracoes,
+        long invalidacoes,
+        double taxaAcerto
+) {
+}
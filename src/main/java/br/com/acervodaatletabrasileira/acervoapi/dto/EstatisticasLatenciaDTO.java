@@ -0,0 +1,24 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+/**
+ * Latência de uma etapa (desde o início da instância).
+ *
+ * - execucoes: concluídas com valor, vazio ou erro
+ * - falhas: execuções que terminaram em erro
+ * - cancelamentos: interrompidas por falha de outra etapa paralela
+ *   (fora das execuções e dos tempos)
+ * - p50/p95/p99: sobre as execuções mais recentes
+ */
+public record EstatisticasLatenciaDTO(
+        String etapa,
+        long execucoes,
+        long falhas,
+        long cancelamentos,
+        double ultimaMs,
+        double mediaMs,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maximoMs
+) {
+}
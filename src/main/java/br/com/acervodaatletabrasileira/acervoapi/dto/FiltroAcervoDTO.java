@@ -0,0 +1,21 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+
+/**
+ * Filtros da pesquisa facetada no acervo.
+ * Campos nulos não restringem o resultado.
+ */
+public record FiltroAcervoDTO(
+        TipoItemAcervo tipo,
+        String modalidadeId,
+        String atletaId,
+        StatusItemAcervo status,
+
+        /**
+         * Era, em décadas (ex: 1920, 2000)
+         */
+        Integer decada
+) {
+}
@@ -0,0 +1,62 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO enxuto ("card") para grades e listagens públicas do acervo.
+ *
+ * Não carrega descrição, restrições de uso nem a lista completa de fotos:
+ * apenas a capa (foto de destaque ou, na falta dela, a primeira foto).
+ * O detalhe completo continua em ItemAcervoResponseDTO (/acervo/{id}).
+ */
+public record ItemAcervoCardDTO(
+
+        String id,
+        String titulo,
+
+        // Tipificação e status
+        TipoItemAcervo tipo,
+        StatusItemAcervo status,
+        Boolean itemHistorico,
+        Boolean disponivelParaLicenciamento,
+
+        /**
+         * Direitos liberam o licenciamento (resumo jurídico do item;
+         * null enquanto o resumo não foi calculado)
+         */
+        Boolean direitosLicenciaveis,
+
+        // Relacionamentos
+        String modalidadeId,
+        List<String> atletasIds,
+
+        /**
+         * Foto de capa (null quando o item não possui fotos)
+         */
+        FotoDTO capa,
+
+        Instant atualizadoEm,
+
+        /**
+         * Resumos embutidos sob demanda (?expand=atletas,modalidade);
+         * omitidos quando não solicitados
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<AtletaResumoDTO> atletas,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        ModalidadeResumoDTO modalidade
+) {
+
+    public ItemAcervoCardDTO comResumos(List<AtletaResumoDTO> atletas, ModalidadeResumoDTO modalidade) {
+        return new ItemAcervoCardDTO(
+                id, titulo, tipo, status, itemHistorico, disponivelParaLicenciamento, direitosLicenciaveis,
+                modalidadeId, atletasIds, capa, atualizadoEm,
+                atletas, modalidade
+        );
+    }
+}
@@ -2,6 +2,7 @@ package br.com.acervodaatletabrasileira.acervoapi.dto;
 
 import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
 import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -52,6 +53,24 @@ public record ItemAcervoResponseDTO(
 
         // Auditoria
         Instant criadoEm,
-        Instant atualizadoEm
+        Instant atualizadoEm,
+
+        /**
+         * Resumos embutidos sob demanda (?expand=atletas,modalidade);
+         * omitidos quando não solicitados
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<AtletaResumoDTO> atletas,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        ModalidadeResumoDTO modalidade
 ) {
+
+    public ItemAcervoResponseDTO comResumos(List<AtletaResumoDTO> atletas, ModalidadeResumoDTO modalidade) {
+        return new ItemAcervoResponseDTO(
+                id, titulo, descricao, local, dataOriginal, procedencia, tipo, status,
+                precoBaseLicenciamento, disponivelParaLicenciamento, itemHistorico,
+                modalidadeId, atletasIds, fotos, criadoEm, atualizadoEm,
+                atletas, modalidade
+        );
+    }
 }
@@ -0,0 +1,38 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Corpo dos endpoints de busca em lote (POST .../batch).
+ *
+ * A resposta é um mapa id → recurso; ids inexistentes ou não públicos
+ * são omitidos (mesma regra de visibilidade do GET individual).
+ */
+public record LoteIdsDTO(
+        List<String> ids
+) {
+
+    public static final int MAXIMO_IDS = 300;
+
+    /**
+     * Ids distintos e não vazios, na ordem recebida
+     */
+    public Set<String> idsNormalizados() {
+        Set<String> distintos = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .forEach(distintos::add);
+        }
+
+        if (distintos.size() > MAXIMO_IDS) {
+            throw new IllegalArgumentException("Máximo de " + MAXIMO_IDS + " ids por requisição");
+        }
+        return distintos;
+    }
+}
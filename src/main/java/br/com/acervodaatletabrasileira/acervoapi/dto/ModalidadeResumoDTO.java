@@ -0,0 +1,27 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Modalidade;
+
+/**
+ * Resumo de modalidade embutido nos itens do acervo (?expand=modalidade)
+ */
+public record ModalidadeResumoDTO(
+        String id,
+        String nome,
+        String slug,
+
+        /**
+         * publicId (Cloudinary) da foto de destaque
+         */
+        String fotoDestaquePublicId
+) {
+
+    public static ModalidadeResumoDTO fromModel(Modalidade modalidade) {
+        return new ModalidadeResumoDTO(
+                modalidade.getId(),
+                modalidade.getNome(),
+                modalidade.getSlug(),
+                modalidade.getFotoDestaquePublicId()
+        );
+    }
+}
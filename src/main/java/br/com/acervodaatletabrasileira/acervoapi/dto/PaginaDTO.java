@@ -0,0 +1,23 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados paginada por cursor (keyset).
+ *
+ * - itens: conteúdo da página
+ * - proximoCursor: token opaco para a próxima página (null = última página)
+ */
+public record PaginaDTO<T>(
+        List<T> itens,
+        String proximoCursor
+) {
+
+    public <R> PaginaDTO<R> map(Function<T, R> conversor) {
+        return new PaginaDTO<>(
+                itens.stream().map(conversor).toList(),
+                proximoCursor
+        );
+    }
+}
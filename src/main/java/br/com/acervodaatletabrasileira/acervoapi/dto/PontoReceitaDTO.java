@@ -0,0 +1,18 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Schema(description = "Receita de um período da série (zerada quando não houve transações)")
+public record PontoReceitaDTO(
+        @Schema(description = "Primeiro dia do período")
+        LocalDate inicio,
+
+        long transacoes,
+        BigDecimal faturamentoBruto,
+        BigDecimal comissoesPlataforma,
+        BigDecimal repassesAtletas
+) {
+}
@@ -0,0 +1,36 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Recibo consolidado de um carrinho efetivado.
+ *
+ * pedidoId também é gravado em cada transação e licenciamento gerados.
+ */
+public record ReciboCarrinhoDTO(
+        String pedidoId,
+        Instant dataTransacao,
+        int quantidadeItens,
+        BigDecimal valorTotal,
+        BigDecimal repasseAtletas,
+        BigDecimal comissaoPlataforma,
+        List<ItemReciboDTO> itens
+) {
+
+    public record ItemReciboDTO(
+            String itemAcervoId,
+            String itemTitulo,
+            String atletaId,
+            String tipoUso,
+            String transacaoId,
+            String licenciamentoId,
+            String documentoDireitosId,
+            BigDecimal valorTotal,
+            BigDecimal repasseAtleta,
+            BigDecimal comissaoPlataforma,
+            Instant validoAte
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Página de resultados + contagens por faceta, obtidas na mesma consulta.
+ *
+ * - pagina: itens filtrados, paginados por cursor
+ * - facetas: nome da faceta → valores mais frequentes (ordem decrescente de total)
+ */
+public record ResultadoFacetadoDTO<T>(
+        PaginaDTO<T> pagina,
+        Map<String, List<ContagemFacetaDTO>> facetas
+) {
+
+    public <R> ResultadoFacetadoDTO<R> map(Function<T, R> conversor) {
+        return new ResultadoFacetadoDTO<>(pagina.map(conversor), facetas);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.acervodaatletabrasileira.acervoapi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Série temporal de receita, um ponto por período, em ordem cronológica")
+public record SerieReceitaDTO(
+        String granularidade,
+        String dimensao,
+        String chave,
+        List<PontoReceitaDTO> pontos
+) {
+}
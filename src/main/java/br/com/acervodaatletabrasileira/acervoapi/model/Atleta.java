@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -16,6 +18,11 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "atletas")
+@CompoundIndexes({
+        // Listagem pública paginada por cursor, com e sem filtro de categoria
+        @CompoundIndex(name = "categoria_nome_id", def = "{'categoria': 1, 'nome': 1, '_id': 1}"),
+        @CompoundIndex(name = "nome_id", def = "{'nome': 1, '_id': 1}")
+})
 public class Atleta {
 
     @Id
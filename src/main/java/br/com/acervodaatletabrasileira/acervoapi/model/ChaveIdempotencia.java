@@ -0,0 +1,60 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Registro de uma requisição feita com Idempotency-Key.
+ *
+ * A primeira requisição reserva a chave (EM_ANDAMENTO); ao concluir,
+ * a resposta é guardada e repetições com a mesma chave a recebem de
+ * volta sem executar a operação de novo.
+ *
+ * Removido automaticamente pelo índice TTL em expiraEm.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "chaves_idempotencia")
+public class ChaveIdempotencia {
+
+    /**
+     * escopo (operação + usuário) | chave enviada pelo cliente
+     */
+    @Id
+    private String id;
+
+    /**
+     * SHA-256 do corpo da requisição: a mesma chave com outro corpo é recusada
+     */
+    private String impressao;
+
+    private Status status;
+
+    /**
+     * Token da execução que detém a reserva; só ela conclui ou libera a chave
+     */
+    private String dono;
+
+    /**
+     * Resposta serializada (JSON), presente quando CONCLUIDA
+     */
+    private String resposta;
+
+    private Instant criadaEm;
+    private Instant concluidaEm;
+
+    @Indexed(expireAfter = "0s")
+    private Instant expiraEm;
+
+    public enum Status {
+        EM_ANDAMENTO,
+        CONCLUIDA
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Recorte dos agregados de receita: plataforma inteira ou
+ * por atleta, tipo de licença e item.
+ */
+public enum DimensaoReceita {
+
+    GLOBAL(null, transacao -> ""),
+    ATLETA("atletaId", Transacao::getAtletaId),
+    TIPO_LICENCA("tipoLicenca", Transacao::getTipoLicenca),
+    ITEM("itemId", Transacao::getItemId);
+
+    /**
+     * Campo de Transacao que fornece a chave (nulo no GLOBAL)
+     */
+    private final String campo;
+    private final Function<Transacao, String> chave;
+
+    DimensaoReceita(String campo, Function<Transacao, String> chave) {
+        this.campo = campo;
+        this.chave = chave;
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    /**
+     * Chave do agregado para a transação; nula quando a transação
+     * não tem o campo (não entra nesse recorte)
+     */
+    public String chaveDe(Transacao transacao) {
+        String valor = chave.apply(transacao);
+        if (this == GLOBAL) {
+            return "";
+        }
+        return valor == null || valor.isEmpty() ? null : valor;
+    }
+
+    public static DimensaoReceita deNome(String nome) {
+        if (nome == null || nome.isBlank()) {
+            return GLOBAL;
+        }
+        try {
+            return valueOf(nome.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Dimensão inválida: " + nome + " (GLOBAL, ATLETA, TIPO_LICENCA ou ITEM)");
+        }
+    }
+}
@@ -181,8 +181,12 @@ public class DocumentoDireitos {
      * Regra central de autorização para licenciamento
      */
     public boolean permiteLicenciamento() {
+        return permiteLicenciamento(Instant.now());
+    }
+
+    public boolean permiteLicenciamento(Instant agora) {
         return Boolean.TRUE.equals(permiteUsoComercial)
                 && status == StatusDocumentoDireitos.VALIDADO
-                && (validoAte == null || validoAte.isAfter(Instant.now()));
+                && (validoAte == null || validoAte.isAfter(agora));
     }
 }
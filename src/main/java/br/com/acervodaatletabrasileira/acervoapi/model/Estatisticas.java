@@ -0,0 +1,145 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estatísticas materializadas dos dashboards.
+ *
+ * - "global": acervo inteiro (o financeiro da plataforma fica em receita_periodos)
+ * - "atleta:{id}": itens vinculados à atleta + repasses
+ *
+ * Mantidas por $inc atômico nos caminhos de escrita (item e transação)
+ * e conferidas periodicamente contra um recálculo completo.
+ * Valores monetários em Decimal128, para que o $inc seja numérico.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "estatisticas")
+public class Estatisticas {
+
+    public static final String ID_GLOBAL = "global";
+    public static final String PREFIXO_ATLETA = "atleta:";
+
+    @Id
+    private String id;
+
+    /**
+     * Preenchido apenas nos documentos por atleta
+     */
+    private String atletaId;
+
+    /* =====================================================
+       ACERVO
+       ===================================================== */
+
+    private long totalItens;
+
+    private Map<String, Long> itensPorStatus = new HashMap<>();
+
+    /**
+     * Apenas no documento global
+     */
+    private Map<String, Long> itensPorTipo = new HashMap<>();
+    private Map<String, Long> itensPorModalidade = new HashMap<>();
+
+    /* =====================================================
+       FINANCEIRO (apenas nos documentos por atleta)
+       ===================================================== */
+
+    private long totalTransacoes;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal faturamentoBruto = BigDecimal.ZERO;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal repassesAtletas = BigDecimal.ZERO;
+
+    /* =====================================================
+       AUDITORIA
+       ===================================================== */
+
+    /**
+     * Incrementada a cada $inc: o reparo só sobrescreve o documento
+     * se nenhum incremento chegou desde a leitura (troca otimista).
+     */
+    private long versao;
+
+    private Instant atualizadoEm;
+
+    /**
+     * Última vez em que o recálculo completo corrigiu um desvio
+     */
+    private Instant reparadoEm;
+
+    public static String idAtleta(String atletaId) {
+        return PREFIXO_ATLETA + atletaId;
+    }
+
+    /**
+     * Documento zerado (ex: atleta sem itens nem transações)
+     */
+    public static Estatisticas vazia(String id) {
+        Estatisticas estatisticas = new Estatisticas();
+        estatisticas.setId(id);
+        if (id.startsWith(PREFIXO_ATLETA)) {
+            estatisticas.setAtletaId(id.substring(PREFIXO_ATLETA.length()));
+        }
+        return estatisticas;
+    }
+
+    /**
+     * Chaves dos mapas viram nomes de campo no MongoDB
+     */
+    public static boolean chaveValida(String chave) {
+        return chave != null && !chave.isBlank() && !chave.contains(".") && !chave.startsWith("$");
+    }
+
+    public long itensComStatus(StatusItemAcervo status) {
+        return itensPorStatus == null ? 0L : itensPorStatus.getOrDefault(status.name(), 0L);
+    }
+
+    /**
+     * Compara apenas os contadores e totais (ignora auditoria,
+     * chaves zeradas e escala dos decimais).
+     */
+    public boolean mesmosValores(Estatisticas outra) {
+        return totalItens == outra.totalItens
+                && totalTransacoes == outra.totalTransacoes
+                && semZeros(itensPorStatus).equals(semZeros(outra.itensPorStatus))
+                && semZeros(itensPorTipo).equals(semZeros(outra.itensPorTipo))
+                && semZeros(itensPorModalidade).equals(semZeros(outra.itensPorModalidade))
+                && mesmoValor(faturamentoBruto, outra.faturamentoBruto)
+                && mesmoValor(repassesAtletas, outra.repassesAtletas);
+    }
+
+    private static Map<String, Long> semZeros(Map<String, Long> contagens) {
+        Map<String, Long> filtrado = new HashMap<>();
+        if (contagens != null) {
+            contagens.forEach((chave, valor) -> {
+                if (valor != null && valor != 0L) {
+                    filtrado.put(chave, valor);
+                }
+            });
+        }
+        return filtrado;
+    }
+
+    private static boolean mesmoValor(BigDecimal a, BigDecimal b) {
+        BigDecimal x = Objects.requireNonNullElse(a, BigDecimal.ZERO);
+        BigDecimal y = Objects.requireNonNullElse(b, BigDecimal.ZERO);
+        return x.compareTo(y) == 0;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Relacionamentos que podem ser embutidos nas respostas do acervo
+ * (?expand=atletas,modalidade).
+ */
+public enum ExpansaoAcervo {
+
+    ATLETAS("atletas"),
+    MODALIDADE("modalidade");
+
+    private final String nome;
+
+    ExpansaoAcervo(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public static ExpansaoAcervo deNome(String nome) {
+        String normalizado = nome == null ? "" : nome.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(expansao -> expansao.nome.equals(normalizado))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Expansão inválida: " + nome));
+    }
+
+    /**
+     * Parâmetro ausente ou vazio → nenhuma expansão
+     */
+    public static Set<ExpansaoAcervo> deNomes(Collection<String> nomes) {
+        Set<ExpansaoAcervo> expansoes = EnumSet.noneOf(ExpansaoAcervo.class);
+        if (nomes != null) {
+            nomes.stream()
+                    .filter(nome -> nome != null && !nome.isBlank())
+                    .map(ExpansaoAcervo::deNome)
+                    .forEach(expansoes::add);
+        }
+        return expansoes;
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Dimensões de faceta da pesquisa no acervo.
+ *
+ * - nome: como a faceta aparece na API (?facetas=tipo,era)
+ * - campo: campo do documento em itens_acervo
+ * - multivalorado: campo array (exige $unwind antes da contagem)
+ */
+public enum FacetaAcervo {
+
+    TIPO("tipo", "tipo", false),
+    MODALIDADE("modalidade", "modalidadeId", false),
+    ATLETA("atleta", "atletasIds", true),
+    STATUS("status", "status", false),
+    ERA("era", "decada", false);
+
+    private final String nome;
+    private final String campo;
+    private final boolean multivalorado;
+
+    FacetaAcervo(String nome, String campo, boolean multivalorado) {
+        this.nome = nome;
+        this.campo = campo;
+        this.multivalorado = multivalorado;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    public boolean isMultivalorado() {
+        return multivalorado;
+    }
+
+    public static FacetaAcervo deNome(String nome) {
+        String normalizado = nome == null ? "" : nome.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(faceta -> faceta.nome.equals(normalizado))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Faceta inválida: " + nome));
+    }
+}
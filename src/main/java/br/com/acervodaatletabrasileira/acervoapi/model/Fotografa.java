@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -15,6 +17,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "fotografas")
+@CompoundIndexes({
+        // Listagem pública paginada por cursor, com e sem filtro de categoria
+        @CompoundIndex(name = "status_categoria_nome_id", def = "{'statusFotografa': 1, 'categoria': 1, 'nome': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_nome_id", def = "{'statusFotografa': 1, 'nome': 1, '_id': 1}")
+})
 public class Fotografa {
 
     /* =====================================================
@@ -0,0 +1,73 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Tamanho do período dos agregados de receita.
+ *
+ * Cada período é identificado pela data do seu primeiro dia (yyyy-MM-dd),
+ * no fuso configurado em app.receita.fuso.
+ */
+public enum GranularidadeReceita {
+
+    DIA("day", ChronoUnit.DAYS, 30),
+    MES("month", ChronoUnit.MONTHS, 12),
+    ANO("year", ChronoUnit.YEARS, 10);
+
+    /**
+     * Unidade equivalente no $dateTrunc do MongoDB
+     */
+    private final String unidadeMongo;
+    private final ChronoUnit unidade;
+
+    /**
+     * Períodos devolvidos quando o intervalo não é informado
+     */
+    private final int periodosPadrao;
+
+    GranularidadeReceita(String unidadeMongo, ChronoUnit unidade, int periodosPadrao) {
+        this.unidadeMongo = unidadeMongo;
+        this.unidade = unidade;
+        this.periodosPadrao = periodosPadrao;
+    }
+
+    public String getUnidadeMongo() {
+        return unidadeMongo;
+    }
+
+    public int getPeriodosPadrao() {
+        return periodosPadrao;
+    }
+
+    public LocalDate inicioDoPeriodo(LocalDate data) {
+        return switch (this) {
+            case DIA -> data;
+            case MES -> data.withDayOfMonth(1);
+            case ANO -> data.withDayOfYear(1);
+        };
+    }
+
+    public LocalDate somar(LocalDate inicio, long periodos) {
+        return inicio.plus(periodos, unidade);
+    }
+
+    /**
+     * Quantidade de períodos entre dois inícios (inclusive)
+     */
+    public long periodosEntre(LocalDate inicio, LocalDate fim) {
+        return unidade.between(inicio, fim) + 1;
+    }
+
+    public static GranularidadeReceita deNome(String nome) {
+        if (nome == null || nome.isBlank()) {
+            return MES;
+        }
+        try {
+            return valueOf(nome.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Granularidade inválida: " + nome + " (DIA, MES ou ANO)");
+        }
+    }
+}
@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -13,11 +16,31 @@ import java.util.List;
 /**
  * Representa um ativo do Acervo da Atleta Brasileira.
  * Suporta preservação histórica, curadoria editorial e licenciamento comercial.
+ *
+ * Busca textual: índice de texto único da coleção (idioma português,
+ * com radicalização e sem distinção de acentos/maiúsculas) sobre os
+ * campos marcados com @TextIndexed.
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(collection = "itens_acervo")
+@Document(collection = "itens_acervo", language = "portuguese")
+@CompoundIndexes({
+        // Paginação por cursor: catálogo público e listagem admin
+        @CompoundIndex(name = "status_atualizado_id", def = "{'status': 1, 'atualizadoEm': -1, '_id': -1}"),
+        // Paginação por cursor: itens públicos de uma atleta
+        @CompoundIndex(name = "atletas_status_atualizado_id", def = "{'atletasIds': 1, 'status': 1, 'atualizadoEm': -1, '_id': -1}"),
+        // Paginação por cursor: itens públicos de uma modalidade
+        @CompoundIndex(name = "modalidade_status_atualizado_id", def = "{'modalidadeId': 1, 'status': 1, 'atualizadoEm': -1, '_id': -1}"),
+        // Marketplace: findByDisponivelParaLicenciamentoTrueAndStatus
+        @CompoundIndex(name = "licenciavel_status", def = "{'disponivelParaLicenciamento': 1, 'status': 1}"),
+        // Memorial / pesquisa: findByItemHistoricoTrue, findByStatusInAndItemHistoricoFalse
+        @CompoundIndex(name = "historico_status", def = "{'itemHistorico': 1, 'status': 1}"),
+        // Agrupamentos e filtros por tipo (dashboard, facetas)
+        @CompoundIndex(name = "tipo_status", def = "{'tipo': 1, 'status': 1}"),
+        // Filtro por era na pesquisa facetada
+        @CompoundIndex(name = "decada_status", def = "{'decada': 1, 'status': 1}")
+})
 public class ItemAcervo {
 
     @Id
@@ -27,8 +50,13 @@ public class ItemAcervo {
        IDENTIDADE EDITORIAL / HISTÓRICA
        ===================================================== */
 
+    @TextIndexed(weight = 10)
     private String titulo;
+
+    @TextIndexed(weight = 2)
     private String descricao;
+
+    @TextIndexed
     private String local;
 
     /**
@@ -36,6 +64,12 @@ public class ItemAcervo {
      */
     private String dataOriginal;
 
+    /**
+     * Década derivada de dataOriginal (ex: "Junho de 2004" → 2000).
+     * Usada como "era" na pesquisa facetada; null quando não há ano na data.
+     */
+    private Integer decada;
+
     /* =====================================================
        PROCEDÊNCIA E CRÉDITOS
        ===================================================== */
@@ -43,12 +77,14 @@ public class ItemAcervo {
     /**
      * Origem do material (ex: "Acervo pessoal", "Domínio Público", "Arquivo Institucional")
      */
+    @TextIndexed
     private String procedencia;
 
     /**
      * Crédito autoral exibível publicamente
      * (nome livre, não depende de entidade interna)
      */
+    @TextIndexed
     private String creditoAutoral;
 
     /**
@@ -75,6 +111,14 @@ public class ItemAcervo {
      */
     private List<String> atletasIds;
 
+    /**
+     * Nomes das atletas e da modalidade vinculadas (desnormalizado).
+     * Existe apenas para a busca textual; mantido pelo ItemAcervoService
+     * na gravação do item e quando um nome de atleta/modalidade muda.
+     */
+    @TextIndexed(weight = 5)
+    private List<String> nomesRelacionados;
+
     /* =====================================================
        CONTROLE DE LICENCIAMENTO
        ===================================================== */
@@ -117,6 +161,12 @@ public class ItemAcervo {
      */
     private String documentoDireitosId;
 
+    /**
+     * Resumo dos documentos de direitos do item, mantido pelo
+     * ResumoDireitosService (não editável pela API de itens)
+     */
+    private ResumoDireitos resumoDireitos;
+
     /* =====================================================
        ARQUIVOS DIGITAIS
        ===================================================== */
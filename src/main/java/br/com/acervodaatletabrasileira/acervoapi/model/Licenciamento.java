@@ -44,6 +44,18 @@ public class Licenciamento {
     @Indexed
     private String documentoDireitosId;
 
+    /**
+     * Carrinho que gerou o licenciamento
+     * (mesmo pedidoId das transações do carrinho)
+     */
+    @Indexed(sparse = true)
+    private String pedidoId;
+
+    /**
+     * Transação financeira correspondente
+     */
+    private String transacaoId;
+
     /* =====================================================
        REGRAS DO USO LICENCIADO
        ===================================================== */
@@ -0,0 +1,67 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Receita pré-agregada de um período (dia, mês ou ano) em um recorte
+ * (global, atleta, tipo de licença ou item).
+ *
+ * Atualizada por $inc a cada transação salva e reconstruída a partir
+ * de transacoes pelo backfill. id = granularidade|periodo|dimensao|chave.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "receita_periodos")
+@CompoundIndex(name = "serie", def = "{'dimensao': 1, 'chave': 1, 'granularidade': 1, 'periodo': 1}")
+public class ReceitaPeriodo {
+
+    @Id
+    private String id;
+
+    private GranularidadeReceita granularidade;
+
+    /**
+     * Primeiro dia do período (yyyy-MM-dd): ordena e filtra como texto
+     */
+    private String periodo;
+
+    private DimensaoReceita dimensao;
+
+    /**
+     * Vazia no recorte GLOBAL
+     */
+    private String chave;
+
+    private long transacoes;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal faturamentoBruto = BigDecimal.ZERO;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal comissoesPlataforma = BigDecimal.ZERO;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal repassesAtletas = BigDecimal.ZERO;
+
+    private Instant atualizadoEm;
+
+    public static String idDe(
+            GranularidadeReceita granularidade,
+            String periodo,
+            DimensaoReceita dimensao,
+            String chave
+    ) {
+        return granularidade.name() + "|" + periodo + "|" + dimensao.name() + "|" + chave;
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.Indexed;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Resumo jurídico desnormalizado no item (itens_acervo.resumoDireitos).
+ *
+ * Derivado dos DocumentoDireitos do item que hoje autorizam licenciamento
+ * (DocumentoDireitos.permiteLicenciamento). Recalculado a cada escrita de
+ * documento; um verificador periódico compara com a fonte.
+ *
+ * O resumo só vale até proximaExpiracao (o primeiro documento a vencer):
+ * depois disso a leitura volta aos documentos até o recálculo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoDireitos {
+
+    private Boolean licenciavel;
+
+    /**
+     * União das finalidades dos documentos válidos
+     * (documento sem restrição → todas)
+     */
+    private List<DocumentoDireitos.FinalidadeUso> finalidadesPermitidas;
+
+    /**
+     * União dos territórios dos documentos válidos
+     * (documento sem restrição → todos)
+     */
+    private List<DocumentoDireitos.TerritorioUso> territoriosPermitidos;
+
+    /**
+     * Menor validoAte entre os documentos válidos (nulo → nenhum vence)
+     */
+    @Indexed(sparse = true)
+    private Instant proximaExpiracao;
+
+    /**
+     * Documentos que autorizam o licenciamento (ordenados)
+     */
+    private List<String> documentosIds;
+
+    /**
+     * Início da leitura dos documentos que originou o resumo;
+     * um resumo nunca é sobrescrito por outro calculado antes
+     */
+    private Instant calculadoEm;
+
+    /* =====================================================
+       CÁLCULO
+       ===================================================== */
+
+    public static ResumoDireitos de(Collection<DocumentoDireitos> documentos, Instant calculadoEm) {
+        Set<DocumentoDireitos.FinalidadeUso> finalidades = EnumSet.noneOf(DocumentoDireitos.FinalidadeUso.class);
+        Set<DocumentoDireitos.TerritorioUso> territorios = EnumSet.noneOf(DocumentoDireitos.TerritorioUso.class);
+        Instant proximaExpiracao = null;
+
+        List<DocumentoDireitos> validos = documentos.stream()
+                .filter(doc -> doc.permiteLicenciamento(calculadoEm))
+                .toList();
+
+        for (DocumentoDireitos doc : validos) {
+            if (doc.getFinalidadesPermitidas() == null) {
+                finalidades.addAll(EnumSet.allOf(DocumentoDireitos.FinalidadeUso.class));
+            } else {
+                doc.getFinalidadesPermitidas().stream().filter(Objects::nonNull).forEach(finalidades::add);
+            }
+
+            if (doc.getTerritoriosPermitidos() == null) {
+                territorios.addAll(EnumSet.allOf(DocumentoDireitos.TerritorioUso.class));
+            } else {
+                doc.getTerritoriosPermitidos().stream().filter(Objects::nonNull).forEach(territorios::add);
+            }
+
+            if (doc.getValidoAte() != null
+                    && (proximaExpiracao == null || doc.getValidoAte().isBefore(proximaExpiracao))) {
+                proximaExpiracao = doc.getValidoAte();
+            }
+        }
+
+        return new ResumoDireitos(
+                !validos.isEmpty(),
+                List.copyOf(finalidades),
+                List.copyOf(territorios),
+                proximaExpiracao,
+                validos.stream().map(DocumentoDireitos::getId).filter(Objects::nonNull).sorted().toList(),
+                calculadoEm
+        );
+    }
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    /**
+     * Nenhum documento considerado venceu desde o cálculo
+     */
+    public boolean vigenteEm(Instant agora) {
+        return proximaExpiracao == null || proximaExpiracao.isAfter(agora);
+    }
+
+    /**
+     * Conservador: resumo vencido conta como não licenciável
+     * (use vigenteEm para decidir se é preciso consultar os documentos)
+     */
+    public boolean licenciavelEm(Instant agora) {
+        return Boolean.TRUE.equals(licenciavel) && vigenteEm(agora);
+    }
+
+    public boolean permiteFinalidade(DocumentoDireitos.FinalidadeUso finalidade) {
+        return Boolean.TRUE.equals(licenciavel)
+                && finalidadesPermitidas != null
+                && finalidadesPermitidas.contains(finalidade);
+    }
+
+    public boolean permiteTerritorio(DocumentoDireitos.TerritorioUso territorio) {
+        return Boolean.TRUE.equals(licenciavel)
+                && territoriosPermitidos != null
+                && territoriosPermitidos.contains(territorio);
+    }
+
+    /**
+     * Mesmo conteúdo, ignorando calculadoEm (usado pelo verificador)
+     */
+    public boolean mesmoConteudo(ResumoDireitos outro) {
+        return outro != null
+                && Objects.equals(licenciavel, outro.licenciavel)
+                && Objects.equals(conjunto(finalidadesPermitidas), conjunto(outro.finalidadesPermitidas))
+                && Objects.equals(conjunto(territoriosPermitidos), conjunto(outro.territoriosPermitidos))
+                && Objects.equals(proximaExpiracao, outro.proximaExpiracao)
+                && Objects.equals(conjunto(documentosIds), conjunto(outro.documentosIds));
+    }
+
+    private static <T> Set<T> conjunto(List<T> valores) {
+        return valores == null ? Set.of() : Set.copyOf(valores);
+    }
+}
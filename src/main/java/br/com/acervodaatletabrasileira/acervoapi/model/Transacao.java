@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -13,6 +15,8 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "transacoes")
+// Extrato e dashboard da atleta: filtro + soma de repasse só com o índice
+@CompoundIndex(name = "atleta_repasse", def = "{'atletaId': 1, 'valorLiquidoRepasse': 1}")
 public class Transacao {
 
     @Id
@@ -22,6 +26,9 @@ public class Transacao {
     private String atletaId;
     private String compradorId; // ID do usuário/empresa que licenciou
 
+    @Indexed(sparse = true)
+    private String pedidoId;    // Carrinho que gerou a transação (nulo na efetivação avulsa)
+
     private BigDecimal valorBrutoTotal;
     private BigDecimal percentualComissao;      // Ex: 20.00
     private BigDecimal valorComissaoPlataforma; // Valor que fica com o acervo
@@ -8,7 +8,7 @@ import reactor.core.publisher.Mono;
 
 @Repository
 public interface AtletaRepository
-        extends ReactiveMongoRepository<Atleta, String> {
+        extends ReactiveMongoRepository<Atleta, String>, AtletaRepositoryCustom {
 
     /**
      * Busca uma atleta pelo e-mail.
@@ -0,0 +1,62 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Consultas de atletas que não cabem em métodos derivados
+ * (agregações e projeções públicas).
+ *
+ * Documentos devolvidos aqui são parciais: apenas os campos
+ * usados por AtletaPublicoDTO (sem senha, CPF ou dados bancários).
+ */
+public interface AtletaRepositoryCustom {
+
+    /**
+     * Listagem pública ordenada por nome, paginada por cursor
+     * (categoria nula = todas).
+     */
+    Mono<PaginaDTO<Atleta>> paginarPublicas(Atleta.CategoriaAtleta categoria, String cursor, int tamanho);
+
+    /**
+     * Mesma listagem, sem paginação (NDJSON / SSE)
+     */
+    Flux<Atleta> transmitirPublicas(Atleta.CategoriaAtleta categoria);
+
+    /**
+     * Busca em lote por id ($in), com a mesma projeção pública
+     */
+    Flux<Atleta> buscarPublicasPorIds(Collection<String> ids);
+
+    /**
+     * Id da atleta a partir do id ou do e-mail, numa única consulta
+     * (apenas _id trafega)
+     */
+    Mono<String> resolverId(String identificador);
+
+    /**
+     * Perfil público "combo" em uma única agregação:
+     * atleta + primeira página de cards do acervo + totais por tipo,
+     * considerando apenas os status informados.
+     */
+    Mono<PerfilAgregado> buscarPerfilAgregado(
+            String slug,
+            Collection<StatusItemAcervo> statuses,
+            int tamanhoPagina
+    );
+
+    record PerfilAgregado(
+            Atleta atleta,
+            PaginaDTO<ItemAcervo> acervo,
+            Map<TipoItemAcervo, Long> totaisPorTipo
+    ) {
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class AtletaRepositoryCustomImpl implements AtletaRepositoryCustom {
+
+    /**
+     * Campos lidos por AtletaPublicoDTO.fromModel (+ atualizadoEm para versão/ETag).
+     * Senha, CPF e dados bancários nunca saem do banco nas leituras públicas.
+     */
+    static final String[] CAMPOS_PUBLICOS = {
+            "nome",
+            "nomeSocial",
+            "slug",
+            "modalidadesIds",
+            "biografia",
+            "categoria",
+            "statusVerificacao",
+            "fotoDestaque",
+            "fotoDestaqueUrl",
+            "fotoPerfil",
+            "statusAtleta",
+            "atualizadoEm"
+    };
+
+    private static final String COLECAO_ITENS = "itens_acervo";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public AtletaRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /* =====================================================
+       LISTAGEM PÚBLICA
+       ===================================================== */
+
+    /**
+     * Índices categoria_nome_id / nome_id.
+     * Cursor inválido → Mono.error(CursorInvalidoException).
+     */
+    @Override
+    public Mono<PaginaDTO<Atleta>> paginarPublicas(Atleta.CategoriaAtleta categoria, String cursor, int tamanho) {
+        return PaginacaoPorNome.paginar(
+                cursor,
+                tamanho,
+                keyset -> mongoTemplate.find(consultaPublica(categoria, keyset).limit(tamanho + 1), Atleta.class),
+                Atleta::getNome,
+                Atleta::getId
+        );
+    }
+
+    @Override
+    public Flux<Atleta> transmitirPublicas(Atleta.CategoriaAtleta categoria) {
+        return mongoTemplate.find(consultaPublica(categoria, null), Atleta.class);
+    }
+
+    @Override
+    public Flux<Atleta> buscarPublicasPorIds(Collection<String> ids) {
+        Query query = new Query(Criteria.where("id").in(ids));
+        query.fields().include(CAMPOS_PUBLICOS);
+        return mongoTemplate.find(query, Atleta.class);
+    }
+
+    @Override
+    public Mono<String> resolverId(String identificador) {
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where("id").is(identificador),
+                Criteria.where("email").is(identificador)
+        ));
+        query.fields().include("id");
+        return mongoTemplate.findOne(query.limit(1), Atleta.class).map(Atleta::getId);
+    }
+
+    /**
+     * filtro (categoria) + keyset → sort por nome → apenas campos públicos
+     */
+    private Query consultaPublica(Atleta.CategoriaAtleta categoria, Criteria keyset) {
+        Criteria filtro = categoria == null ? null : Criteria.where("categoria").is(categoria);
+        return PaginacaoPorNome.consulta(filtro, keyset, CAMPOS_PUBLICOS);
+    }
+
+    /* =====================================================
+       PERFIL "COMBO"
+       ===================================================== */
+
+    /**
+     * atletas: $match slug → $project público
+     *   → $lookup página (atletasIds + status + sort/limit: índice atletas_status_atualizado_id)
+     *   → $lookup totais ($group por tipo)
+     *
+     * atletasIds guarda o id como texto, daí o $toString do _id
+     * (localField/foreignField com pipeline exige MongoDB 5.0+).
+     */
+    @Override
+    public Mono<PerfilAgregado> buscarPerfilAgregado(
+            String slug,
+            Collection<StatusItemAcervo> statuses,
+            int tamanhoPagina
+    ) {
+        List<String> nomesStatus = statuses.stream().map(Enum::name).toList();
+        Document filtroItens = new Document("$match", new Document("status", new Document("$in", nomesStatus)));
+
+        Document projecao = new Document("idTexto", new Document("$toString", "$_id"));
+        for (String campo : CAMPOS_PUBLICOS) {
+            projecao.append(campo, 1);
+        }
+
+        List<Document> etapasPagina = new ArrayList<>();
+        etapasPagina.add(filtroItens);
+        etapasPagina.addAll(ItemAcervoRepositoryCustomImpl.etapasCardBrutas(tamanhoPagina + 1L));
+
+        List<AggregationOperation> etapas = List.of(
+                Aggregation.match(Criteria.where("slug").is(slug)),
+                Aggregation.limit(1),
+                contexto -> new Document("$project", projecao),
+                contexto -> lookup("pagina", etapasPagina),
+                contexto -> lookup("totais", List.of(
+                        filtroItens,
+                        new Document("$group", new Document("_id", "$tipo").append("total", new Document("$sum", 1)))
+                ))
+        );
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(etapas), "atletas", Document.class)
+                .next()
+                .map(resultado -> {
+                    Atleta atleta = mongoTemplate.getConverter().read(Atleta.class, resultado);
+
+                    List<ItemAcervo> itens = resultado.getList("pagina", Document.class, List.of())
+                            .stream()
+                            .map(documento -> mongoTemplate.getConverter().read(ItemAcervo.class, documento))
+                            .toList();
+
+                    Map<TipoItemAcervo, Long> totais = new EnumMap<>(TipoItemAcervo.class);
+                    for (Document grupo : resultado.getList("totais", Document.class, List.of())) {
+                        if (grupo.get("_id") != null) {
+                            totais.put(
+                                    TipoItemAcervo.valueOf(grupo.getString("_id")),
+                                    ((Number) grupo.get("total")).longValue()
+                            );
+                        }
+                    }
+
+                    return new PerfilAgregado(
+                            atleta,
+                            ItemAcervoRepositoryCustomImpl.paginaDe(itens, tamanhoPagina),
+                            totais
+                    );
+                });
+    }
+
+    private Document lookup(String como, List<Document> pipeline) {
+        return new Document("$lookup", new Document("from", COLECAO_ITENS)
+                .append("localField", "idTexto")
+                .append("foreignField", "atletasIds")
+                .append("pipeline", pipeline)
+                .append("as", como));
+    }
+}
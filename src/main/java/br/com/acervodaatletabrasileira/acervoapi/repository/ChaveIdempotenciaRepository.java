@@ -0,0 +1,8 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ChaveIdempotencia;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ChaveIdempotenciaRepository
+        extends ReactiveMongoRepository<ChaveIdempotencia, String>, ChaveIdempotenciaRepositoryCustom {
+}
@@ -0,0 +1,28 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ChaveIdempotencia;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Operações condicionais sobre a reserva de uma chave de idempotência.
+ * Todas atômicas no documento; nenhuma sobrescreve a reserva de outro dono.
+ */
+public interface ChaveIdempotenciaRepositoryCustom {
+
+    /**
+     * Insere a reserva; false se a chave já existe
+     */
+    Mono<Boolean> reservar(ChaveIdempotencia reserva);
+
+    /**
+     * Grava a resposta e marca CONCLUIDA
+     */
+    Mono<Boolean> concluir(String id, String dono, String resposta, Instant agora, Instant expiraEm);
+
+    /**
+     * Remove a reserva após falha da operação (nova tentativa executa de novo)
+     */
+    Mono<Void> liberar(String id, String dono);
+}
@@ -0,0 +1,50 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ChaveIdempotencia;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public class ChaveIdempotenciaRepositoryCustomImpl implements ChaveIdempotenciaRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ChaveIdempotenciaRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Boolean> reservar(ChaveIdempotencia reserva) {
+        return mongoTemplate.insert(reserva)
+                .thenReturn(true)
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.just(false));
+    }
+
+    @Override
+    public Mono<Boolean> concluir(String id, String dono, String resposta, Instant agora, Instant expiraEm) {
+        Query query = Query.query(Criteria.where("_id").is(id).and("dono").is(dono));
+
+        Update update = new Update()
+                .set("status", ChaveIdempotencia.Status.CONCLUIDA)
+                .set("resposta", resposta)
+                .set("concluidaEm", agora)
+                .set("expiraEm", expiraEm);
+
+        return mongoTemplate.updateFirst(query, update, ChaveIdempotencia.class)
+                .map(resultado -> resultado.getModifiedCount() == 1);
+    }
+
+    @Override
+    public Mono<Void> liberar(String id, String dono) {
+        Query query = Query.query(Criteria.where("_id").is(id)
+                .and("dono").is(dono)
+                .and("status").is(ChaveIdempotencia.Status.EM_ANDAMENTO));
+
+        return mongoTemplate.remove(query, ChaveIdempotencia.class).then();
+    }
+}
@@ -7,6 +7,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.Collection;
 
 @Repository
 public interface DocumentoDireitosRepository
@@ -18,6 +19,8 @@ public interface DocumentoDireitosRepository
 
     Flux<DocumentoDireitos> findByItemAcervoId(String itemAcervoId);
 
+    Flux<DocumentoDireitos> findByItemAcervoIdIn(Collection<String> itemAcervoIds);
+
     Mono<DocumentoDireitos> findByFotoPublicId(String fotoPublicId);
 
     Flux<DocumentoDireitos> findByAtletasIdsContaining(String atletaId);
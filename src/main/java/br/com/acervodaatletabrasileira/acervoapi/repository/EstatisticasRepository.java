@@ -0,0 +1,13 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Estatisticas;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Estatísticas materializadas dos dashboards (global e por atleta).
+ */
+@Repository
+public interface EstatisticasRepository
+        extends ReactiveMongoRepository<Estatisticas, String>, EstatisticasRepositoryCustom {
+}
@@ -0,0 +1,34 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Estatisticas;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Manutenção incremental e recálculo das estatísticas materializadas.
+ */
+public interface EstatisticasRepositoryCustom {
+
+    /**
+     * Aplica os incrementos numa única escrita em lote (upsert + $inc).
+     *
+     * @param incrementos id do documento → (caminho do campo → delta Long ou BigDecimal)
+     */
+    Mono<Void> incrementar(Map<String, Map<String, Number>> incrementos);
+
+    /**
+     * Estatísticas recalculadas do zero a partir de itens_acervo e transacoes
+     * (documento global + um por atleta com itens ou transações)
+     */
+    Flux<Estatisticas> recalcular();
+
+    /**
+     * Substitui o documento apenas se a versão ainda for a lida
+     * (versaoLida nula → insere se ainda não existir).
+     *
+     * @return false quando um incremento concorrente chegou antes
+     */
+    Mono<Boolean> substituirSeVersao(Estatisticas recalculada, Long versaoLida);
+}
@@ -0,0 +1,236 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Estatisticas;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.acervodaatletabrasileira.acervoapi.repository.TransacaoRepositoryCustomImpl.decimal;
+import static br.com.acervodaatletabrasileira.acervoapi.repository.TransacaoRepositoryCustomImpl.paraBigDecimal;
+
+public class EstatisticasRepositoryCustomImpl implements EstatisticasRepositoryCustom {
+
+    private static final String COLECAO = "estatisticas";
+    private static final String COLECAO_ITENS = "itens_acervo";
+    private static final String COLECAO_TRANSACOES = "transacoes";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public EstatisticasRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /* =====================================================
+       INCREMENTOS
+       ===================================================== */
+
+    /**
+     * Um upsert por documento, todos no mesmo lote (sem ordem entre eles).
+     * Documentos inexistentes nascem com os próprios deltas.
+     */
+    @Override
+    public Mono<Void> incrementar(Map<String, Map<String, Number>> incrementos) {
+        if (incrementos.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Instant agora = Instant.now();
+        ReactiveBulkOperations lote = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLECAO);
+
+        incrementos.forEach((id, deltas) -> {
+            Update update = new Update()
+                    .inc("versao", 1L)
+                    .set("atualizadoEm", agora);
+            deltas.forEach((campo, delta) -> update.inc(campo, paraBson(delta)));
+            if (id.startsWith(Estatisticas.PREFIXO_ATLETA)) {
+                update.setOnInsert("atletaId", id.substring(Estatisticas.PREFIXO_ATLETA.length()));
+            }
+            lote.upsert(Query.query(Criteria.where("_id").is(id)), update);
+        });
+
+        return lote.execute().then();
+    }
+
+    /* =====================================================
+       RECÁLCULO COMPLETO
+       ===================================================== */
+
+    /**
+     * Três agregações ($facet / $group) no servidor; a aplicação recebe
+     * uma linha por atleta, nunca os itens ou transações em si.
+     * O financeiro global não é recalculado aqui (fica em receita_periodos).
+     */
+    @Override
+    public Flux<Estatisticas> recalcular() {
+        return Flux.defer(() -> {
+            Map<String, Estatisticas> porId = new LinkedHashMap<>();
+            return recalcular(porId).thenMany(Flux.fromIterable(porId.values()));
+        });
+    }
+
+    private Flux<Document> recalcular(Map<String, Estatisticas> porId) {
+        return contarItensGlobal()
+                .doOnNext(global -> porId.put(global.getId(), global))
+                .thenMany(contarItensPorAtleta())
+                .doOnNext(linha -> preencherItensAtleta(doc(porId, linha.get("_id")), linha))
+                .thenMany(agregar(
+                        COLECAO_TRANSACOES,
+                        contexto -> new Document("$match", new Document("atletaId", new Document("$ne", null))),
+                        totaisTransacoes()
+                ))
+                .doOnNext(linha -> preencherFinanceiro(doc(porId, linha.get("_id")), linha));
+    }
+
+    /**
+     * $facet: status, tipo, modalidade e total numa única passada
+     */
+    private Mono<Estatisticas> contarItensGlobal() {
+        AggregationOperation facetas = contexto -> new Document("$facet", new Document()
+                .append("status", List.of(contagemPor("$status")))
+                .append("tipo", List.of(contagemPor("$tipo")))
+                .append("modalidade", List.of(contagemPor("$modalidadeId")))
+                .append("total", List.of(new Document("$count", "n"))));
+
+        return agregar(COLECAO_ITENS, facetas)
+                .next()
+                .map(resultado -> {
+                    Estatisticas global = Estatisticas.vazia(Estatisticas.ID_GLOBAL);
+                    global.setItensPorStatus(contagens(resultado.getList("status", Document.class)));
+                    global.setItensPorTipo(contagens(resultado.getList("tipo", Document.class)));
+                    global.setItensPorModalidade(contagens(resultado.getList("modalidade", Document.class)));
+                    global.setTotalItens(resultado.getList("total", Document.class)
+                            .stream()
+                            .mapToLong(linha -> numero(linha.get("n")))
+                            .sum());
+                    return global;
+                })
+                .defaultIfEmpty(Estatisticas.vazia(Estatisticas.ID_GLOBAL));
+    }
+
+    /**
+     * Uma linha por atleta: total + [{status, n}].
+     * $setUnion descarta ids repetidos no mesmo item (como o caminho incremental).
+     */
+    private Flux<Document> contarItensPorAtleta() {
+        return agregar(
+                COLECAO_ITENS,
+                contexto -> new Document("$project", new Document("status", 1)
+                        .append("atletasIds", new Document("$setUnion", List.of(
+                                new Document("$ifNull", List.of("$atletasIds", List.of())),
+                                List.of()
+                        )))),
+                contexto -> new Document("$unwind", "$atletasIds"),
+                contexto -> new Document("$group", new Document("_id", new Document("atleta", "$atletasIds")
+                        .append("status", "$status"))
+                        .append("n", new Document("$sum", 1))),
+                contexto -> new Document("$group", new Document("_id", "$_id.atleta")
+                        .append("total", new Document("$sum", "$n"))
+                        .append("porStatus", new Document("$push", new Document("_id", "$_id.status")
+                                .append("n", "$n"))))
+        );
+    }
+
+    private static AggregationOperation totaisTransacoes() {
+        return contexto -> new Document("$group", new Document("_id", "$atletaId")
+                .append("n", new Document("$sum", 1))
+                .append("bruto", new Document("$sum", decimal("$valorBrutoTotal")))
+                .append("repasse", new Document("$sum", decimal("$valorLiquidoRepasse"))));
+    }
+
+    private static void preencherItensAtleta(Estatisticas estatisticas, Document linha) {
+        if (estatisticas == null) return;
+        estatisticas.setTotalItens(numero(linha.get("total")));
+        estatisticas.setItensPorStatus(contagens(linha.getList("porStatus", Document.class)));
+    }
+
+    private static void preencherFinanceiro(Estatisticas estatisticas, Document linha) {
+        if (estatisticas == null) return;
+        estatisticas.setTotalTransacoes(numero(linha.get("n")));
+        estatisticas.setFaturamentoBruto(paraBigDecimal(linha.get("bruto")));
+        estatisticas.setRepassesAtletas(paraBigDecimal(linha.get("repasse")));
+    }
+
+    /* =====================================================
+       REPARO
+       ===================================================== */
+
+    @Override
+    public Mono<Boolean> substituirSeVersao(Estatisticas recalculada, Long versaoLida) {
+        if (versaoLida == null) {
+            return mongoTemplate.insert(recalculada, COLECAO)
+                    .thenReturn(true)
+                    .onErrorResume(DuplicateKeyException.class, e -> Mono.just(false));
+        }
+
+        recalculada.setVersao(versaoLida);
+        Query mesmaVersao = Query.query(Criteria.where("_id").is(recalculada.getId()).and("versao").is(versaoLida));
+
+        return mongoTemplate.findAndReplace(mesmaVersao, recalculada, COLECAO)
+                .map(anterior -> true)
+                .defaultIfEmpty(false);
+    }
+
+    /* =====================================================
+       UTIL
+       ===================================================== */
+
+    private Flux<Document> agregar(String colecao, AggregationOperation... etapas) {
+        return mongoTemplate.aggregate(Aggregation.newAggregation(etapas), colecao, Document.class);
+    }
+
+    private static Document contagemPor(String campo) {
+        return new Document("$group", new Document("_id", campo).append("n", new Document("$sum", 1)));
+    }
+
+    /**
+     * [{_id, n}] → mapa, ignorando chaves nulas ou inválidas como nome de campo
+     */
+    private static Map<String, Long> contagens(List<Document> linhas) {
+        Map<String, Long> contagens = new HashMap<>();
+        if (linhas == null) {
+            return contagens;
+        }
+        for (Document linha : linhas) {
+            Object chave = linha.get("_id");
+            if (chave != null && Estatisticas.chaveValida(chave.toString())) {
+                contagens.merge(chave.toString(), numero(linha.get("n")), Long::sum);
+            }
+        }
+        return contagens;
+    }
+
+    private static Estatisticas doc(Map<String, Estatisticas> porId, Object atletaId) {
+        if (atletaId == null || atletaId.toString().isBlank()) {
+            return null;
+        }
+        return porId.computeIfAbsent(
+                Estatisticas.idAtleta(atletaId.toString()),
+                Estatisticas::vazia
+        );
+    }
+
+    private static long numero(Object valor) {
+        return valor instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private static Number paraBson(Number delta) {
+        return delta instanceof BigDecimal decimal ? new Decimal128(decimal) : delta;
+    }
+}
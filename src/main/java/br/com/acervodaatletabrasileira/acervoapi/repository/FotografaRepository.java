@@ -8,7 +8,7 @@ import reactor.core.publisher.Mono;
 
 @Repository
 public interface FotografaRepository
-        extends ReactiveMongoRepository<Fotografa, String> {
+        extends ReactiveMongoRepository<Fotografa, String>, FotografaRepositoryCustom {
 
     /**
      * Busca fotógrafa pelo e-mail.
@@ -0,0 +1,25 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Fotografa;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consultas públicas de fotógrafas: filtro de status/categoria no banco
+ * e projeção restrita aos campos de FotografaPublicoDTO
+ * (sem senha, CPF, PIX ou dados bancários).
+ */
+public interface FotografaRepositoryCustom {
+
+    /**
+     * Fotógrafas não bloqueadas, ordenadas por nome, paginadas por cursor
+     * (categoria nula = todas).
+     */
+    Mono<PaginaDTO<Fotografa>> paginarPublicas(Fotografa.CategoriaFotografa categoria, String cursor, int tamanho);
+
+    /**
+     * Mesma listagem, sem paginação (NDJSON / SSE)
+     */
+    Flux<Fotografa> transmitirPublicas(Fotografa.CategoriaFotografa categoria);
+}
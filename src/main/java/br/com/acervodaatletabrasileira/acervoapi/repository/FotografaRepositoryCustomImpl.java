@@ -0,0 +1,89 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Fotografa;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class FotografaRepositoryCustomImpl implements FotografaRepositoryCustom {
+
+    /**
+     * Campos lidos por FotografaPublicoDTO.fromModel (+ atualizadoEm para versão/ETag)
+     */
+    private static final String[] CAMPOS_PUBLICOS = {
+            "nome",
+            "nomeSocial",
+            "slug",
+            "registroProfissional",
+            "linkRedeSocialPrincipal",
+            "biografia",
+            "fotosDestaque",
+            "linkColecaoCompleta",
+            "categoria",
+            "statusVerificacao",
+            "fotoDestaqueUrl",
+            "statusFotografa",
+            "atualizadoEm"
+    };
+
+    /**
+     * Igualdade em $in (em vez de $ne BLOQUEADA) para que o índice
+     * status_categoria_nome_id seja usado. null cobre documentos
+     * antigos sem status, que já eram listados.
+     */
+    private static final List<Fotografa.StatusFotografa> STATUS_PUBLICOS = Arrays.stream(Fotografa.StatusFotografa.values())
+            .filter(status -> status != Fotografa.StatusFotografa.BLOQUEADA)
+            .toList();
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public FotografaRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /* =====================================================
+       LISTAGEM PÚBLICA
+       ===================================================== */
+
+    /**
+     * Índices status_categoria_nome_id / status_nome_id.
+     * Cursor inválido → Mono.error(CursorInvalidoException).
+     */
+    @Override
+    public Mono<PaginaDTO<Fotografa>> paginarPublicas(Fotografa.CategoriaFotografa categoria, String cursor, int tamanho) {
+        return PaginacaoPorNome.paginar(
+                cursor,
+                tamanho,
+                keyset -> mongoTemplate.find(consultaPublica(categoria, keyset).limit(tamanho + 1), Fotografa.class),
+                Fotografa::getNome,
+                Fotografa::getId
+        );
+    }
+
+    @Override
+    public Flux<Fotografa> transmitirPublicas(Fotografa.CategoriaFotografa categoria) {
+        return mongoTemplate.find(consultaPublica(categoria, null), Fotografa.class);
+    }
+
+    /**
+     * status (+ categoria) + keyset → sort por nome → apenas campos públicos
+     */
+    private Query consultaPublica(Fotografa.CategoriaFotografa categoria, Criteria keyset) {
+        List<Object> statuses = new ArrayList<>(STATUS_PUBLICOS);
+        statuses.add(null);
+
+        Criteria filtro = Criteria.where("statusFotografa").in(statuses);
+        if (categoria != null) {
+            filtro = filtro.and("categoria").is(categoria);
+        }
+
+        return PaginacaoPorNome.consulta(filtro, keyset, CAMPOS_PUBLICOS);
+    }
+}
@@ -10,7 +10,8 @@ import reactor.core.publisher.Mono;
 import java.util.Collection;
 
 @Repository
-public interface ItemAcervoRepository extends ReactiveMongoRepository<ItemAcervo, String> {
+public interface ItemAcervoRepository
+        extends ReactiveMongoRepository<ItemAcervo, String>, ItemAcervoRepositoryCustom {
 
     /* =====================================================
        CONTAGENS (DASHBOARD / MÉTRICAS)
@@ -47,6 +48,11 @@ public interface ItemAcervoRepository extends ReactiveMongoRepository<ItemAcervo
 
     Flux<ItemAcervo> findByStatusIn(Collection<StatusItemAcervo> statuses);
 
+    /**
+     * Busca em lote: um único $in por _id, já restrito aos status informados
+     */
+    Flux<ItemAcervo> findByIdInAndStatusIn(Collection<String> ids, Collection<StatusItemAcervo> statuses);
+
     /**
      * Consulta semântica para itens públicos
      * (PUBLICADO, DISPONIVEL_LICENCIAMENTO, MEMORIAL)
@@ -79,8 +85,18 @@ public interface ItemAcervoRepository extends ReactiveMongoRepository<ItemAcervo
        BUSCA EDITORIAL
        ===================================================== */
 
+    /**
+     * Regex sem âncora: varre a coleção inteira.
+     * @deprecated usar buscarCardsPorTexto (índice de texto)
+     */
+    @Deprecated
     Flux<ItemAcervo> findByProcedenciaContainingIgnoreCase(String termo);
 
+    /**
+     * Regex sem âncora: varre a coleção inteira.
+     * @deprecated usar buscarCardsPorTexto (índice de texto)
+     */
+    @Deprecated
     Flux<ItemAcervo> findByCreditoAutoralContainingIgnoreCase(String termo);
 
     /* =====================================================
@@ -0,0 +1,165 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.FiltroAcervoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ResultadoFacetadoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.FacetaAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.ResumoDireitos;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consultas de itens do acervo que não cabem em métodos derivados
+ * (paginação por cursor e projeções).
+ *
+ * Ordenação estável: (status ASC, atualizadoEm DESC, _id DESC),
+ * sempre coberta por um índice composto declarado em {@link ItemAcervo}.
+ *
+ * Os métodos "Cards" devolvem itens parciais (projeção de card):
+ * apenas campos de listagem e, em fotos, somente a capa.
+ */
+public interface ItemAcervoRepositoryCustom {
+
+    Mono<PaginaDTO<ItemAcervo>> paginarCardsPorStatus(
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    );
+
+    Mono<PaginaDTO<ItemAcervo>> paginarCardsPorAtletaEStatus(
+            String atletaId,
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    );
+
+    Mono<PaginaDTO<ItemAcervo>> paginarCardsPorModalidadeEStatus(
+            String modalidadeId,
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    );
+
+    /**
+     * Fluxo contínuo (sem paginação) de cards, na mesma ordenação.
+     * Lido direto do cursor do Mongo, respeitando backpressure.
+     */
+    Flux<ItemAcervo> transmitirCardsPorStatus(Collection<StatusItemAcervo> statuses);
+
+    /**
+     * Busca textual (índice de texto em português) em projeção de card,
+     * ordenada por relevância. O cursor aqui é a posição na lista de
+     * resultados, já que a relevância não é um campo persistido.
+     */
+    Mono<PaginaDTO<ItemAcervo>> buscarCardsPorTexto(
+            String termos,
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    );
+
+    /**
+     * Pesquisa facetada: página de cards (cursor keyset) e contagens
+     * por faceta em uma única agregação ($match indexado + $facet).
+     */
+    Mono<ResultadoFacetadoDTO<ItemAcervo>> pesquisarCardsFacetados(
+            FiltroAcervoDTO filtro,
+            Collection<StatusItemAcervo> statuses,
+            Collection<FacetaAcervo> facetas,
+            String cursor,
+            int tamanho
+    );
+
+    /**
+     * Atualiza apenas o campo desnormalizado usado na busca textual
+     */
+    Mono<Void> definirNomesRelacionados(String itemId, List<String> nomes);
+
+    /**
+     * Mesmo $set, para vários itens num único lote (itemId → nomes)
+     */
+    Mono<Void> definirNomesRelacionados(Map<String, List<String>> nomesPorItem);
+
+    /**
+     * Itens da atleta só com id, atletasIds e modalidadeId (reindexação de nomes)
+     */
+    Flux<ItemAcervo> transmitirVinculosPorAtleta(String atletaId);
+
+    /**
+     * Itens da modalidade só com id, atletasIds e modalidadeId (reindexação de nomes)
+     */
+    Flux<ItemAcervo> transmitirVinculosPorModalidade(String modalidadeId);
+
+    /**
+     * Itens anteriores à busca textual (sem nomesRelacionados), só com os vínculos
+     */
+    Flux<ItemAcervo> transmitirVinculosSemNomesRelacionados();
+
+    /**
+     * Itens com dataOriginal e sem o campo decada (id + dataOriginal)
+     */
+    Flux<ItemAcervo> transmitirSemDecada();
+
+    /**
+     * $set de decada em lote (itemId → década; null grava o campo vazio
+     * e o item não volta a ser selecionado por transmitirSemDecada)
+     */
+    Mono<Void> definirDecadas(Map<String, Integer> decadaPorItem);
+
+    /**
+     * Todos os itens completos, inclusive rascunhos (uso administrativo)
+     */
+    Mono<PaginaDTO<ItemAcervo>> paginarTodos(String cursor, int tamanho);
+
+    /**
+     * Quantidade de itens por tipo ($group no servidor; itens sem tipo ficam de fora)
+     */
+    Mono<Map<String, Long>> contarPorTipo();
+
+    /**
+     * Itens vinculados à atleta por status ($group no servidor)
+     */
+    Mono<Map<String, Long>> contarPorStatusDaAtleta(String atletaId);
+
+    /**
+     * O que o perfil público mostra do acervo da atleta, sem os cards:
+     * primeira página (só id + atualizadoEm) e totais por tipo, numa
+     * agregação sobre o índice atletas_status_atualizado_id.
+     * Base da versão (ETag) do perfil.
+     */
+    Mono<AcervoVisivel> buscarAcervoVisivel(String atletaId, Collection<StatusItemAcervo> statuses, int tamanhoPagina);
+
+    /**
+     * pagina: tamanhoPagina + 1 itens no máximo (o excedente indica próxima página)
+     */
+    record AcervoVisivel(List<ItemAcervo> pagina, Map<String, Long> totaisPorTipo) {
+    }
+
+    /**
+     * Grava o resumo jurídico do item, a menos que já exista um calculado
+     * depois deste (false nesse caso ou se o item não existe)
+     */
+    Mono<Boolean> definirResumoDireitos(String itemId, ResumoDireitos resumo);
+
+    /**
+     * Apenas _id + resumoDireitos do item (checagens jurídicas)
+     */
+    Mono<ItemAcervo> buscarResumoDireitos(String itemId);
+
+    /**
+     * _id + resumoDireitos dos itens cujo resumo venceu até o instante
+     */
+    Flux<ItemAcervo> buscarResumosDireitosVencidos(Instant ate);
+
+    /**
+     * _id + resumoDireitos de todos os itens, em ordem de _id (verificação)
+     */
+    Flux<ItemAcervo> transmitirResumosDireitos();
+}
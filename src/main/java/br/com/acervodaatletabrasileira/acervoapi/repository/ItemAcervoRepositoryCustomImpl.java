@@ -0,0 +1,670 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.ContagemFacetaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.FiltroAcervoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ResultadoFacetadoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.FacetaAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.ResumoDireitos;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ItemAcervoRepositoryCustomImpl implements ItemAcervoRepositoryCustom {
+
+    private static final Sort ORDEM_CATALOGO = Sort.by(
+            Sort.Order.asc("status"),
+            Sort.Order.desc("atualizadoEm"),
+            Sort.Order.desc("id")
+    );
+
+    /**
+     * Campos lidos na projeção de card (além de _id e da capa)
+     */
+    private static final String[] CAMPOS_CARD = {
+            "titulo",
+            "tipo",
+            "status",
+            "itemHistorico",
+            "disponivelParaLicenciamento",
+            "resumoDireitos",
+            "modalidadeId",
+            "atletasIds",
+            "atualizadoEm"
+    };
+
+    /**
+     * fotos → [capa]: a foto marcada como destaque ou, na falta dela, a primeira.
+     * Resolvido no servidor para não trafegar as demais fotos.
+     */
+    private static final AggregationExpression CAPA = contexto -> {
+        Document fotos = new Document("$ifNull", List.of("$fotos", List.of()));
+        Document destaques = new Document("$filter", new Document("input", fotos)
+                .append("as", "foto")
+                .append("cond", new Document("$eq", List.of("$$foto.destaque", true))));
+
+        return new Document("$slice", List.of(
+                new Document("$concatArrays", List.of(destaques, fotos)),
+                1
+        ));
+    };
+
+    /**
+     * Mesmo idioma do índice de texto (@Document(language) em ItemAcervo)
+     */
+    private static final String IDIOMA_BUSCA = "portuguese";
+
+    /**
+     * Valores mais frequentes devolvidos por faceta
+     */
+    private static final int LIMITE_VALORES_FACETA = 50;
+
+    private static final String FACETA_ITENS = "itens";
+
+    /**
+     * Campos de card que entram na versão do perfil da atleta
+     * (os demais só mudam junto com atualizadoEm)
+     */
+    private static final String[] CAMPOS_VERSAO_PERFIL = {"atualizadoEm"};
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    /**
+     * Teto de execução da agregação facetada (maxTimeMS no servidor)
+     */
+    private final Duration tempoMaximoFacetas;
+
+    public ItemAcervoRepositoryCustomImpl(
+            ReactiveMongoTemplate mongoTemplate,
+            @Value("${app.acervo.facetas.tempo-maximo:2s}") Duration tempoMaximoFacetas
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.tempoMaximoFacetas = tempoMaximoFacetas;
+    }
+
+    /* =====================================================
+       PAGINAÇÃO POR CURSOR (KEYSET)
+       ===================================================== */
+
+    @Override
+    public Mono<PaginaDTO<ItemAcervo>> paginarCardsPorStatus(
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    ) {
+        return paginar(Criteria.where("status").in(statuses), cursor, tamanho, true);
+    }
+
+    @Override
+    public Mono<PaginaDTO<ItemAcervo>> paginarCardsPorAtletaEStatus(
+            String atletaId,
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    ) {
+        return paginar(
+                Criteria.where("atletasIds").is(atletaId).and("status").in(statuses),
+                cursor,
+                tamanho,
+                true
+        );
+    }
+
+    @Override
+    public Mono<PaginaDTO<ItemAcervo>> paginarCardsPorModalidadeEStatus(
+            String modalidadeId,
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    ) {
+        return paginar(
+                Criteria.where("modalidadeId").is(modalidadeId).and("status").in(statuses),
+                cursor,
+                tamanho,
+                true
+        );
+    }
+
+    @Override
+    public Flux<ItemAcervo> transmitirCardsPorStatus(Collection<StatusItemAcervo> statuses) {
+        return consultarCards(Criteria.where("status").in(statuses), null);
+    }
+
+    @Override
+    public Mono<PaginaDTO<ItemAcervo>> paginarTodos(String cursor, int tamanho) {
+        return paginar(null, cursor, tamanho, false);
+    }
+
+    /* =====================================================
+       ESTATÍSTICAS
+       ===================================================== */
+
+    /**
+     * $match no prefixo do índice tipo_status + $group: uma linha por tipo
+     */
+    @Override
+    public Mono<Map<String, Long>> contarPorTipo() {
+        TypedAggregation<ItemAcervo> aggregation = Aggregation.newAggregation(
+                ItemAcervo.class,
+                Aggregation.match(Criteria.where("tipo").ne(null)),
+                Aggregation.group("tipo").count().as("total")
+        );
+
+        return mongoTemplate.aggregate(aggregation, Document.class)
+                .collectMap(
+                        grupo -> String.valueOf(grupo.get("_id")),
+                        grupo -> ((Number) grupo.get("total")).longValue(),
+                        LinkedHashMap::new
+                );
+    }
+
+    /**
+     * $match no prefixo do índice atletas_status_atualizado_id + $group:
+     * uma linha por status, qualquer que seja o tamanho do acervo da atleta
+     */
+    @Override
+    public Mono<Map<String, Long>> contarPorStatusDaAtleta(String atletaId) {
+        TypedAggregation<ItemAcervo> aggregation = Aggregation.newAggregation(
+                ItemAcervo.class,
+                Aggregation.match(Criteria.where("atletasIds").is(atletaId)),
+                Aggregation.group("status").count().as("total")
+        );
+
+        return mongoTemplate.aggregate(aggregation, Document.class)
+                .filter(grupo -> grupo.get("_id") != null)
+                .collectMap(
+                        grupo -> String.valueOf(grupo.get("_id")),
+                        grupo -> ((Number) grupo.get("total")).longValue(),
+                        LinkedHashMap::new
+                );
+    }
+
+    /**
+     * Mesmos filtro, ordenação e limite do $lookup do perfil
+     * (AtletaRepositoryCustomImpl.buscarPerfilAgregado)
+     */
+    @Override
+    public Mono<AcervoVisivel> buscarAcervoVisivel(
+            String atletaId,
+            Collection<StatusItemAcervo> statuses,
+            int tamanhoPagina
+    ) {
+        FacetOperation facet = Aggregation
+                .facet(
+                        Aggregation.sort(ORDEM_CATALOGO),
+                        Aggregation.limit(tamanhoPagina + 1L),
+                        Aggregation.project(CAMPOS_VERSAO_PERFIL)
+                ).as("pagina")
+                .and(Aggregation.group("tipo").count().as("total")).as("totais");
+
+        TypedAggregation<ItemAcervo> aggregation = Aggregation.newAggregation(
+                ItemAcervo.class,
+                Aggregation.match(Criteria.where("atletasIds").is(atletaId).and("status").in(statuses)),
+                facet
+        );
+
+        return mongoTemplate.aggregate(aggregation, Document.class)
+                .next()
+                .map(resultado -> {
+                    List<ItemAcervo> pagina = resultado.getList("pagina", Document.class, List.of())
+                            .stream()
+                            .map(documento -> mongoTemplate.getConverter().read(ItemAcervo.class, documento))
+                            .toList();
+
+                    Map<String, Long> totais = new TreeMap<>();
+                    for (Document grupo : resultado.getList("totais", Document.class, List.of())) {
+                        totais.put(String.valueOf(grupo.get("_id")), ((Number) grupo.get("total")).longValue());
+                    }
+                    return new AcervoVisivel(pagina, totais);
+                });
+    }
+
+    /* =====================================================
+       BUSCA TEXTUAL
+       ===================================================== */
+
+    /**
+     * $match com $text precisa ser o primeiro estágio; a ordenação por
+     * textScore usa o desempate por _id para manter as páginas estáveis.
+     */
+    @Override
+    public Mono<PaginaDTO<ItemAcervo>> buscarCardsPorTexto(
+            String termos,
+            Collection<StatusItemAcervo> statuses,
+            String cursor,
+            int tamanho
+    ) {
+        return Mono.defer(() -> buscarCardsPorTexto(
+                termos,
+                statuses,
+                cursor == null || cursor.isBlank() ? 0 : deslocamentoDe(cursor),
+                tamanho
+        ));
+    }
+
+    private Mono<PaginaDTO<ItemAcervo>> buscarCardsPorTexto(
+            String termos,
+            Collection<StatusItemAcervo> statuses,
+            int deslocamento,
+            int tamanho
+    ) {
+        List<String> nomesStatus = statuses.stream().map(Enum::name).toList();
+        AggregationOperation busca = contexto -> new Document("$match", new Document()
+                .append("$text", new Document("$search", termos).append("$language", IDIOMA_BUSCA))
+                .append("status", new Document("$in", nomesStatus)));
+        AggregationOperation porRelevancia = contexto -> new Document("$sort", new Document()
+                .append("score", new Document("$meta", "textScore"))
+                .append("_id", -1));
+
+        TypedAggregation<ItemAcervo> aggregation = Aggregation.newAggregation(
+                ItemAcervo.class,
+                busca,
+                porRelevancia,
+                Aggregation.skip((long) deslocamento),
+                Aggregation.limit(tamanho + 1L),
+                Aggregation.project(CAMPOS_CARD).and(CAPA).as("fotos")
+        );
+
+        return mongoTemplate.aggregate(aggregation, ItemAcervo.class)
+                .collectList()
+                .map(itens -> itens.size() <= tamanho
+                        ? new PaginaDTO<>(itens, null)
+                        : new PaginaDTO<>(
+                                List.copyOf(itens.subList(0, tamanho)),
+                                CursorPaginacao.codificar(String.valueOf(deslocamento + tamanho))
+                        ));
+    }
+
+    /* =====================================================
+       PESQUISA FACETADA
+       ===================================================== */
+
+    /**
+     * O $match de topo usa os índices compostos (status, tipo, modalidade,
+     * atleta, década); dentro do $facet não há índice, então a página usa
+     * $sort + $limit (top-k) e as contagens ficam restritas ao conjunto filtrado.
+     */
+    @Override
+    public Mono<ResultadoFacetadoDTO<ItemAcervo>> pesquisarCardsFacetados(
+            FiltroAcervoDTO filtro,
+            Collection<StatusItemAcervo> statuses,
+            Collection<FacetaAcervo> facetas,
+            String cursor,
+            int tamanho
+    ) {
+        return Mono.defer(() -> pesquisarCardsFacetados(
+                filtro,
+                statuses,
+                facetas,
+                cursor == null || cursor.isBlank() ? null : aposCursor(cursor),
+                tamanho
+        ));
+    }
+
+    private Mono<ResultadoFacetadoDTO<ItemAcervo>> pesquisarCardsFacetados(
+            FiltroAcervoDTO filtro,
+            Collection<StatusItemAcervo> statuses,
+            Collection<FacetaAcervo> facetas,
+            Criteria keyset,
+            int tamanho
+    ) {
+        List<AggregationOperation> etapasPagina = new ArrayList<>();
+        if (keyset != null) {
+            etapasPagina.add(Aggregation.match(keyset));
+        }
+        etapasPagina.add(Aggregation.sort(ORDEM_CATALOGO));
+        etapasPagina.add(Aggregation.limit(tamanho + 1L));
+        etapasPagina.add(Aggregation.project(CAMPOS_CARD).and(CAPA).as("fotos"));
+
+        FacetOperation facet = Aggregation
+                .facet(etapasPagina.toArray(AggregationOperation[]::new))
+                .as(FACETA_ITENS);
+        for (FacetaAcervo faceta : facetas) {
+            facet = facet.and(etapasContagem(faceta)).as(faceta.getNome());
+        }
+
+        TypedAggregation<ItemAcervo> aggregation = Aggregation
+                .newAggregation(ItemAcervo.class, Aggregation.match(filtroFacetado(filtro, statuses)), facet)
+                .withOptions(AggregationOptions.builder().maxTime(tempoMaximoFacetas).build());
+
+        return mongoTemplate.aggregate(aggregation, Document.class)
+                .next()
+                .map(resultado -> {
+                    List<ItemAcervo> itens = resultado.getList(FACETA_ITENS, Document.class, List.of())
+                            .stream()
+                            .map(documento -> mongoTemplate.getConverter().read(ItemAcervo.class, documento))
+                            .toList();
+
+                    Map<String, List<ContagemFacetaDTO>> contagens = new LinkedHashMap<>();
+                    for (FacetaAcervo faceta : facetas) {
+                        contagens.put(faceta.getNome(), contagensDe(resultado.getList(faceta.getNome(), Document.class, List.of())));
+                    }
+
+                    return new ResultadoFacetadoDTO<>(paginaDe(itens, tamanho), contagens);
+                });
+    }
+
+    private Criteria filtroFacetado(FiltroAcervoDTO filtro, Collection<StatusItemAcervo> statuses) {
+        Criteria criteria = Criteria.where("status").in(
+                filtro.status() != null ? List.of(filtro.status()) : statuses
+        );
+        if (filtro.tipo() != null) criteria.and("tipo").is(filtro.tipo());
+        if (filtro.modalidadeId() != null) criteria.and("modalidadeId").is(filtro.modalidadeId());
+        if (filtro.atletaId() != null) criteria.and("atletasIds").is(filtro.atletaId());
+        if (filtro.decada() != null) criteria.and("decada").is(filtro.decada());
+        return criteria;
+    }
+
+    private AggregationOperation[] etapasContagem(FacetaAcervo faceta) {
+        List<AggregationOperation> etapas = new ArrayList<>();
+        if (faceta.isMultivalorado()) {
+            etapas.add(Aggregation.unwind(faceta.getCampo()));
+        }
+        etapas.add(Aggregation.group(faceta.getCampo()).count().as("total"));
+        etapas.add(Aggregation.sort(Sort.Direction.DESC, "total"));
+        etapas.add(Aggregation.limit(LIMITE_VALORES_FACETA));
+        return etapas.toArray(AggregationOperation[]::new);
+    }
+
+    /**
+     * Itens sem valor no campo (_id null) não viram opção de filtro
+     */
+    private List<ContagemFacetaDTO> contagensDe(List<Document> grupos) {
+        return grupos.stream()
+                .filter(grupo -> grupo.get("_id") != null)
+                .map(grupo -> new ContagemFacetaDTO(
+                        String.valueOf(grupo.get("_id")),
+                        ((Number) grupo.get("total")).longValue()
+                ))
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> definirNomesRelacionados(String itemId, List<String> nomes) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(itemId)),
+                Update.update("nomesRelacionados", nomes),
+                ItemAcervo.class
+        ).then();
+    }
+
+    @Override
+    public Mono<Void> definirNomesRelacionados(Map<String, List<String>> nomesPorItem) {
+        if (nomesPorItem.isEmpty()) {
+            return Mono.empty();
+        }
+
+        ReactiveBulkOperations lote = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ItemAcervo.class);
+        nomesPorItem.forEach((itemId, nomes) -> lote.updateOne(
+                Query.query(Criteria.where("id").is(itemId)),
+                Update.update("nomesRelacionados", nomes)
+        ));
+        return lote.execute().then();
+    }
+
+    @Override
+    public Flux<ItemAcervo> transmitirVinculosPorAtleta(String atletaId) {
+        return transmitirVinculos(Criteria.where("atletasIds").is(atletaId));
+    }
+
+    @Override
+    public Flux<ItemAcervo> transmitirVinculosPorModalidade(String modalidadeId) {
+        return transmitirVinculos(Criteria.where("modalidadeId").is(modalidadeId));
+    }
+
+    @Override
+    public Flux<ItemAcervo> transmitirVinculosSemNomesRelacionados() {
+        return transmitirVinculos(Criteria.where("nomesRelacionados").exists(false));
+    }
+
+    @Override
+    public Flux<ItemAcervo> transmitirSemDecada() {
+        Query query = Query.query(Criteria.where("decada").exists(false).and("dataOriginal").ne(null));
+        query.fields().include("id", "dataOriginal");
+        return mongoTemplate.find(query, ItemAcervo.class);
+    }
+
+    @Override
+    public Mono<Void> definirDecadas(Map<String, Integer> decadaPorItem) {
+        if (decadaPorItem.isEmpty()) {
+            return Mono.empty();
+        }
+
+        ReactiveBulkOperations lote = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ItemAcervo.class);
+        decadaPorItem.forEach((itemId, decada) -> lote.updateOne(
+                Query.query(Criteria.where("id").is(itemId)),
+                Update.update("decada", decada)
+        ));
+        return lote.execute().then();
+    }
+
+    private Flux<ItemAcervo> transmitirVinculos(Criteria criteria) {
+        Query query = Query.query(criteria);
+        query.fields().include("id", "atletasIds", "modalidadeId");
+        return mongoTemplate.find(query, ItemAcervo.class);
+    }
+
+    /* =====================================================
+       RESUMO JURÍDICO
+       ===================================================== */
+
+    /**
+     * $set só no subdocumento: não mexe em atualizadoEm. Dois recálculos
+     * simultâneos: vale o que leu os documentos por último.
+     *
+     * Não protege contra o save completo do item, que regrava o resumo
+     * lido antes — por isso o ItemAcervoService recalcula após cada save.
+     */
+    @Override
+    public Mono<Boolean> definirResumoDireitos(String itemId, ResumoDireitos resumo) {
+        Query query = Query.query(new Criteria().andOperator(
+                Criteria.where("id").is(itemId),
+                new Criteria().orOperator(
+                        Criteria.where("resumoDireitos.calculadoEm").exists(false),
+                        Criteria.where("resumoDireitos.calculadoEm").lte(resumo.getCalculadoEm())
+                )
+        ));
+
+        return mongoTemplate.updateFirst(query, Update.update("resumoDireitos", resumo), ItemAcervo.class)
+                .map(resultado -> resultado.getMatchedCount() == 1);
+    }
+
+    @Override
+    public Mono<ItemAcervo> buscarResumoDireitos(String itemId) {
+        Query query = Query.query(Criteria.where("id").is(itemId));
+        query.fields().include("id", "resumoDireitos");
+        return mongoTemplate.findOne(query, ItemAcervo.class);
+    }
+
+    @Override
+    public Flux<ItemAcervo> buscarResumosDireitosVencidos(Instant ate) {
+        Query query = Query.query(Criteria.where("resumoDireitos.proximaExpiracao").lte(ate));
+        query.fields().include("id", "resumoDireitos");
+        return mongoTemplate.find(query, ItemAcervo.class);
+    }
+
+    @Override
+    public Flux<ItemAcervo> transmitirResumosDireitos() {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "id"));
+        query.fields().include("id", "resumoDireitos");
+        return mongoTemplate.find(query, ItemAcervo.class);
+    }
+
+    private int deslocamentoDe(String cursor) {
+        String[] partes = CursorPaginacao.decodificar(cursor, 1);
+        try {
+            int deslocamento = Integer.parseInt(partes[0]);
+            if (deslocamento < 0) {
+                throw new CursorPaginacao.CursorInvalidoException(null);
+            }
+            return deslocamento;
+        } catch (NumberFormatException e) {
+            throw new CursorPaginacao.CursorInvalidoException(e);
+        }
+    }
+
+    /**
+     * Busca tamanho + 1 documentos: o excedente só indica
+     * que existe próxima página e nunca é devolvido.
+     *
+     * O cursor é decodificado na inscrição: cursor inválido chega ao
+     * chamador como Mono.error(CursorInvalidoException), não como exceção.
+     */
+    private Mono<PaginaDTO<ItemAcervo>> paginar(
+            Criteria filtro,
+            String cursor,
+            int tamanho,
+            boolean projecaoCard
+    ) {
+        return Mono.defer(() -> paginar(
+                combinar(filtro, cursor == null || cursor.isBlank() ? null : aposCursor(cursor)),
+                tamanho,
+                projecaoCard
+        ));
+    }
+
+    private Mono<PaginaDTO<ItemAcervo>> paginar(Criteria criteria, int tamanho, boolean projecaoCard) {
+
+        Flux<ItemAcervo> consulta;
+        if (projecaoCard) {
+            consulta = consultarCards(criteria, tamanho + 1L);
+        } else {
+            Query query = (criteria == null ? new Query() : new Query(criteria))
+                    .with(ORDEM_CATALOGO)
+                    .limit(tamanho + 1);
+            consulta = mongoTemplate.find(query, ItemAcervo.class);
+        }
+
+        return consulta
+                .collectList()
+                .map(itens -> paginaDe(itens, tamanho));
+    }
+
+    static PaginaDTO<ItemAcervo> paginaDe(List<ItemAcervo> itens, int tamanho) {
+        if (itens.size() <= tamanho) {
+            return new PaginaDTO<>(itens, null);
+        }
+
+        List<ItemAcervo> pagina = itens.subList(0, tamanho);
+        return new PaginaDTO<>(List.copyOf(pagina), cursorDe(pagina.get(tamanho - 1)));
+    }
+
+    /**
+     * match → sort → [limit] → project (card), sempre nessa ordem
+     * para que o índice atenda filtro e ordenação.
+     */
+    private Flux<ItemAcervo> consultarCards(Criteria criteria, Long limite) {
+        List<AggregationOperation> etapas = new ArrayList<>();
+        etapas.add(Aggregation.match(criteria == null ? new Criteria() : criteria));
+        etapas.add(Aggregation.sort(ORDEM_CATALOGO));
+        if (limite != null) {
+            etapas.add(Aggregation.limit(limite));
+        }
+        etapas.add(Aggregation.project(CAMPOS_CARD).and(CAPA).as("fotos"));
+
+        TypedAggregation<ItemAcervo> aggregation = Aggregation.newAggregation(ItemAcervo.class, etapas);
+        return mongoTemplate.aggregate(aggregation, ItemAcervo.class);
+    }
+
+    /**
+     * Mesmo sort + projeção de card em forma de documento, para pipelines
+     * montados fora desta classe (ex: $lookup no perfil da atleta).
+     */
+    static List<Document> etapasCardBrutas(long limite) {
+        Document projecao = new Document();
+        for (String campo : CAMPOS_CARD) {
+            projecao.append(campo, 1);
+        }
+        projecao.append("fotos", CAPA.toDocument(Aggregation.DEFAULT_CONTEXT));
+
+        return List.of(
+                new Document("$sort", new Document("status", 1).append("atualizadoEm", -1).append("_id", -1)),
+                new Document("$limit", limite),
+                new Document("$project", projecao)
+        );
+    }
+
+    private Criteria combinar(Criteria filtro, Criteria keyset) {
+        if (filtro == null) return keyset;
+        if (keyset == null) return filtro;
+        return new Criteria().andOperator(filtro, keyset);
+    }
+
+    /* =====================================================
+       CURSOR (status, atualizadoEm, _id)
+       ===================================================== */
+
+    private static String cursorDe(ItemAcervo item) {
+        return CursorPaginacao.codificar(
+                item.getStatus() != null ? item.getStatus().name() : "",
+                item.getAtualizadoEm() != null ? String.valueOf(item.getAtualizadoEm().toEpochMilli()) : "",
+                item.getId()
+        );
+    }
+
+    /**
+     * Condição "depois do cursor" para a ordenação
+     * (status ASC, atualizadoEm DESC, _id DESC).
+     *
+     * atualizadoEm ausente ordena por último dentro do mesmo status.
+     */
+    private Criteria aposCursor(String cursor) {
+        String[] partes = CursorPaginacao.decodificar(cursor, 3);
+
+        StatusItemAcervo status;
+        Instant atualizadoEm;
+        try {
+            status = StatusItemAcervo.valueOf(partes[0]);
+            atualizadoEm = partes[1].isEmpty() ? null : Instant.ofEpochMilli(Long.parseLong(partes[1]));
+        } catch (IllegalArgumentException e) {
+            throw new CursorPaginacao.CursorInvalidoException(e);
+        }
+        String id = partes[2];
+
+        if (atualizadoEm == null) {
+            return new Criteria().orOperator(
+                    Criteria.where("status").gt(status),
+                    Criteria.where("status").is(status)
+                            .and("atualizadoEm").is(null)
+                            .and("id").lt(id)
+            );
+        }
+
+        return new Criteria().orOperator(
+                Criteria.where("status").gt(status),
+                Criteria.where("status").is(status)
+                        .and("atualizadoEm").lt(atualizadoEm),
+                Criteria.where("status").is(status)
+                        .and("atualizadoEm").is(atualizadoEm)
+                        .and("id").lt(id),
+                Criteria.where("status").is(status)
+                        .and("atualizadoEm").is(null)
+        );
+    }
+}
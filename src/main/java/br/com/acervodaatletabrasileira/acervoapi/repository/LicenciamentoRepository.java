@@ -3,6 +3,7 @@ package br.com.acervodaatletabrasileira.acervoapi.repository;
 import br.com.acervodaatletabrasileira.acervoapi.model.Licenciamento;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface LicenciamentoRepository
         extends ReactiveMongoRepository<Licenciamento, String> {
@@ -10,6 +11,8 @@ public interface LicenciamentoRepository
     Flux<Licenciamento> findByItemAcervoId(String itemAcervoId);
 
     Flux<Licenciamento> findByAtletaId(String atletaId);
+
+    Mono<Long> deleteByPedidoId(String pedidoId);
 }
 
 
@@ -0,0 +1,106 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Paginação por keyset na ordenação (nome ASC, _id ASC),
+ * compartilhada pelas listagens públicas de atletas e fotógrafas.
+ */
+final class PaginacaoPorNome {
+
+    /**
+     * Índices (…_)nome_id de atletas e fotógrafas
+     */
+    static final Sort ORDEM_NOME = Sort.by(
+            Sort.Order.asc("nome"),
+            Sort.Order.asc("id")
+    );
+
+    private PaginacaoPorNome() {
+    }
+
+    /**
+     * Busca tamanho + 1 documentos: o excedente só indica
+     * que existe próxima página e nunca é devolvido.
+     * Cursor inválido → Mono.error(CursorInvalidoException).
+     *
+     * consulta recebe a condição de keyset (null na primeira página)
+     * e devolve no máximo tamanho + 1 documentos na ORDEM_NOME.
+     */
+    static <T> Mono<PaginaDTO<T>> paginar(
+            String cursor,
+            int tamanho,
+            Function<Criteria, Flux<T>> consulta,
+            Function<T, String> nome,
+            Function<T, String> id
+    ) {
+        return Mono.defer(() -> {
+            Criteria keyset = cursor == null || cursor.isBlank() ? null : aposCursor(cursor);
+
+            return consulta.apply(keyset)
+                    .collectList()
+                    .map(documentos -> {
+                        if (documentos.size() <= tamanho) {
+                            return new PaginaDTO<>(documentos, null);
+                        }
+                        List<T> pagina = documentos.subList(0, tamanho);
+                        T ultimo = pagina.get(tamanho - 1);
+                        return new PaginaDTO<>(List.copyOf(pagina), cursorDe(nome.apply(ultimo), id.apply(ultimo)));
+                    });
+        });
+    }
+
+    /**
+     * filtro (opcional) + keyset (opcional) → sort por nome → apenas campos
+     */
+    static Query consulta(Criteria filtro, Criteria keyset, String[] campos) {
+        Query query;
+        if (filtro == null) {
+            query = keyset == null ? new Query() : new Query(keyset);
+        } else {
+            query = new Query(keyset == null ? filtro : new Criteria().andOperator(filtro, keyset));
+        }
+        query.fields().include(campos);
+        return query.with(ORDEM_NOME);
+    }
+
+    /* =====================================================
+       CURSOR (nome, _id)
+       ===================================================== */
+
+    static String cursorDe(String nome, String id) {
+        return CursorPaginacao.codificar(nome != null ? nome : "", id);
+    }
+
+    /**
+     * Condição "depois do cursor" para a ordenação (nome ASC, _id ASC).
+     *
+     * nome ausente ordena primeiro (null antes de qualquer texto no MongoDB).
+     */
+    static Criteria aposCursor(String cursor) {
+        String[] partes = CursorPaginacao.decodificar(cursor, 2);
+        String nome = partes[0];
+        String id = partes[1];
+
+        if (nome.isEmpty()) {
+            return new Criteria().orOperator(
+                    Criteria.where("nome").is(null).and("id").gt(id),
+                    Criteria.where("nome").ne(null)
+            );
+        }
+
+        return new Criteria().orOperator(
+                Criteria.where("nome").gt(nome),
+                Criteria.where("nome").is(nome).and("id").gt(id)
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ReceitaPeriodo;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Agregados de receita por período (séries temporais dos dashboards).
+ */
+@Repository
+public interface ReceitaPeriodoRepository
+        extends ReactiveMongoRepository<ReceitaPeriodo, String>, ReceitaPeriodoRepositoryCustom {
+}
@@ -0,0 +1,60 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.DimensaoReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.GranularidadeReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.ReceitaPeriodo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+public interface ReceitaPeriodoRepositoryCustom {
+
+    /**
+     * Soma a transação em todos os períodos e recortes a que ela pertence
+     * (uma escrita em lote, upsert + $inc)
+     */
+    Mono<Void> incrementar(Transacao transacao, ZoneId fuso);
+
+    /**
+     * Lote: transações do mesmo período e recorte somadas antes de gravar
+     * (um upsert por período/recorte distinto, numa única escrita)
+     */
+    Mono<Void> incrementar(List<Transacao> transacoes, ZoneId fuso);
+
+    /**
+     * Períodos existentes da série, em ordem cronológica (inclusive nas pontas)
+     */
+    Flux<ReceitaPeriodo> buscarSerie(
+            DimensaoReceita dimensao,
+            String chave,
+            GranularidadeReceita granularidade,
+            LocalDate inicio,
+            LocalDate fim
+    );
+
+    /**
+     * Soma de todos os períodos de uma granularidade no recorte
+     * (ex: ANO + GLOBAL → receita total da plataforma)
+     */
+    Mono<TotaisReceita> somarPeriodos(DimensaoReceita dimensao, String chave, GranularidadeReceita granularidade);
+
+    /**
+     * Reconstrói todos os agregados a partir de transacoes, no servidor
+     * ($group + $merge), e remove períodos que deixaram de existir.
+     */
+    Mono<Void> reconstruir(ZoneId fuso);
+
+    record TotaisReceita(
+            long transacoes,
+            BigDecimal faturamentoBruto,
+            BigDecimal comissoesPlataforma,
+            BigDecimal repassesAtletas
+    ) {
+        public static final TotaisReceita ZERO = new TotaisReceita(0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
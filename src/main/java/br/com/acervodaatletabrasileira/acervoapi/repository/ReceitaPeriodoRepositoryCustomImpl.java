@@ -0,0 +1,336 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.DimensaoReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.GranularidadeReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.ReceitaPeriodo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.acervodaatletabrasileira.acervoapi.repository.TransacaoRepositoryCustomImpl.decimal;
+import static br.com.acervodaatletabrasileira.acervoapi.repository.TransacaoRepositoryCustomImpl.paraBigDecimal;
+
+public class ReceitaPeriodoRepositoryCustomImpl implements ReceitaPeriodoRepositoryCustom {
+
+    private static final String COLECAO = "receita_periodos";
+    private static final String COLECAO_TRANSACOES = "transacoes";
+
+    /**
+     * Totais de cada período (somados por $inc e recalculados pelo backfill)
+     */
+    private static final List<String> TOTAIS = List.of(
+            "transacoes",
+            "faturamentoBruto",
+            "comissoesPlataforma",
+            "repassesAtletas"
+    );
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReceitaPeriodoRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /* =====================================================
+       INCREMENTO (POR TRANSAÇÃO)
+       ===================================================== */
+
+    /**
+     * Até 12 upserts (3 granularidades × 4 recortes) num único lote
+     */
+    @Override
+    public Mono<Void> incrementar(Transacao transacao, ZoneId fuso) {
+        return incrementar(List.of(transacao), fuso);
+    }
+
+    @Override
+    public Mono<Void> incrementar(List<Transacao> transacoes, ZoneId fuso) {
+        Map<String, Acumulado> porId = new LinkedHashMap<>();
+
+        for (Transacao transacao : transacoes) {
+            if (transacao.getDataTransacao() == null) {
+                continue;
+            }
+
+            LocalDate data = LocalDate.ofInstant(transacao.getDataTransacao(), fuso);
+            for (GranularidadeReceita granularidade : GranularidadeReceita.values()) {
+                String periodo = granularidade.inicioDoPeriodo(data).toString();
+
+                for (DimensaoReceita dimensao : DimensaoReceita.values()) {
+                    String chave = dimensao.chaveDe(transacao);
+                    if (chave == null) {
+                        continue;
+                    }
+
+                    porId.computeIfAbsent(
+                            ReceitaPeriodo.idDe(granularidade, periodo, dimensao, chave),
+                            id -> new Acumulado(granularidade, periodo, dimensao, chave)
+                    ).somar(transacao);
+                }
+            }
+        }
+
+        if (porId.isEmpty()) {
+            return Mono.empty();
+        }
+
+        Instant agora = Instant.now();
+        ReactiveBulkOperations lote = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLECAO);
+
+        porId.forEach((id, acumulado) -> {
+            Update update = new Update()
+                    .setOnInsert("granularidade", acumulado.granularidade.name())
+                    .setOnInsert("periodo", acumulado.periodo)
+                    .setOnInsert("dimensao", acumulado.dimensao.name())
+                    .setOnInsert("chave", acumulado.chave)
+                    .inc("transacoes", acumulado.transacoes)
+                    .inc("faturamentoBruto", decimal128(acumulado.bruto))
+                    .inc("comissoesPlataforma", decimal128(acumulado.comissao))
+                    .inc("repassesAtletas", decimal128(acumulado.repasse))
+                    .set("atualizadoEm", agora);
+
+            lote.upsert(Query.query(Criteria.where("_id").is(id)), update);
+        });
+
+        return lote.execute().then();
+    }
+
+    /**
+     * Soma das transações de um mesmo período/recorte dentro do lote
+     */
+    private static final class Acumulado {
+        private final GranularidadeReceita granularidade;
+        private final String periodo;
+        private final DimensaoReceita dimensao;
+        private final String chave;
+
+        private long transacoes;
+        private BigDecimal bruto = BigDecimal.ZERO;
+        private BigDecimal comissao = BigDecimal.ZERO;
+        private BigDecimal repasse = BigDecimal.ZERO;
+
+        private Acumulado(GranularidadeReceita granularidade, String periodo, DimensaoReceita dimensao, String chave) {
+            this.granularidade = granularidade;
+            this.periodo = periodo;
+            this.dimensao = dimensao;
+            this.chave = chave;
+        }
+
+        private void somar(Transacao transacao) {
+            transacoes++;
+            bruto = bruto.add(valor(transacao.getValorBrutoTotal()));
+            comissao = comissao.add(valor(transacao.getValorComissaoPlataforma()));
+            repasse = repasse.add(valor(transacao.getValorLiquidoRepasse()));
+        }
+    }
+
+    /* =====================================================
+       CONSULTA
+       ===================================================== */
+
+    /**
+     * Coberta pelo índice "serie" (dimensao, chave, granularidade, periodo)
+     */
+    @Override
+    public Flux<ReceitaPeriodo> buscarSerie(
+            DimensaoReceita dimensao,
+            String chave,
+            GranularidadeReceita granularidade,
+            LocalDate inicio,
+            LocalDate fim
+    ) {
+        Query query = Query.query(Criteria.where("dimensao").is(dimensao)
+                        .and("chave").is(chave)
+                        .and("granularidade").is(granularidade)
+                        .and("periodo").gte(inicio.toString()).lte(fim.toString()))
+                .with(Sort.by(Sort.Direction.ASC, "periodo"));
+
+        return mongoTemplate.find(query, ReceitaPeriodo.class);
+    }
+
+    /**
+     * Mesmo índice "serie": poucos documentos (um por ano na granularidade ANO)
+     */
+    @Override
+    public Mono<TotaisReceita> somarPeriodos(DimensaoReceita dimensao, String chave, GranularidadeReceita granularidade) {
+        AggregationOperation filtro = contexto -> new Document("$match", new Document("dimensao", dimensao.name())
+                .append("chave", chave)
+                .append("granularidade", granularidade.name()));
+        AggregationOperation soma = contexto -> new Document("$group", new Document("_id", null)
+                .append("transacoes", new Document("$sum", "$transacoes"))
+                .append("faturamentoBruto", new Document("$sum", "$faturamentoBruto"))
+                .append("comissoesPlataforma", new Document("$sum", "$comissoesPlataforma"))
+                .append("repassesAtletas", new Document("$sum", "$repassesAtletas")));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(filtro, soma), COLECAO, Document.class)
+                .next()
+                .map(linha -> new TotaisReceita(
+                        linha.get("transacoes") instanceof Number n ? n.longValue() : 0L,
+                        paraBigDecimal(linha.get("faturamentoBruto")),
+                        paraBigDecimal(linha.get("comissoesPlataforma")),
+                        paraBigDecimal(linha.get("repassesAtletas"))
+                ))
+                .defaultIfEmpty(TotaisReceita.ZERO);
+    }
+
+    /* =====================================================
+       BACKFILL
+       ===================================================== */
+
+    /**
+     * Uma passada em transacoes: cada transação vira uma entrada por
+     * (granularidade, recorte), agrupadas e gravadas com $merge.
+     * Nada além do resultado do $merge trafega até a aplicação.
+     *
+     * Incrementos concorrentes não se perdem:
+     * 1. cada período guarda em "base" os totais atuais;
+     * 2. o marco é tomado depois disso e só transações anteriores a ele
+     *    entram na agregação;
+     * 3. o $merge grava recalculado + (atual - base), ou seja, mantém
+     *    tudo o que os $inc somaram desde o passo 1.
+     * Resta a janela de uma transação criada antes do marco cujo $inc
+     * chega depois do passo 1 (contada duas vezes até a próxima
+     * reconstrução).
+     *
+     * Períodos sem transações anteriores ao marco ficam só com os
+     * incrementos posteriores ao passo 1; os que não receberam nenhum
+     * (transações removidas) são apagados ao final.
+     */
+    @Override
+    public Mono<Void> reconstruir(ZoneId fuso) {
+        return mongoTemplate.updateMulti(new Query(), AggregationUpdate.from(List.of(
+                        contexto -> new Document("$set", new Document("base", totais("$")))
+                )), COLECAO)
+                .then(Mono.defer(() -> reconstruirAte(Date.from(Instant.now()), fuso)));
+    }
+
+    private Mono<Void> reconstruirAte(Date marco, ZoneId fuso) {
+        String tz = fuso.getId();
+
+        List<Document> entradas = new ArrayList<>();
+        for (GranularidadeReceita granularidade : GranularidadeReceita.values()) {
+            Document periodo = new Document("$dateToString", new Document("format", "%Y-%m-%d")
+                    .append("date", new Document("$dateTrunc", new Document("date", "$dataTransacao")
+                            .append("unit", granularidade.getUnidadeMongo())
+                            .append("timezone", tz)))
+                    .append("timezone", tz));
+
+            for (DimensaoReceita dimensao : DimensaoReceita.values()) {
+                entradas.add(new Document("g", granularidade.name())
+                        .append("p", periodo)
+                        .append("d", dimensao.name())
+                        .append("c", dimensao == DimensaoReceita.GLOBAL
+                                ? new Document("$literal", "")
+                                : "$" + dimensao.getCampo()));
+            }
+        }
+
+        List<AggregationOperation> etapas = List.of(
+                contexto -> new Document("$match", new Document("dataTransacao", new Document("$type", "date")
+                        .append("$lt", marco))),
+                contexto -> new Document("$project", new Document("_id", 0)
+                        .append("bruto", decimal("$valorBrutoTotal"))
+                        .append("comissao", decimal("$valorComissaoPlataforma"))
+                        .append("repasse", decimal("$valorLiquidoRepasse"))
+                        .append("entradas", entradas)),
+                contexto -> new Document("$unwind", "$entradas"),
+                // Mesma regra de DimensaoReceita.chaveDe: sem chave, fora do recorte
+                contexto -> new Document("$match", new Document("$or", List.of(
+                        new Document("entradas.d", DimensaoReceita.GLOBAL.name()),
+                        new Document("entradas.c", new Document("$type", "string").append("$ne", ""))
+                ))),
+                contexto -> new Document("$group", new Document("_id", new Document("$concat", List.of(
+                        "$entradas.g", "|", "$entradas.p", "|", "$entradas.d", "|", "$entradas.c")))
+                        .append("granularidade", new Document("$first", "$entradas.g"))
+                        .append("periodo", new Document("$first", "$entradas.p"))
+                        .append("dimensao", new Document("$first", "$entradas.d"))
+                        .append("chave", new Document("$first", "$entradas.c"))
+                        .append("transacoes", new Document("$sum", 1L))
+                        .append("faturamentoBruto", new Document("$sum", "$bruto"))
+                        .append("comissoesPlataforma", new Document("$sum", "$comissao"))
+                        .append("repassesAtletas", new Document("$sum", "$repasse"))),
+                contexto -> new Document("$set", new Document("atualizadoEm", marco)),
+                contexto -> new Document("$merge", new Document("into", COLECAO)
+                        .append("on", "_id")
+                        // $$new: recalculado; "base" não existe em $$new e sai do documento
+                        .append("whenMatched", List.of(new Document("$replaceWith", new Document("$mergeObjects", List.of(
+                                "$$new",
+                                somarIncrementosDesdeABase("$$new.")
+                        )))))
+                        .append("whenNotMatched", "insert"))
+        );
+
+        AggregationOptions opcoes = AggregationOptions.builder()
+                .allowDiskUse(true)
+                // Sem isso o driver relê a coleção de destino após o $merge
+                .skipOutput()
+                .build();
+
+        // Não regravados pelo $merge mas incrementados depois da base: só os incrementos
+        Query semRecalculo = Query.query(Criteria.where("base").exists(true).and("atualizadoEm").gte(marco));
+        AggregationUpdate apenasIncrementos = AggregationUpdate.from(List.of(
+                contexto -> new Document("$set", somarIncrementosDesdeABase(null)),
+                contexto -> new Document("$unset", "base")
+        ));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(etapas).withOptions(opcoes), COLECAO_TRANSACOES, Document.class)
+                .then(mongoTemplate.updateMulti(semRecalculo, apenasIncrementos, COLECAO))
+                .then(mongoTemplate.remove(Query.query(Criteria.where("atualizadoEm").lt(marco)), COLECAO))
+                .then();
+    }
+
+    /**
+     * {campo: prefixo+campo + (campo - base.campo)} para cada total;
+     * prefixo nulo → parte de zero (período sem recálculo)
+     */
+    static Document somarIncrementosDesdeABase(String prefixo) {
+        Document totais = new Document();
+        for (String campo : TOTAIS) {
+            Document incrementos = new Document("$subtract", List.of(
+                    new Document("$ifNull", List.of("$" + campo, 0)),
+                    new Document("$ifNull", List.of("$base." + campo, 0))
+            ));
+            totais.append(campo, prefixo == null
+                    ? incrementos
+                    : new Document("$add", List.of(prefixo + campo, incrementos)));
+        }
+        return totais;
+    }
+
+    private static Document totais(String prefixo) {
+        Document totais = new Document();
+        TOTAIS.forEach(campo -> totais.append(campo, prefixo + campo));
+        return totais;
+    }
+
+    private static Decimal128 decimal128(BigDecimal valor) {
+        return new Decimal128(valor(valor));
+    }
+
+    private static BigDecimal valor(BigDecimal valor) {
+        return valor == null ? BigDecimal.ZERO : valor;
+    }
+}
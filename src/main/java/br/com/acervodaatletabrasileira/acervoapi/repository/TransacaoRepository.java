@@ -4,13 +4,15 @@ import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Repositório para gestão financeira das licenças de uso.
  * Permite o rastreio de receitas da plataforma e repasses para as atletas.
  */
 @Repository
-public interface TransacaoRepository extends ReactiveMongoRepository<Transacao, String> {
+public interface TransacaoRepository
+        extends ReactiveMongoRepository<Transacao, String>, TransacaoRepositoryCustom {
 
     /**
      * Busca todas as transações de uma atleta específica.
@@ -27,4 +29,9 @@ public interface TransacaoRepository extends ReactiveMongoRepository<Transacao,
      * Busca todas as licenças adquiridas por um comprador/pesquisador específico.
      */
     Flux<Transacao> findByCompradorId(String compradorId);
+
+    /**
+     * Desfaz um carrinho gravado sem transação do Mongo (compensação).
+     */
+    Mono<Long> deleteByPedidoId(String pedidoId);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Agregações financeiras calculadas no servidor
+ * (apenas as linhas agregadas trafegam até a aplicação).
+ */
+public interface TransacaoRepositoryCustom {
+
+    /**
+     * Soma de valorBrutoTotal de todas as transações (0 quando não há nenhuma)
+     */
+    Mono<BigDecimal> somarFaturamentoBruto();
+
+    /**
+     * Quantidade de transações da atleta e soma de valorLiquidoRepasse
+     * (zeros quando não há nenhuma)
+     */
+    Mono<TotaisAtleta> somarRepassesDaAtleta(String atletaId);
+
+    record TotaisAtleta(long transacoes, BigDecimal repasses) {
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+public class TransacaoRepositoryCustomImpl implements TransacaoRepositoryCustom {
+
+    private static final String COLECAO = "transacoes";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public TransacaoRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /* =====================================================
+       TOTAIS
+       ===================================================== */
+
+    /**
+     * $group único: o servidor percorre as transações e devolve uma linha.
+     */
+    @Override
+    public Mono<BigDecimal> somarFaturamentoBruto() {
+        AggregationOperation total = contexto -> new Document("$group", new Document("_id", null)
+                .append("total", new Document("$sum", decimal("$valorBrutoTotal"))));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(total), COLECAO, Document.class)
+                .next()
+                .map(resultado -> paraBigDecimal(resultado.get("total")))
+                .defaultIfEmpty(BigDecimal.ZERO);
+    }
+
+    /**
+     * Coberto pelo índice atleta_repasse: o $group lê apenas o índice,
+     * sem carregar as transações.
+     */
+    @Override
+    public Mono<TotaisAtleta> somarRepassesDaAtleta(String atletaId) {
+        AggregationOperation filtro = contexto -> new Document("$match", new Document("atletaId", atletaId));
+        AggregationOperation totais = contexto -> new Document("$group", new Document("_id", null)
+                .append("transacoes", new Document("$sum", 1))
+                .append("repasses", new Document("$sum", decimal("$valorLiquidoRepasse"))));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(filtro, totais), COLECAO, Document.class)
+                .next()
+                .map(resultado -> new TotaisAtleta(
+                        ((Number) resultado.get("transacoes")).longValue(),
+                        paraBigDecimal(resultado.get("repasses"))
+                ))
+                .defaultIfEmpty(new TotaisAtleta(0L, BigDecimal.ZERO));
+    }
+
+    /* =====================================================
+       UTIL
+       ===================================================== */
+
+    /**
+     * BigDecimal é gravado como texto pelo Spring Data (padrão);
+     * $convert aceita tanto texto quanto Decimal128/números.
+     */
+    static Document decimal(String campo) {
+        return new Document("$convert", new Document("input", campo)
+                .append("to", "decimal")
+                .append("onError", new Decimal128(0))
+                .append("onNull", new Decimal128(0)));
+    }
+
+    static BigDecimal paraBigDecimal(Object valor) {
+        if (valor instanceof Decimal128 decimal) return decimal.bigDecimalValue();
+        if (valor instanceof Number numero) return new BigDecimal(numero.toString());
+        return BigDecimal.ZERO;
+    }
+}
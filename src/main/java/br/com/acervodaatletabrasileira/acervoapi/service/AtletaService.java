@@ -3,10 +3,15 @@ package br.com.acervodaatletabrasileira.acervoapi.service;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaFormDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaPerfilDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaPublicoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
 import br.com.acervodaatletabrasileira.acervoapi.model.FotoPerfilAtleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
 import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.util.CacheLocal;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import br.com.acervodaatletabrasileira.acervoapi.util.RespostaCondicional;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -14,7 +19,10 @@ import reactor.core.publisher.Mono;
 
 import java.text.Normalizer;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 @Service
@@ -23,6 +31,10 @@ public class AtletaService {
     private final AtletaRepository atletaRepository;
     private final ItemAcervoRepository acervoRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ItemAcervoService itemAcervoService;
+
+    private final CacheLocal<String, Atleta> atletasPorId;
+    private final CacheLocal<String, Atleta> atletasPorSlug;
 
     private static final Pattern NONLATIN = Pattern.compile("[^\\w-]");
     private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
@@ -30,11 +42,17 @@ public class AtletaService {
     public AtletaService(
             AtletaRepository atletaRepository,
             ItemAcervoRepository acervoRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            ItemAcervoService itemAcervoService,
+            CacheLocalService cacheLocalService
     ) {
         this.atletaRepository = atletaRepository;
         this.acervoRepository = acervoRepository;
         this.passwordEncoder = passwordEncoder;
+        this.itemAcervoService = itemAcervoService;
+        this.atletasPorId = cacheLocalService.criar("atletas.id");
+        this.atletasPorSlug = cacheLocalService.criar("atletas.slug");
+        cacheLocalService.aoAlterarDocumento("atletas", this::invalidarCache);
     }
 
     /* ==========================
@@ -50,16 +68,47 @@ public class AtletaService {
        ========================== */
 
     public Mono<AtletaPerfilDTO> getPerfilCompletoBySlug(String slug) {
-        return atletaRepository.findBySlug(slug)
+        return findBySlug(slug)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Atleta não encontrada com o slug: " + slug)))
-                .flatMap(atleta ->
-                        acervoRepository.findByAtletasIdsContaining(atleta.getId())
-                                .collectList()
-                                .map(itens -> new AtletaPerfilDTO(
-                                        AtletaPublicoDTO.fromModel(atleta),
-                                        itens
-                                ))
-                );
+                .flatMap(this::montarPerfil);
+    }
+
+    /**
+     * Uma única agregação (atleta + $lookup da primeira página + totais por tipo),
+     * já filtrada pelos status públicos no servidor.
+     */
+    public Mono<AtletaPerfilDTO> montarPerfil(Atleta atleta) {
+        return atletaRepository
+                .buscarPerfilAgregado(atleta.getSlug(), ItemAcervoService.STATUS_PUBLICOS, CursorPaginacao.TAMANHO_PADRAO)
+                .map(perfil -> new AtletaPerfilDTO(
+                        AtletaPublicoDTO.fromModel(perfil.atleta()),
+                        perfil.acervo().map(itemAcervoService::toCardDTO),
+                        perfil.totaisPorTipo()
+                ));
+    }
+
+    /**
+     * Versão do perfil para GET condicional, sem montar os cards:
+     * atleta + (id, atualizadoEm) da primeira página + totais por tipo.
+     *
+     * Remover ou desvincular um item muda a página ou os totais, então
+     * o ETag muda. Sem Last-Modified: como nas coleções, remoções não
+     * avançam nenhuma data.
+     */
+    public Mono<RespostaCondicional.Versao> versaoPerfil(Atleta atleta) {
+        return acervoRepository
+                .buscarAcervoVisivel(atleta.getId(), ItemAcervoService.STATUS_PUBLICOS, CursorPaginacao.TAMANHO_PADRAO)
+                .map(acervo -> RespostaCondicional.versaoComposta(
+                        null,
+                        atleta.getId(),
+                        atleta.getAtualizadoEm(),
+                        RespostaCondicional.versaoColecao(
+                                acervo.pagina(),
+                                ItemAcervo::getId,
+                                ItemAcervo::getAtualizadoEm
+                        ).etag(),
+                        acervo.totaisPorTipo()
+                ));
     }
 
     /* ==========================
@@ -70,12 +119,35 @@ public class AtletaService {
         return atletaRepository.findAll();
     }
 
+    /**
+     * Documentos parciais (somente campos públicos), filtrados por categoria no banco
+     */
+    public Mono<PaginaDTO<Atleta>> listarPublicas(Atleta.CategoriaAtleta categoria, String cursor, Integer tamanho) {
+        return atletaRepository.paginarPublicas(categoria, cursor, CursorPaginacao.tamanhoPagina(tamanho));
+    }
+
+    public Flux<Atleta> transmitirPublicas(Atleta.CategoriaAtleta categoria) {
+        return atletaRepository.transmitirPublicas(categoria);
+    }
+
+    /**
+     * Lote por id em uma única consulta (mesma visibilidade de GET /atletas/{id})
+     */
+    public Mono<Map<String, AtletaPublicoDTO>> buscarPublicasPorIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return atletaRepository.buscarPublicasPorIds(ids)
+                .collectMap(Atleta::getId, AtletaPublicoDTO::fromModel)
+                .map(encontradas -> ItemAcervoService.ordenarPorIds(ids, encontradas));
+    }
+
     public Mono<Atleta> findById(String id) {
-        return atletaRepository.findById(id);
+        return atletasPorId.obter(id, atletaRepository::findById);
     }
 
     public Mono<Atleta> findBySlug(String slug) {
-        return atletaRepository.findBySlug(slug);
+        return atletasPorSlug.obter(slug, atletaRepository::findBySlug);
     }
 
     /* ==========================
@@ -141,6 +213,10 @@ public class AtletaService {
                         existente.setSlug(generateSlug(dto.nome()));
                     }
 
+                    // Nomes entram no índice de busca dos itens do acervo
+                    boolean nomesAlterados = !Objects.equals(existente.getNome(), dto.nome())
+                            || !Objects.equals(existente.getNomeSocial(), dto.nomeSocial());
+
                     existente.setNome(dto.nome());
                     existente.setNomeSocial(dto.nomeSocial());
 
@@ -180,7 +256,13 @@ public class AtletaService {
                     existente.setStatusAtleta(dto.statusAtleta());
                     existente.setAtualizadoEm(Instant.now());
 
-                    return atletaRepository.save(existente);
+                    return atletaRepository.save(existente)
+                            .doOnNext(salva -> invalidarCache(salva.getId()))
+                            .doOnNext(salva -> {
+                                if (nomesAlterados) {
+                                    itemAcervoService.agendarReindexacaoPorAtleta(salva.getId());
+                                }
+                            });
                 });
     }
 
@@ -195,7 +277,8 @@ public class AtletaService {
                     atleta.setFotoPerfil(fotoPerfil);
                     atleta.setAtualizadoEm(Instant.now());
                     return atletaRepository.save(atleta);
-                });
+                })
+                .doOnNext(salva -> invalidarCache(salva.getId()));
     }
 
     /* ==========================
@@ -209,7 +292,8 @@ public class AtletaService {
                     atleta.setFotoDestaque(fotoDestaque);
                     atleta.setAtualizadoEm(Instant.now());
                     return atletaRepository.save(atleta);
-                });
+                })
+                .doOnNext(salva -> invalidarCache(salva.getId()));
     }
 
     /* ==========================
@@ -229,11 +313,26 @@ public class AtletaService {
                     }
 
                     return atletaRepository.save(atleta);
-                });
+                })
+                .doOnNext(salva -> invalidarCache(salva.getId()));
     }
 
     public Mono<Void> deleteById(String id) {
-        return atletaRepository.deleteById(id);
+        return atletaRepository.deleteById(id)
+                .doOnSuccess(v -> invalidarCache(id));
+    }
+
+    /* ==========================
+       CACHE
+       ========================== */
+
+    /**
+     * Remove a atleta dos caches por id e por slug
+     * (o slug antigo também sai, mesmo após renomeação).
+     */
+    private void invalidarCache(String atletaId) {
+        atletasPorId.invalidar(atletaId);
+        atletasPorSlug.invalidarSe(atleta -> atletaId.equals(atleta.getId()));
     }
 
     /* ==========================
@@ -0,0 +1,117 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheCoalescidoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheDTO;
+import br.com.acervodaatletabrasileira.acervoapi.util.CacheCoalescido;
+import br.com.acervodaatletabrasileira.acervoapi.util.CacheLocal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Registro dos caches em memória da instância.
+ *
+ * Cada service cria os seus caches aqui (mesmo TTL e capacidade configurados)
+ * e continua responsável por invalidá-los nos próprios caminhos de escrita.
+ * O registro centraliza estatísticas e a limpeza geral.
+ *
+ * Escritas feitas por outras instâncias chegam via change stream
+ * (CacheChangeStreamListener), que repassa o documento alterado
+ * aos invalidadores registrados para a coleção.
+ */
+@Service
+public class CacheLocalService {
+
+    private final Duration ttl;
+    private final int capacidade;
+
+    private final Map<String, CacheLocal<?, ?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, CacheCoalescido<?, ?>> coalescidos = new ConcurrentHashMap<>();
+
+    /**
+     * coleção → invalidadores por id de documento
+     */
+    private final Map<String, List<Consumer<String>>> invalidadores = new ConcurrentHashMap<>();
+
+    /**
+     * Chamados na limpeza geral por quem mantém cópias fora dos caches
+     * registrados (ex: registro de modalidades)
+     */
+    private final List<Runnable> aoInvalidarTudo = new CopyOnWriteArrayList<>();
+
+    public CacheLocalService(
+            @Value("${app.cache.ttl:10m}") Duration ttl,
+            @Value("${app.cache.tamanho-maximo:1000}") int capacidade
+    ) {
+        this.ttl = ttl;
+        this.capacidade = capacidade;
+    }
+
+    public <K, V> CacheLocal<K, V> criar(String nome) {
+        CacheLocal<K, V> cache = new CacheLocal<>(nome, ttl, capacidade);
+        if (caches.putIfAbsent(nome, cache) != null) {
+            throw new IllegalStateException("Cache já registrado: " + nome);
+        }
+        return cache;
+    }
+
+    /**
+     * Cache de resultados calculados (single-flight + stale-while-revalidate),
+     * com TTL próprio e a mesma capacidade dos demais
+     */
+    public <K, V> CacheCoalescido<K, V> criarCoalescido(String nome, Duration ttl, Duration obsoleto) {
+        CacheCoalescido<K, V> cache = new CacheCoalescido<>(nome, ttl, obsoleto, capacidade);
+        if (coalescidos.putIfAbsent(nome, cache) != null) {
+            throw new IllegalStateException("Cache já registrado: " + nome);
+        }
+        return cache;
+    }
+
+    /**
+     * Registra como invalidar, a partir do id, os caches que guardam
+     * documentos da coleção informada.
+     */
+    public void aoAlterarDocumento(String colecao, Consumer<String> invalidador) {
+        invalidadores.computeIfAbsent(colecao, c -> new CopyOnWriteArrayList<>()).add(invalidador);
+    }
+
+    /**
+     * Registra o que recarregar quando todos os caches são esvaziados
+     * (limpeza pelo Admin ou perda do histórico do change stream)
+     */
+    public void aoInvalidarTudo(Runnable recarga) {
+        aoInvalidarTudo.add(recarga);
+    }
+
+    public void documentoAlterado(String colecao, String id) {
+        invalidadores.getOrDefault(colecao, List.of()).forEach(invalidador -> invalidador.accept(id));
+    }
+
+    public List<EstatisticasCacheDTO> estatisticas() {
+        return caches.values()
+                .stream()
+                .map(CacheLocal::estatisticas)
+                .sorted((a, b) -> a.nome().compareTo(b.nome()))
+                .toList();
+    }
+
+    public List<EstatisticasCacheCoalescidoDTO> estatisticasCoalescidos() {
+        return coalescidos.values()
+                .stream()
+                .map(CacheCoalescido::estatisticas)
+                .sorted((a, b) -> a.nome().compareTo(b.nome()))
+                .toList();
+    }
+
+    public void invalidarTudo() {
+        caches.values().forEach(CacheLocal::invalidarTudo);
+        coalescidos.values().forEach(CacheCoalescido::invalidarTudo);
+        aoInvalidarTudo.forEach(Runnable::run);
+    }
+}
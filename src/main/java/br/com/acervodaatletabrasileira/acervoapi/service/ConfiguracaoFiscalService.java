@@ -0,0 +1,145 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.ConfiguracaoFiscalDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.ConfiguracaoFiscal;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ConfiguracaoFiscalRepository;
+import br.com.acervodaatletabrasileira.acervoapi.util.InstantaneoRecarregavel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Regras fiscais vigentes (percentuais de repasse e comissão).
+ *
+ * Documento único que muda raramente: fica em memória
+ * (InstantaneoRecarregavel), carregado na inicialização e trocado por
+ * inteiro a cada escrita — local ou, via change stream, de outra
+ * instância — e na limpeza geral dos caches. Simulação, checkout e
+ * dashboard não vão ao banco para lê-lo.
+ *
+ * Antes da primeira carga, a leitura aguarda o banco: o checkout nunca
+ * cobra pelo padrão só porque a carga ainda não terminou.
+ */
+@Service
+public class ConfiguracaoFiscalService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfiguracaoFiscalService.class);
+
+    public static final String CONFIG_ID = "GLOBAL_SETTINGS";
+
+    // Fallback caso o banco esteja sem configuração inicial
+    private static final BigDecimal DEFAULT_REPASSE = new BigDecimal("0.85");
+    private static final BigDecimal DEFAULT_COMISSAO = new BigDecimal("0.15");
+
+    private final ConfiguracaoFiscalRepository repository;
+    private final InstantaneoRecarregavel<Vigente> vigente;
+
+    public ConfiguracaoFiscalService(
+            ConfiguracaoFiscalRepository repository,
+            CacheLocalService cacheLocalService,
+            @Value("${app.cache.ttl:10m}") Duration validade
+    ) {
+        this.repository = repository;
+        this.vigente = new InstantaneoRecarregavel<>("regras fiscais", validade, null, this::ler);
+        cacheLocalService.aoAlterarDocumento("configuracoes_fiscais", id -> vigente.recarregarEmSegundoPlano());
+        cacheLocalService.aoInvalidarTudo(vigente::recarregarEmSegundoPlano);
+    }
+
+    /**
+     * salva = false → padrão do sistema (nada gravado no banco ainda)
+     */
+    private record Vigente(ConfiguracaoFiscal config, boolean salva) {
+    }
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    /**
+     * Regras em vigor (padrão 85% / 15% quando não configuradas).
+     * O objeto é compartilhado: somente leitura.
+     */
+    public Mono<ConfiguracaoFiscal> regras() {
+        return vigente.obter().map(Vigente::config);
+    }
+
+    /**
+     * Configuração gravada pelo Admin (vazio se ainda não houver)
+     */
+    public Mono<ConfiguracaoFiscal> configurada() {
+        return vigente.obter().filter(Vigente::salva).map(Vigente::config);
+    }
+
+    /* =====================================================
+       ESCRITA (ADMIN)
+       ===================================================== */
+
+    public Mono<ConfiguracaoFiscal> atualizar(ConfiguracaoFiscalDTO dto, String atualizadoPor) {
+        return repository.findById(CONFIG_ID)
+                .defaultIfEmpty(new ConfiguracaoFiscal())
+                .flatMap(config -> {
+                    config.setId(CONFIG_ID);
+                    config.setPercentualRepasseAtleta(dto.percentualRepasseAtleta());
+                    config.setPercentualComissaoPlataforma(dto.percentualComissaoPlataforma());
+                    config.setObservacaoLegal(dto.observacaoLegal());
+
+                    // Auditoria preenchida pelo Sistema, não pelo DTO
+                    config.setAtualizadoEm(Instant.now());
+                    config.setAtualizadoPor(atualizadoPor);
+
+                    return repository.save(config);
+                })
+                // Vale a partir daqui nesta instância; as demais recebem pelo change stream
+                .doOnNext(salva -> vigente.definir(new Vigente(salva, true)));
+    }
+
+    /* =====================================================
+       CARGA
+       ===================================================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (!vigente.carregarNaInicializacao()) {
+            return;
+        }
+        Vigente atual = vigente.atual();
+        log.info(
+                "Regras fiscais carregadas ({}): repasse {} / comissão {}",
+                atual.salva() ? "configuradas" : "padrão",
+                atual.config().getPercentualRepasseAtleta(),
+                atual.config().getPercentualComissaoPlataforma()
+        );
+    }
+
+    /**
+     * Relê o documento e troca a configuração de uma só vez
+     */
+    public Mono<Void> recarregar() {
+        return vigente.recarregar();
+    }
+
+    private Mono<Vigente> ler() {
+        return repository.findById(CONFIG_ID)
+                .map(config -> new Vigente(config, true))
+                .defaultIfEmpty(new Vigente(padrao(), false));
+    }
+
+    private static ConfiguracaoFiscal padrao() {
+        return new ConfiguracaoFiscal(
+                CONFIG_ID,
+                DEFAULT_REPASSE,
+                DEFAULT_COMISSAO,
+                "Configuração padrão do sistema",
+                Instant.now(),
+                "SYSTEM"
+        );
+    }
+}
@@ -2,21 +2,26 @@ package br.com.acervodaatletabrasileira.acervoapi.service;
 
 import br.com.acervodaatletabrasileira.acervoapi.dto.AdminDashboardStatsDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaDashboardStatsDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.SerieReceitaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.DimensaoReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.Estatisticas;
+import br.com.acervodaatletabrasileira.acervoapi.model.GranularidadeReceita;
 import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
-import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
-import br.com.acervodaatletabrasileira.acervoapi.model.ConfiguracaoFiscal;
 import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
-import br.com.acervodaatletabrasileira.acervoapi.repository.ConfiguracaoFiscalRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.ModalidadeRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.TransacaoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.util.CacheCoalescido;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.Instant;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Service
 public class DashboardService {
@@ -25,48 +30,63 @@ public class DashboardService {
     private final ItemAcervoRepository itemRepository;
     private final ModalidadeRepository modalidadeRepository;
     private final TransacaoRepository transacaoRepository;
-    private final ConfiguracaoFiscalRepository configRepository;
+    private final ConfiguracaoFiscalService configuracaoFiscalService;
+    private final EstatisticasService estatisticasService;
+    private final ReceitaService receitaService;
 
-    private static final String CONFIG_ID = "GLOBAL_SETTINGS";
+    /**
+     * Resultados por chave: abas com auto-refresh compartilham o mesmo
+     * cálculo e, por alguns segundos, o mesmo resultado
+     */
+    private final CacheCoalescido<String, AdminDashboardStatsDTO> estatisticasAdmin;
+    private final CacheCoalescido<String, AtletaDashboardStatsDTO> estatisticasAtleta;
+    private final CacheCoalescido<String, SerieReceitaDTO> seriesReceita;
 
     public DashboardService(AtletaRepository atletaRepository,
                             ItemAcervoRepository itemRepository,
                             ModalidadeRepository modalidadeRepository,
                             TransacaoRepository transacaoRepository,
-                            ConfiguracaoFiscalRepository configRepository) {
+                            ConfiguracaoFiscalService configuracaoFiscalService,
+                            EstatisticasService estatisticasService,
+                            ReceitaService receitaService,
+                            CacheLocalService cacheLocalService,
+                            @Value("${app.dashboard.cache.ttl:15s}") Duration ttl,
+                            @Value("${app.dashboard.cache.obsoleto:1m}") Duration obsoleto) {
         this.atletaRepository = atletaRepository;
         this.itemRepository = itemRepository;
         this.modalidadeRepository = modalidadeRepository;
         this.transacaoRepository = transacaoRepository;
-        this.configRepository = configRepository;
+        this.configuracaoFiscalService = configuracaoFiscalService;
+        this.estatisticasService = estatisticasService;
+        this.receitaService = receitaService;
+        this.estatisticasAdmin = cacheLocalService.criarCoalescido("dashboard.admin", ttl, obsoleto);
+        this.estatisticasAtleta = cacheLocalService.criarCoalescido("dashboard.atleta", ttl, obsoleto);
+        this.seriesReceita = cacheLocalService.criarCoalescido("dashboard.receita", ttl, obsoleto);
     }
 
     /**
      * Visão Consolidada para Curadoria e Gestão (ADMIN)
      * Agora integra as taxas dinâmicas para o cálculo de comissões.
+     *
+     * Acervo vem do documento de estatísticas materializado e o
+     * faturamento dos agregados anuais de receita (ambos mantidos por
+     * $inc nas escritas): leituras independentes do tamanho do acervo
+     * e do histórico financeiro.
      */
     public Mono<AdminDashboardStatsDTO> getAdminStats() {
-        return configRepository.findById(CONFIG_ID)
-                .defaultIfEmpty(new ConfiguracaoFiscal(CONFIG_ID, new BigDecimal("0.85"), new BigDecimal("0.15"), "Padrão", Instant.now(), "SYSTEM"))
+        return estatisticasAdmin.obter("admin", this::calcularAdminStats);
+    }
+
+    private Mono<AdminDashboardStatsDTO> calcularAdminStats() {
+        return configuracaoFiscalService.regras()
                 .flatMap(config -> Mono.zip(
                         atletaRepository.count(),
-                        itemRepository.count(),
                         modalidadeRepository.count(),
-                        itemRepository.countByStatus(StatusItemAcervo.RASCUNHO),
-                        itemRepository.findAll().collectList(),
-                        transacaoRepository.findAll().collectList()
+                        estatisticasService.global(),
+                        receitaService.totalGlobal()
                 ).map(tuple -> {
-                    var itensPorTipo = tuple.getT5().stream()
-                            .filter(item -> item.getTipo() != null)
-                            .collect(Collectors.groupingBy(
-                                    item -> item.getTipo().name(),
-                                    Collectors.counting()
-                            ));
-
-                    BigDecimal faturamentoTotal = tuple.getT6().stream()
-                            .map(Transacao::getValorBrutoTotal)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add)
-                            .setScale(2, RoundingMode.HALF_UP);
+                    Estatisticas global = tuple.getT3();
+                    BigDecimal faturamentoTotal = tuple.getT4().faturamentoBruto().setScale(2, RoundingMode.HALF_UP);
 
                     // Em vez de taxa fixa, usamos o que o Admin definiu na Tabela Fiscal
                     BigDecimal totalComissoes = faturamentoTotal.multiply(config.getPercentualComissaoPlataforma())
@@ -74,10 +94,10 @@ public class DashboardService {
 
                     return new AdminDashboardStatsDTO(
                             tuple.getT1(), // totalAtletas
-                            tuple.getT2(), // totalItens
-                            tuple.getT3(), // totalModalidades
-                            tuple.getT4(), // itensAguardandoPublicacao
-                            itensPorTipo,
+                            global.getTotalItens(),
+                            tuple.getT2(), // totalModalidades
+                            global.itensComStatus(StatusItemAcervo.RASCUNHO), // itensAguardandoPublicacao
+                            semZeros(global.getItensPorTipo()),
                             faturamentoTotal,
                             totalComissoes
                     );
@@ -86,35 +106,113 @@ public class DashboardService {
 
     /**
      * Visão Personalizada para a Atleta (Finanças e Acervo)
+     *
+     * Id resolvido numa única consulta (id ou e-mail); depois o documento
+     * de estatísticas materializado. Se ele ainda não existe, os números
+     * saem de duas agregações em paralelo ($group por status nos itens e
+     * contagem + soma de repasse nas transações), sem carregar documentos.
      */
     public Mono<AtletaDashboardStatsDTO> getAtletaStats(String identificador) {
-        return atletaRepository.findById(identificador)
-                .switchIfEmpty(atletaRepository.findByEmail(identificador))
-                .switchIfEmpty(Mono.error(new RuntimeException("Atleta não encontrada: " + identificador)))
-                .flatMap(atleta -> {
-                    String atletaId = atleta.getId();
-                    return Mono.zip(
-                            itemRepository.countByAtletasIdsContaining(atletaId),
-                            itemRepository.countByAtletasIdsContainingAndStatus(atletaId, StatusItemAcervo.PUBLICADO),
-                            itemRepository.countByAtletasIdsContainingAndStatus(atletaId, StatusItemAcervo.RASCUNHO),
-                            itemRepository.countByAtletasIdsContainingAndStatus(atletaId, StatusItemAcervo.MEMORIAL),
-                            transacaoRepository.findByAtletaId(atletaId).collectList()
-                    ).map(tuple -> {
-                        // Aqui somamos o que já foi calculado no momento da venda (Snapshot)
-                        BigDecimal saldoTotalAtleta = tuple.getT5().stream()
-                                .map(Transacao::getValorLiquidoRepasse)
-                                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                                .setScale(2, RoundingMode.HALF_UP);
-
-                        return new AtletaDashboardStatsDTO(
-                                tuple.getT1(),
-                                tuple.getT2(),
-                                tuple.getT3(),
-                                tuple.getT4(),
-                                (long) tuple.getT5().size(),
-                                saldoTotalAtleta
-                        );
-                    });
-                });
+        return estatisticasAtleta.obter(identificador, () -> calcularAtletaStats(identificador));
+    }
+
+    private Mono<AtletaDashboardStatsDTO> calcularAtletaStats(String identificador) {
+        return resolverAtletaId(identificador)
+                .flatMap(atletaId -> estatisticasService.daAtleta(atletaId)
+                        .switchIfEmpty(Mono.defer(() -> calcularEstatisticasAtleta(atletaId))))
+                .map(estatisticas -> new AtletaDashboardStatsDTO(
+                        estatisticas.getTotalItens(),
+                        estatisticas.itensComStatus(StatusItemAcervo.PUBLICADO),
+                        estatisticas.itensComStatus(StatusItemAcervo.RASCUNHO),
+                        estatisticas.itensComStatus(StatusItemAcervo.MEMORIAL),
+                        estatisticas.getTotalTransacoes(),
+                        // Soma dos repasses calculados no momento de cada venda (Snapshot)
+                        estatisticas.getRepassesAtletas().setScale(2, RoundingMode.HALF_UP)
+                ));
+    }
+
+    private Mono<Estatisticas> calcularEstatisticasAtleta(String atletaId) {
+        return Mono.zip(
+                itemRepository.contarPorStatusDaAtleta(atletaId),
+                transacaoRepository.somarRepassesDaAtleta(atletaId)
+        ).map(tuple -> {
+            Estatisticas estatisticas = Estatisticas.vazia(Estatisticas.idAtleta(atletaId));
+            estatisticas.setItensPorStatus(tuple.getT1());
+            estatisticas.setTotalItens(tuple.getT1().values().stream().mapToLong(Long::longValue).sum());
+            estatisticas.setTotalTransacoes(tuple.getT2().transacoes());
+            estatisticas.setRepassesAtletas(tuple.getT2().repasses());
+            return estatisticas;
+        });
+    }
+
+    /**
+     * Receita ao longo do tempo (Admin), em qualquer recorte
+     */
+    public Mono<SerieReceitaDTO> getReceita(
+            GranularidadeReceita granularidade,
+            DimensaoReceita dimensao,
+            String chave,
+            LocalDate inicio,
+            LocalDate fim
+    ) {
+        return seriesReceita.obter(
+                chaveSerie(granularidade, dimensao, chave, inicio, fim),
+                () -> receitaService.serie(granularidade, dimensao, chave, inicio, fim)
+        );
+    }
+
+    /**
+     * Receita da própria atleta ao longo do tempo (agregados por período)
+     */
+    public Mono<SerieReceitaDTO> getAtletaReceita(
+            String identificador,
+            GranularidadeReceita granularidade,
+            LocalDate inicio,
+            LocalDate fim
+    ) {
+        return seriesReceita.obter(
+                chaveSerie(granularidade, null, identificador, inicio, fim),
+                () -> resolverAtletaId(identificador)
+                        .flatMap(atletaId -> receitaService.serie(granularidade, DimensaoReceita.ATLETA, atletaId, inicio, fim))
+        );
+    }
+
+    /**
+     * dimensao nula → série da atleta logada (chave = identificador do token)
+     */
+    private static String chaveSerie(
+            GranularidadeReceita granularidade,
+            DimensaoReceita dimensao,
+            String chave,
+            LocalDate inicio,
+            LocalDate fim
+    ) {
+        return String.join("|",
+                dimensao == null ? "ATLETA_LOGADA" : dimensao.name(),
+                String.valueOf(chave),
+                granularidade.name(),
+                String.valueOf(inicio),
+                String.valueOf(fim)
+        );
+    }
+
+    private Mono<String> resolverAtletaId(String identificador) {
+        return atletaRepository.resolverId(identificador)
+                .switchIfEmpty(Mono.error(new RuntimeException("Atleta não encontrada: " + identificador)));
+    }
+
+    /**
+     * Contadores decrementados até zero permanecem no documento
+     */
+    private static Map<String, Long> semZeros(Map<String, Long> contagens) {
+        Map<String, Long> filtrado = new LinkedHashMap<>();
+        if (contagens != null) {
+            contagens.forEach((chave, valor) -> {
+                if (valor != null && valor > 0) {
+                    filtrado.put(chave, valor);
+                }
+            });
+        }
+        return filtrado;
     }
-}
\ No newline at end of file
+}
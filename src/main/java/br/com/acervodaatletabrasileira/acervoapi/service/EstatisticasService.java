@@ -0,0 +1,292 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Estatisticas;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
+import br.com.acervodaatletabrasileira.acervoapi.repository.EstatisticasRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Estatísticas materializadas dos dashboards.
+ *
+ * - Caminhos de escrita (itens e transações) aplicam $inc atômicos
+ *   com a diferença entre o estado anterior e o novo.
+ * - Um recálculo completo periódico detecta e corrige desvios
+ *   (incremento perdido por falha, escrita fora da API, etc).
+ *
+ * Falha ao incrementar nunca derruba a escrita principal: o desvio
+ * fica registrado no log e é corrigido no próximo recálculo.
+ */
+@Service
+public class EstatisticasService {
+
+    private static final Logger log = LoggerFactory.getLogger(EstatisticasService.class);
+
+    private final EstatisticasRepository repository;
+    private final Duration periodoRecalculo;
+
+    private volatile Disposable recalculo;
+
+    public EstatisticasService(
+            EstatisticasRepository repository,
+            @Value("${app.estatisticas.recalculo:6h}") Duration periodoRecalculo
+    ) {
+        this.repository = repository;
+        this.periodoRecalculo = periodoRecalculo;
+    }
+
+    /**
+     * Campos de um item que entram nas estatísticas
+     * (capturados antes de qualquer alteração no documento)
+     */
+    public record RetratoItem(
+            StatusItemAcervo status,
+            TipoItemAcervo tipo,
+            String modalidadeId,
+            Set<String> atletasIds
+    ) {
+        public static RetratoItem de(ItemAcervo item) {
+            if (item == null) {
+                return null;
+            }
+            return new RetratoItem(
+                    item.getStatus(),
+                    item.getTipo(),
+                    item.getModalidadeId(),
+                    item.getAtletasIds() == null ? Set.of() : new LinkedHashSet<>(item.getAtletasIds())
+            );
+        }
+    }
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    public Mono<Estatisticas> global() {
+        return repository.findById(Estatisticas.ID_GLOBAL)
+                .defaultIfEmpty(Estatisticas.vazia(Estatisticas.ID_GLOBAL));
+    }
+
+    /**
+     * Vazio enquanto o documento da atleta não foi materializado
+     * (nenhum incremento nem recálculo desde o cadastro)
+     */
+    public Mono<Estatisticas> daAtleta(String atletaId) {
+        return repository.findById(Estatisticas.idAtleta(atletaId));
+    }
+
+    /* =====================================================
+       INCREMENTOS
+       ===================================================== */
+
+    /**
+     * anterior nulo → criação; atual nulo → remoção.
+     * Só os contadores que de fato mudaram são incrementados.
+     */
+    public Mono<Void> registrarItem(RetratoItem anterior, RetratoItem atual) {
+        Map<String, Map<String, Number>> incrementos = new HashMap<>();
+        contribuir(incrementos, anterior, -1L);
+        contribuir(incrementos, atual, 1L);
+
+        incrementos.values().forEach(deltas -> deltas.values().removeIf(delta -> delta.longValue() == 0L));
+        incrementos.values().removeIf(Map::isEmpty);
+
+        return aplicar(incrementos);
+    }
+
+    public Mono<Void> registrarTransacao(Transacao transacao) {
+        return registrarTransacoes(List.of(transacao));
+    }
+
+    /**
+     * Lote (carrinho): deltas somados por documento, uma única escrita.
+     * Só os documentos por atleta: o total da plataforma é lido de
+     * receita_periodos (ReceitaService.totalGlobal).
+     */
+    public Mono<Void> registrarTransacoes(List<Transacao> transacoes) {
+        Map<String, Map<String, Number>> incrementos = new HashMap<>();
+
+        for (Transacao transacao : transacoes) {
+            if (transacao.getAtletaId() == null || transacao.getAtletaId().isBlank()) {
+                continue;
+            }
+            Map<String, Number> atleta = incrementos.computeIfAbsent(
+                    Estatisticas.idAtleta(transacao.getAtletaId()), id -> new HashMap<>());
+            somar(atleta, "totalTransacoes", 1L);
+            somarValor(atleta, "faturamentoBruto", valor(transacao.getValorBrutoTotal()));
+            somarValor(atleta, "repassesAtletas", valor(transacao.getValorLiquidoRepasse()));
+        }
+
+        return aplicar(incrementos);
+    }
+
+    private void contribuir(Map<String, Map<String, Number>> incrementos, RetratoItem item, long sinal) {
+        if (item == null) {
+            return;
+        }
+
+        Map<String, Number> global = incrementos.computeIfAbsent(Estatisticas.ID_GLOBAL, id -> new HashMap<>());
+        somar(global, "totalItens", sinal);
+        somarChave(global, "itensPorStatus", item.status() == null ? null : item.status().name(), sinal);
+        somarChave(global, "itensPorTipo", item.tipo() == null ? null : item.tipo().name(), sinal);
+        somarChave(global, "itensPorModalidade", item.modalidadeId(), sinal);
+
+        for (String atletaId : item.atletasIds()) {
+            if (atletaId == null || atletaId.isBlank()) {
+                continue;
+            }
+            Map<String, Number> atleta = incrementos.computeIfAbsent(Estatisticas.idAtleta(atletaId), id -> new HashMap<>());
+            somar(atleta, "totalItens", sinal);
+            somarChave(atleta, "itensPorStatus", item.status() == null ? null : item.status().name(), sinal);
+        }
+    }
+
+    private static void somarChave(Map<String, Number> deltas, String mapa, String chave, long sinal) {
+        if (Estatisticas.chaveValida(chave)) {
+            somar(deltas, mapa + "." + chave, sinal);
+        }
+    }
+
+    private static void somar(Map<String, Number> deltas, String campo, long sinal) {
+        deltas.merge(campo, sinal, (a, b) -> a.longValue() + b.longValue());
+    }
+
+    private static void somarValor(Map<String, Number> deltas, String campo, BigDecimal valor) {
+        deltas.merge(campo, valor, (a, b) -> ((BigDecimal) a).add((BigDecimal) b));
+    }
+
+    private Mono<Void> aplicar(Map<String, Map<String, Number>> incrementos) {
+        return repository.incrementar(incrementos)
+                .onErrorResume(e -> {
+                    log.warn("Falha ao atualizar estatísticas (corrigido no próximo recálculo): {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static BigDecimal valor(BigDecimal valor) {
+        return valor == null ? BigDecimal.ZERO : valor;
+    }
+
+    /* =====================================================
+       RECÁLCULO / REPARO DE DESVIO
+       ===================================================== */
+
+    /**
+     * Primeiro recálculo logo após a inicialização (também cria os
+     * documentos numa base que ainda não os tem), depois a cada período.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciarRecalculo() {
+        if (periodoRecalculo.isZero() || periodoRecalculo.isNegative()) {
+            log.info("Recálculo periódico de estatísticas desabilitado");
+            return;
+        }
+
+        recalculo = Flux.interval(Duration.ZERO, periodoRecalculo)
+                // Um recálculo por vez: ticks durante uma execução longa são descartados
+                .onBackpressureDrop()
+                .concatMap(tick -> recalcular()
+                        .onErrorResume(e -> {
+                            log.warn("Recálculo de estatísticas falhou: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void encerrarRecalculo() {
+        Disposable atual = recalculo;
+        if (atual != null) {
+            atual.dispose();
+        }
+    }
+
+    /**
+     * Compara cada documento com o recálculo e sobrescreve os divergentes.
+     * Documentos sem correspondente (ex: atleta cujos itens foram removidos)
+     * são zerados.
+     *
+     * As versões são lidas ANTES das agregações; a troca só acontece se
+     * nenhum $inc chegou depois disso, então um incremento concorrente
+     * não é apagado — o documento fica para o próximo ciclo.
+     * Resta a janela entre salvar o item/transação e aplicar o seu $inc
+     * (a agregação já vê a escrita, o $inc chega após a troca): a contagem
+     * dobrada resultante é corrigida no ciclo seguinte.
+     *
+     * @return quantidade de documentos corrigidos
+     */
+    public Mono<Long> recalcular() {
+        return repository.findAll()
+                .collectMap(Estatisticas::getId, Function.identity())
+                .flatMap(atuais -> repository.recalcular()
+                        .collectMap(Estatisticas::getId, Function.identity())
+                        .flatMapMany(recalculadas -> {
+                            Set<String> ids = new LinkedHashSet<>(recalculadas.keySet());
+                            ids.addAll(atuais.keySet());
+
+                            return Flux.fromIterable(ids).concatMap(id -> reparar(
+                                    atuais.get(id),
+                                    recalculadas.getOrDefault(id, Estatisticas.vazia(id))
+                            ));
+                        })
+                        .filter(Boolean::booleanValue)
+                        .count())
+                .doOnNext(corrigidos -> {
+                    if (corrigidos > 0) {
+                        log.warn("Recálculo de estatísticas corrigiu {} documento(s) com desvio", corrigidos);
+                    } else {
+                        log.debug("Recálculo de estatísticas: nenhum desvio");
+                    }
+                });
+    }
+
+    private Mono<Boolean> reparar(Estatisticas atual, Estatisticas recalculada) {
+        if (atual != null && atual.mesmosValores(recalculada)) {
+            return Mono.just(false);
+        }
+
+        if (atual != null) {
+            log.info("Desvio em estatísticas '{}': {}", recalculada.getId(), diferencas(atual, recalculada));
+        }
+
+        Instant agora = Instant.now();
+        recalculada.setAtualizadoEm(agora);
+        recalculada.setReparadoEm(agora);
+
+        return repository.substituirSeVersao(recalculada, atual == null ? null : atual.getVersao())
+                .doOnNext(substituido -> {
+                    if (!substituido) {
+                        log.debug("Estatísticas '{}' alteradas durante o recálculo; reparo adiado", recalculada.getId());
+                    }
+                });
+    }
+
+    private static String diferencas(Estatisticas atual, Estatisticas recalculada) {
+        return String.join(", ",
+                "totalItens=" + atual.getTotalItens() + "→" + recalculada.getTotalItens(),
+                "totalTransacoes=" + atual.getTotalTransacoes() + "→" + recalculada.getTotalTransacoes(),
+                "faturamentoBruto=" + atual.getFaturamentoBruto() + "→" + recalculada.getFaturamentoBruto()
+        );
+    }
+}
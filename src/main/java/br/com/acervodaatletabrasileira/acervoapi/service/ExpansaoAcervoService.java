@@ -0,0 +1,153 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.AtletaResumoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoCardDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoResponseDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ModalidadeResumoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.ExpansaoAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Expansão (?expand=atletas,modalidade) das respostas do acervo.
+ *
+ * Os ids referenciados por todos os itens de uma página/lote são
+ * deduplicados e resolvidos de uma vez:
+ * - atletas: uma única consulta $in com projeção pública
+ * - modalidades: registro em memória do ModalidadeService (sem banco)
+ */
+@Service
+public class ExpansaoAcervoService {
+
+    private final AtletaRepository atletaRepository;
+    private final ModalidadeService modalidadeService;
+
+    public ExpansaoAcervoService(AtletaRepository atletaRepository, ModalidadeService modalidadeService) {
+        this.atletaRepository = atletaRepository;
+        this.modalidadeService = modalidadeService;
+    }
+
+    /* =====================================================
+       API
+       ===================================================== */
+
+    public Mono<ItemAcervoResponseDTO> expandir(ItemAcervoResponseDTO item, Set<ExpansaoAcervo> expansoes) {
+        return expandirDetalhes(List.of(item), expansoes).map(itens -> itens.get(0));
+    }
+
+    public Mono<List<ItemAcervoResponseDTO>> expandirDetalhes(
+            List<ItemAcervoResponseDTO> itens,
+            Set<ExpansaoAcervo> expansoes
+    ) {
+        return expandir(
+                itens,
+                expansoes,
+                ItemAcervoResponseDTO::atletasIds,
+                ItemAcervoResponseDTO::modalidadeId,
+                ItemAcervoResponseDTO::comResumos
+        );
+    }
+
+    public Mono<List<ItemAcervoCardDTO>> expandirCards(List<ItemAcervoCardDTO> cards, Set<ExpansaoAcervo> expansoes) {
+        return expandir(
+                cards,
+                expansoes,
+                ItemAcervoCardDTO::atletasIds,
+                ItemAcervoCardDTO::modalidadeId,
+                ItemAcervoCardDTO::comResumos
+        );
+    }
+
+    public Mono<PaginaDTO<ItemAcervoCardDTO>> expandirPagina(
+            PaginaDTO<ItemAcervoCardDTO> pagina,
+            Set<ExpansaoAcervo> expansoes
+    ) {
+        return expandirCards(pagina.itens(), expansoes)
+                .map(itens -> new PaginaDTO<>(itens, pagina.proximoCursor()));
+    }
+
+    /* =====================================================
+       RESOLUÇÃO EM LOTE
+       ===================================================== */
+
+    @FunctionalInterface
+    private interface ComResumos<T> {
+        T aplicar(T item, List<AtletaResumoDTO> atletas, ModalidadeResumoDTO modalidade);
+    }
+
+    private <T> Mono<List<T>> expandir(
+            List<T> itens,
+            Set<ExpansaoAcervo> expansoes,
+            Function<T, List<String>> atletasIds,
+            Function<T, String> modalidadeId,
+            ComResumos<T> comResumos
+    ) {
+        if (expansoes.isEmpty() || itens.isEmpty()) {
+            return Mono.just(itens);
+        }
+
+        boolean expandirAtletas = expansoes.contains(ExpansaoAcervo.ATLETAS);
+        boolean expandirModalidade = expansoes.contains(ExpansaoAcervo.MODALIDADE);
+
+        Set<String> idsAtletas = new LinkedHashSet<>();
+        Set<String> idsModalidades = new LinkedHashSet<>();
+        for (T item : itens) {
+            if (expandirAtletas && atletasIds.apply(item) != null) {
+                atletasIds.apply(item).stream().filter(Objects::nonNull).forEach(idsAtletas::add);
+            }
+            if (expandirModalidade && modalidadeId.apply(item) != null) {
+                idsModalidades.add(modalidadeId.apply(item));
+            }
+        }
+
+        Map<String, ModalidadeResumoDTO> modalidades = new LinkedHashMap<>();
+        modalidadeService.buscarAtivasPorIds(idsModalidades)
+                .forEach((id, modalidade) -> modalidades.put(id, ModalidadeResumoDTO.fromModel(modalidade)));
+
+        return resumirAtletas(idsAtletas)
+                .map(atletas -> itens.stream()
+                        .map(item -> comResumos.aplicar(
+                                item,
+                                expandirAtletas ? resumosDe(atletasIds.apply(item), atletas) : null,
+                                expandirModalidade ? modalidades.get(modalidadeId.apply(item)) : null
+                        ))
+                        .toList());
+    }
+
+    private Mono<Map<String, AtletaResumoDTO>> resumirAtletas(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return atletaRepository.buscarPublicasPorIds(ids)
+                .collectMap(Atleta::getId, AtletaResumoDTO::fromModel);
+    }
+
+    /**
+     * Na ordem de atletasIds do item; ids sem atleta correspondente são omitidos
+     */
+    private List<AtletaResumoDTO> resumosDe(List<String> ids, Map<String, AtletaResumoDTO> atletas) {
+        List<AtletaResumoDTO> resumos = new ArrayList<>();
+        if (ids != null) {
+            for (String id : ids) {
+                AtletaResumoDTO resumo = atletas.get(id);
+                if (resumo != null) {
+                    resumos.add(resumo);
+                }
+            }
+        }
+        return resumos;
+    }
+}
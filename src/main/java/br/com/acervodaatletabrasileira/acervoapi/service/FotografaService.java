@@ -1,8 +1,11 @@
 package br.com.acervodaatletabrasileira.acervoapi.service;
 
 import br.com.acervodaatletabrasileira.acervoapi.dto.FotografaPerfilDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.model.Fotografa;
 import br.com.acervodaatletabrasileira.acervoapi.repository.FotografaRepository;
+import br.com.acervodaatletabrasileira.acervoapi.util.CacheLocal;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -19,13 +22,18 @@ public class FotografaService {
     private final FotografaRepository fotografaRepository;
     private final PasswordEncoder passwordEncoder;
 
+    private final CacheLocal<String, Fotografa> fotografasPorSlug;
+
     private static final Pattern NONLATIN = Pattern.compile("[^\\w-]");
     private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
 
     public FotografaService(FotografaRepository fotografaRepository,
-                            PasswordEncoder passwordEncoder) {
+                            PasswordEncoder passwordEncoder,
+                            CacheLocalService cacheLocalService) {
         this.fotografaRepository = fotografaRepository;
         this.passwordEncoder = passwordEncoder;
+        this.fotografasPorSlug = cacheLocalService.criar("fotografas.slug");
+        cacheLocalService.aoAlterarDocumento("fotografas", this::invalidarCache);
     }
 
     /* ==========================
@@ -45,14 +53,19 @@ public class FotografaService {
        ========================== */
 
     /**
-     * Lista apenas fotógrafas públicas
-     * (ativas, espólio ou memorial)
+     * Lista apenas fotógrafas públicas (não bloqueadas).
+     * Documentos parciais: somente campos públicos, filtrados no banco.
      */
-    public Flux<Fotografa> findAllPublicas() {
-        return fotografaRepository.findAll()
-                .filter(f ->
-                        f.getStatusFotografa() != Fotografa.StatusFotografa.BLOQUEADA
-                );
+    public Mono<PaginaDTO<Fotografa>> listarPublicas(
+            Fotografa.CategoriaFotografa categoria,
+            String cursor,
+            Integer tamanho
+    ) {
+        return fotografaRepository.paginarPublicas(categoria, cursor, CursorPaginacao.tamanhoPagina(tamanho));
+    }
+
+    public Flux<Fotografa> transmitirPublicas(Fotografa.CategoriaFotografa categoria) {
+        return fotografaRepository.transmitirPublicas(categoria);
     }
 
     public Mono<Fotografa> findPublicaById(String id) {
@@ -61,7 +74,7 @@ public class FotografaService {
     }
 
     public Mono<Fotografa> findPublicaBySlug(String slug) {
-        return fotografaRepository.findBySlug(slug)
+        return fotografasPorSlug.obter(slug, fotografaRepository::findBySlug)
                 .filter(f -> f.getStatusFotografa() != Fotografa.StatusFotografa.BLOQUEADA);
     }
 
@@ -74,7 +87,7 @@ public class FotografaService {
      * A coleção poderá ser agregada aqui futuramente.
      */
     public Mono<FotografaPerfilDTO> getPerfilCompletoBySlug(String slug) {
-        return fotografaRepository.findBySlug(slug)
+        return fotografasPorSlug.obter(slug, fotografaRepository::findBySlug)
                 .switchIfEmpty(Mono.error(
                         new IllegalArgumentException("Fotógrafa não encontrada com slug: " + slug)
                 ))
@@ -155,7 +168,8 @@ public class FotografaService {
                     existente.setAtualizadoEm(Instant.now());
 
                     return fotografaRepository.save(existente);
-                });
+                })
+                .doOnNext(salva -> invalidarCache(salva.getId()));
     }
 
     /* ==========================
@@ -179,7 +193,8 @@ public class FotografaService {
                     }
 
                     return fotografaRepository.save(f);
-                });
+                })
+                .doOnNext(salva -> invalidarCache(salva.getId()));
     }
 
     /* ==========================
@@ -187,7 +202,16 @@ public class FotografaService {
        ========================== */
 
     public Mono<Void> deleteById(String id) {
-        return fotografaRepository.deleteById(id);
+        return fotografaRepository.deleteById(id)
+                .doOnSuccess(v -> invalidarCache(id));
+    }
+
+    /* ==========================
+       CACHE
+       ========================== */
+
+    private void invalidarCache(String fotografaId) {
+        fotografasPorSlug.invalidarSe(fotografa -> fotografaId.equals(fotografa.getId()));
     }
 
     /* ==========================
@@ -0,0 +1,283 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ChaveIdempotencia;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ChaveIdempotenciaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key para operações que não podem repetir efeito
+ * (ex: efetivação de licenciamento, que gera transação e receita).
+ *
+ * - Primeira requisição: reserva a chave em chaves_idempotencia,
+ *   executa e guarda a resposta.
+ * - Repetição concluída: recebe a resposta guardada, sem executar.
+ * - Repetição concorrente: aguarda o resultado da primeira — na mesma
+ *   instância compartilhando a execução, entre instâncias consultando
+ *   a reserva até concluir (ou até app.idempotencia.espera-maxima).
+ * - Falha da operação libera a chave: a próxima tentativa executa de novo.
+ * - Reserva EM_ANDAMENTO além de app.idempotencia.processamento-maximo
+ *   (instância caiu, resposta não foi gravada ou operação lenta) nunca é
+ *   executada de novo: o efeito pode já ter ocorrido. A repetição é
+ *   recusada de imediato e o cliente confere o extrato antes de usar
+ *   outra chave.
+ *
+ * A chave vale por escopo (operação + usuário) e é recusada se reaparecer
+ * com outro corpo de requisição.
+ *
+ * Os erros têm tipos próprios para o controller distinguir conflito
+ * (não adianta repetir) de falha comum.
+ */
+@Service
+public class IdempotenciaService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotenciaService.class);
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+    private static final Duration INTERVALO_CONSULTA = Duration.ofMillis(100);
+
+    private final ChaveIdempotenciaRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration validade;
+    private final Duration esperaMaxima;
+    private final Duration processamentoMaximo;
+
+    /**
+     * Execuções em andamento nesta instância (id → resultado compartilhado)
+     */
+    private final Map<String, Mono<?>> emAndamento = new ConcurrentHashMap<>();
+
+    public IdempotenciaService(
+            ChaveIdempotenciaRepository repository,
+            ObjectMapper objectMapper,
+            @Value("${app.idempotencia.validade:24h}") Duration validade,
+            @Value("${app.idempotencia.espera-maxima:30s}") Duration esperaMaxima,
+            @Value("${app.idempotencia.processamento-maximo:2m}") Duration processamentoMaximo
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.validade = validade;
+        this.esperaMaxima = esperaMaxima;
+        this.processamentoMaximo = processamentoMaximo;
+    }
+
+    /**
+     * Executa a operação no máximo uma vez por (escopo, chave).
+     * Sem chave, apenas executa.
+     *
+     * @param requisicao corpo da requisição (compõe a impressão da chave)
+     * @param tipo       tipo da resposta, para reconstruí-la do JSON guardado
+     */
+    public <T> Mono<T> executar(
+            String escopo,
+            String chave,
+            Object requisicao,
+            Class<T> tipo,
+            Supplier<Mono<T>> operacao
+    ) {
+        if (chave == null || chave.isBlank()) {
+            return Mono.defer(operacao);
+        }
+
+        return Mono.defer(() -> {
+            if (chave.length() > TAMANHO_MAXIMO_CHAVE) {
+                return Mono.error(new ChaveInvalidaException(
+                        "Idempotency-Key excede " + TAMANHO_MAXIMO_CHAVE + " caracteres"
+                ));
+            }
+
+            String id = escopo + "|" + chave;
+            long limiteNanos = System.nanoTime() + esperaMaxima.toNanos();
+            return tentar(id, impressao(requisicao), tipo, operacao, limiteNanos);
+        });
+    }
+
+    /* =====================================================
+       RESERVA / ESPERA
+       ===================================================== */
+
+    private <T> Mono<T> tentar(String id, String impressao, Class<T> tipo, Supplier<Mono<T>> operacao, long limiteNanos) {
+        String dono = UUID.randomUUID().toString();
+        Instant agora = Instant.now();
+        ChaveIdempotencia reserva = new ChaveIdempotencia(
+                id, impressao, ChaveIdempotencia.Status.EM_ANDAMENTO, dono, null, agora, null, agora.plus(validade)
+        );
+
+        return repository.reservar(reserva)
+                .flatMap(reservada -> reservada
+                        ? executarComoDono(id, dono, tipo, operacao)
+                        : acompanhar(id, impressao, tipo, operacao, limiteNanos));
+    }
+
+    private <T> Mono<T> acompanhar(String id, String impressao, Class<T> tipo, Supplier<Mono<T>> operacao, long limiteNanos) {
+        return repository.findById(id)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(lida -> {
+                    if (lida.isEmpty()) {
+                        // Liberada entre a reserva e a leitura (a primeira falhou): reserva de novo
+                        return aguardar(id, impressao, tipo, operacao, limiteNanos, Duration.ZERO);
+                    }
+
+                    ChaveIdempotencia existente = lida.get();
+                    if (!impressao.equals(existente.getImpressao())) {
+                        return Mono.error(new ChaveReutilizadaException(
+                                "Idempotency-Key já utilizada com outra requisição"
+                        ));
+                    }
+
+                    if (existente.getStatus() == ChaveIdempotencia.Status.CONCLUIDA) {
+                        return Mono.just(ler(existente.getResposta(), tipo));
+                    }
+
+                    Mono<?> local = emAndamento.get(id);
+                    if (local != null) {
+                        return local.cast(tipo);
+                    }
+
+                    if (abandonada(existente)) {
+                        // Sem como saber se a cobrança ocorreu: executar de novo poderia duplicá-la
+                        log.warn("Reserva de idempotência sem conclusão após {}: {}", processamentoMaximo, id);
+                        return Mono.error(new ChaveEmProcessamentoException(
+                                "Requisição com esta Idempotency-Key não foi concluída; "
+                                        + "confira o extrato antes de repetir com outra chave"
+                        ));
+                    }
+
+                    return aguardar(id, impressao, tipo, operacao, limiteNanos, INTERVALO_CONSULTA);
+                });
+    }
+
+    private <T> Mono<T> aguardar(
+            String id,
+            String impressao,
+            Class<T> tipo,
+            Supplier<Mono<T>> operacao,
+            long limiteNanos,
+            Duration intervalo
+    ) {
+        if (System.nanoTime() > limiteNanos) {
+            return Mono.error(new ChaveEmProcessamentoException(
+                    "Requisição com esta Idempotency-Key ainda em processamento; tente novamente"
+            ));
+        }
+        return Mono.delay(intervalo).then(tentar(id, impressao, tipo, operacao, limiteNanos));
+    }
+
+    private boolean abandonada(ChaveIdempotencia reserva) {
+        return reserva.getCriadaEm() == null
+                || reserva.getCriadaEm().isBefore(Instant.now().minus(processamentoMaximo));
+    }
+
+    /* =====================================================
+       EXECUÇÃO
+       ===================================================== */
+
+    /**
+     * Falha da operação libera a chave. Falha ao gravar a resposta não:
+     * a operação já teve efeito, e liberar permitiria repeti-lo — a reserva
+     * fica EM_ANDAMENTO e as repetições são recusadas até ela expirar.
+     */
+    private <T> Mono<T> executarComoDono(String id, String dono, Class<T> tipo, Supplier<Mono<T>> operacao) {
+        Mono<T> execucao = Mono.defer(operacao)
+                .onErrorResume(erro -> repository.liberar(id, dono)
+                        .onErrorResume(falha -> {
+                            log.warn("Falha ao liberar Idempotency-Key {}: {}", id, falha.getMessage());
+                            return Mono.empty();
+                        })
+                        .then(Mono.error(erro)))
+                .flatMap(resultado -> concluir(id, dono, resultado).thenReturn(resultado))
+                .doFinally(sinal -> emAndamento.remove(id))
+                // Compartilhada com repetições locais; segue mesmo se o cliente desistir
+                .cache();
+
+        emAndamento.put(id, execucao);
+        return execucao;
+    }
+
+    private Mono<Void> concluir(String id, String dono, Object resultado) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(resultado))
+                .flatMap(json -> {
+                    Instant agora = Instant.now();
+                    return repository.concluir(id, dono, json, agora, agora.plus(validade));
+                })
+                .doOnNext(concluida -> {
+                    if (!concluida) {
+                        log.warn("Idempotency-Key {} assumida por outra execução antes de concluir", id);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("Falha ao guardar a resposta da Idempotency-Key {}: {}", id, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /* =====================================================
+       SERIALIZAÇÃO
+       ===================================================== */
+
+    private String impressao(Object requisicao) {
+        try {
+            byte[] corpo = objectMapper.writeValueAsBytes(requisicao);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(corpo));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Falha ao calcular a impressão da requisição", e);
+        }
+    }
+
+    private <T> T ler(String resposta, Class<T> tipo) {
+        try {
+            return objectMapper.readValue(resposta, tipo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Resposta guardada para a Idempotency-Key é inválida", e);
+        }
+    }
+
+    /* =====================================================
+       ERROS
+       ===================================================== */
+
+    /**
+     * Chave recusada pelo formato (ex: longa demais)
+     */
+    public static class ChaveInvalidaException extends IllegalArgumentException {
+        public ChaveInvalidaException(String mensagem) {
+            super(mensagem);
+        }
+    }
+
+    /**
+     * Chave já usada com outro corpo de requisição
+     */
+    public static class ChaveReutilizadaException extends IllegalArgumentException {
+        public ChaveReutilizadaException(String mensagem) {
+            super(mensagem);
+        }
+    }
+
+    /**
+     * Primeira requisição ainda sem resposta (em andamento ou sem conclusão)
+     */
+    public static class ChaveEmProcessamentoException extends IllegalStateException {
+        public ChaveEmProcessamentoException(String mensagem) {
+            super(mensagem);
+        }
+    }
+}
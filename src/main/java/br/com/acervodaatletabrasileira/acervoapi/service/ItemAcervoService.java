@@ -1,72 +1,438 @@
 package br.com.acervodaatletabrasileira.acervoapi.service;
 
+import br.com.acervodaatletabrasileira.acervoapi.dto.FiltroAcervoDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.FotoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoCardDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoCreateDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoResponseDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ResultadoFacetadoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.FacetaAcervo;
 import br.com.acervodaatletabrasileira.acervoapi.model.FotoAcervo;
 import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Modalidade;
 import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
 import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ModalidadeRepository;
+import br.com.acervodaatletabrasileira.acervoapi.service.EstatisticasService.RetratoItem;
+import br.com.acervodaatletabrasileira.acervoapi.util.CacheLocal;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 public class ItemAcervoService {
 
+    private static final Logger log = LoggerFactory.getLogger(ItemAcervoService.class);
+
     private final ItemAcervoRepository repository;
     private final AtletaRepository atletaRepository;
+    private final ModalidadeRepository modalidadeRepository;
     private final CloudinaryService cloudinaryService;
+    private final EstatisticasService estatisticasService;
+    private final ResumoDireitosService resumoDireitosService;
+
+    /**
+     * Itens por id (documento completo; o filtro de visibilidade é aplicado na leitura)
+     */
+    private final CacheLocal<String, ItemAcervo> itensPorId;
+
+    /**
+     * Reindexações de nomes pendentes (consumidas em ordem por iniciarReindexacoes)
+     */
+    private final Sinks.Many<Reindexacao> reindexacoes = Sinks.many().unicast().onBackpressureBuffer();
+    private volatile Disposable reindexacao;
+    private volatile Disposable preenchimentoDecadas;
+
+    private record Reindexacao(String origem, Supplier<Flux<ItemAcervo>> vinculos) {
+    }
 
-    private static final List<StatusItemAcervo> STATUS_PUBLICOS = List.of(
+    static final List<StatusItemAcervo> STATUS_PUBLICOS = List.of(
             StatusItemAcervo.PUBLICADO,
             StatusItemAcervo.DISPONIVEL_LICENCIAMENTO,
             StatusItemAcervo.MEMORIAL
     );
 
+    /**
+     * Itens por bulk na reindexação de nomes e no preenchimento de décadas
+     */
+    private static final int LOTE_REINDEXACAO = 500;
+
+    /**
+     * Ano de 4 dígitos (1800–2099) em texto livre, ex: "Década de 1920", "Junho de 2004"
+     */
+    private static final Pattern ANO = Pattern.compile("\\b(1[89]\\d{2}|20\\d{2})\\b");
+
+    /**
+     * Facetas calculadas quando o cliente não informa ?facetas=
+     */
+    @Value("${app.acervo.facetas.padrao:tipo,modalidade,atleta,status,era}")
+    private List<String> facetasPadrao;
+
     public ItemAcervoService(
             ItemAcervoRepository repository,
             AtletaRepository atletaRepository,
-            CloudinaryService cloudinaryService
+            ModalidadeRepository modalidadeRepository,
+            CloudinaryService cloudinaryService,
+            CacheLocalService cacheLocalService,
+            EstatisticasService estatisticasService,
+            ResumoDireitosService resumoDireitosService
     ) {
         this.repository = repository;
         this.atletaRepository = atletaRepository;
+        this.modalidadeRepository = modalidadeRepository;
         this.cloudinaryService = cloudinaryService;
+        this.estatisticasService = estatisticasService;
+        this.resumoDireitosService = resumoDireitosService;
+        this.itensPorId = cacheLocalService.criar("itens_acervo.id");
+        cacheLocalService.aoAlterarDocumento("itens_acervo", itensPorId::invalidar);
     }
 
     /* =====================================================
        CONSULTAS PÚBLICAS
        ===================================================== */
 
-    public Flux<ItemAcervoResponseDTO> listarPublicados() {
-        return repository.findByStatusIn(STATUS_PUBLICOS)
-                .map(this::toResponseDTO);
+    /**
+     * Catálogo público paginado por cursor, em projeção de card.
+     * O cursor é opaco e vem do campo proximoCursor da página anterior.
+     */
+    public Mono<PaginaDTO<ItemAcervoCardDTO>> listarPublicados(String cursor, Integer tamanho) {
+        return repository
+                .paginarCardsPorStatus(STATUS_PUBLICOS, cursor, CursorPaginacao.tamanhoPagina(tamanho))
+                .map(pagina -> pagina.map(this::toCardDTO));
+    }
+
+    /**
+     * Catálogo público completo em fluxo contínuo (NDJSON / SSE).
+     * Memória constante: cada card é emitido assim que lido do cursor.
+     */
+    public Flux<ItemAcervoCardDTO> transmitirPublicados() {
+        return repository.transmitirCardsPorStatus(STATUS_PUBLICOS)
+                .map(this::toCardDTO);
     }
 
     public Mono<ItemAcervoResponseDTO> buscarPublicadoPorId(String id) {
-        return repository.findById(id)
-                .filter(item -> STATUS_PUBLICOS.contains(item.getStatus()))
-                .map(this::toResponseDTO);
+        return buscarPublicado(id).map(this::toResponseDTO);
+    }
+
+    /**
+     * Item público ainda como documento: permite checar a versão
+     * (GET condicional) antes de montar o DTO de resposta.
+     */
+    public Mono<ItemAcervo> buscarPublicado(String id) {
+        return itensPorId.obter(id, repository::findById)
+                .filter(item -> STATUS_PUBLICOS.contains(item.getStatus()));
+    }
+
+    /**
+     * Lote de itens públicos por id, em uma única consulta
+     */
+    public Mono<Map<String, ItemAcervoResponseDTO>> buscarPublicadosPorIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return repository.findByIdInAndStatusIn(ids, STATUS_PUBLICOS)
+                .collectMap(ItemAcervo::getId, this::toResponseDTO)
+                .map(encontrados -> ordenarPorIds(ids, encontrados));
+    }
+
+    /**
+     * Mapa na ordem dos ids solicitados (omitindo os não encontrados)
+     */
+    static <T> Map<String, T> ordenarPorIds(Collection<String> ids, Map<String, T> encontrados) {
+        Map<String, T> ordenado = new LinkedHashMap<>();
+        for (String id : ids) {
+            T valor = encontrados.get(id);
+            if (valor != null) {
+                ordenado.put(id, valor);
+            }
+        }
+        return ordenado;
     }
 
-    public Flux<ItemAcervoResponseDTO> listarPublicadosPorAtleta(String atletaId) {
+    public Mono<PaginaDTO<ItemAcervoCardDTO>> listarPublicadosPorAtleta(
+            String atletaId,
+            String cursor,
+            Integer tamanho
+    ) {
         return repository
-                .findByAtletasIdsContainingAndStatusIn(atletaId, STATUS_PUBLICOS)
-                .map(this::toResponseDTO);
+                .paginarCardsPorAtletaEStatus(atletaId, STATUS_PUBLICOS, cursor, CursorPaginacao.tamanhoPagina(tamanho))
+                .map(pagina -> pagina.map(this::toCardDTO));
     }
 
-    public Flux<ItemAcervoResponseDTO> listarPublicadosPorModalidade(String modalidadeId) {
+    public Mono<PaginaDTO<ItemAcervoCardDTO>> listarPublicadosPorModalidade(
+            String modalidadeId,
+            String cursor,
+            Integer tamanho
+    ) {
         return repository
-                .findByModalidadeIdAndStatus(modalidadeId, StatusItemAcervo.PUBLICADO)
-                .map(this::toResponseDTO);
+                .paginarCardsPorModalidadeEStatus(
+                        modalidadeId,
+                        List.of(StatusItemAcervo.PUBLICADO),
+                        cursor,
+                        CursorPaginacao.tamanhoPagina(tamanho)
+                )
+                .map(pagina -> pagina.map(this::toCardDTO));
+    }
+
+    /* =====================================================
+       BUSCA TEXTUAL
+       ===================================================== */
+
+    /**
+     * Busca por relevância em título, descrição, local, procedência,
+     * crédito autoral e nomes de atletas/modalidade.
+     * Aceita a sintaxe do $text: "frase exata" e -exclusão.
+     */
+    public Mono<PaginaDTO<ItemAcervoCardDTO>> buscar(String termos, String cursor, Integer tamanho) {
+        if (termos == null || termos.isBlank()) {
+            return Mono.error(new IllegalArgumentException("Termo de busca é obrigatório"));
+        }
+
+        return repository
+                .buscarCardsPorTexto(termos.trim(), STATUS_PUBLICOS, cursor, CursorPaginacao.tamanhoPagina(tamanho))
+                .map(pagina -> pagina.map(this::toCardDTO));
+    }
+
+    /* =====================================================
+       PESQUISA FACETADA
+       ===================================================== */
+
+    /**
+     * Página filtrada + contagens por faceta em uma única ida ao banco.
+     * facetas nulo/vazio → facetas padrão configuradas.
+     */
+    public Mono<ResultadoFacetadoDTO<ItemAcervoCardDTO>> pesquisarFacetado(
+            FiltroAcervoDTO filtro,
+            List<String> facetas,
+            String cursor,
+            Integer tamanho
+    ) {
+        if (filtro.status() != null && !STATUS_PUBLICOS.contains(filtro.status())) {
+            return Mono.error(new IllegalArgumentException("Status não disponível na pesquisa pública"));
+        }
+
+        Set<FacetaAcervo> selecionadas;
+        try {
+            selecionadas = (facetas == null || facetas.isEmpty() ? facetasPadrao : facetas)
+                    .stream()
+                    .map(FacetaAcervo::deNome)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        return repository
+                .pesquisarCardsFacetados(filtro, STATUS_PUBLICOS, selecionadas, cursor, CursorPaginacao.tamanhoPagina(tamanho))
+                .map(resultado -> resultado.map(this::toCardDTO));
+    }
+
+    /**
+     * Recalcula, em segundo plano, os nomes indexados dos itens de uma
+     * atleta (chamado quando o nome da atleta muda). A edição da atleta
+     * não espera a reindexação nem falha por causa dela.
+     */
+    public void agendarReindexacaoPorAtleta(String atletaId) {
+        agendarReindexacao("atleta " + atletaId, () -> repository.transmitirVinculosPorAtleta(atletaId));
+    }
+
+    /**
+     * Idem para os itens de uma modalidade (nome da modalidade mudou)
+     */
+    public void agendarReindexacaoPorModalidade(String modalidadeId) {
+        agendarReindexacao("modalidade " + modalidadeId, () -> repository.transmitirVinculosPorModalidade(modalidadeId));
+    }
+
+    /**
+     * synchronized: o sink unicast não aceita emissões concorrentes
+     */
+    private synchronized void agendarReindexacao(String origem, Supplier<Flux<ItemAcervo>> vinculos) {
+        Sinks.EmitResult resultado = reindexacoes.tryEmitNext(new Reindexacao(origem, vinculos));
+        if (resultado.isFailure()) {
+            log.warn("Reindexação de nomes ({}) não agendada: {}", origem, resultado);
+        }
+    }
+
+    /**
+     * Reindexações rodam uma por vez, na ordem em que foram pedidas: duas
+     * renomeações seguidas nunca terminam com o nome antigo gravado.
+     * Antes delas, preenche os itens anteriores à busca textual.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciarReindexacoes() {
+        Flux<Reindexacao> preenchimento = Flux.just(new Reindexacao(
+                "itens sem nomes indexados",
+                repository::transmitirVinculosSemNomesRelacionados
+        ));
+
+        reindexacao = Flux.concat(preenchimento, reindexacoes.asFlux())
+                .concatMap(tarefa -> reindexarNomes(tarefa.vinculos().get())
+                        .retryWhen(Retry.backoff(3, Duration.ofSeconds(1)))
+                        .doOnNext(total -> {
+                            if (total > 0) {
+                                log.info("Nomes indexados recalculados ({}): {} itens", tarefa.origem(), total);
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            log.error("Reindexação de nomes ({}) falhou: {}", tarefa.origem(), e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void encerrarReindexacoes() {
+        for (Disposable atual : new Disposable[]{reindexacao, preenchimentoDecadas}) {
+            if (atual != null) {
+                atual.dispose();
+            }
+        }
+    }
+
+    /**
+     * Itens gravados antes da faceta de era não têm decada: sem isso,
+     * filtro e contagem por era os ignoram. Roda uma vez por inicialização
+     * e só encontra trabalho na primeira (ou após importações diretas no banco).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciarPreenchimentoDecadas() {
+        preenchimentoDecadas = preencherDecadas()
+                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1)))
+                .subscribe(
+                        total -> {
+                            if (total > 0) {
+                                log.info("Década preenchida em {} itens", total);
+                            }
+                        },
+                        e -> log.error("Preenchimento de décadas falhou: {}", e.getMessage())
+                );
+    }
+
+    /**
+     * @return quantidade de itens atualizados
+     */
+    Mono<Long> preencherDecadas() {
+        return repository.transmitirSemDecada()
+                .buffer(LOTE_REINDEXACAO)
+                .concatMap(lote -> {
+                    Map<String, Integer> porItem = new HashMap<>();
+                    lote.forEach(item -> porItem.put(item.getId(), decadaDe(item.getDataOriginal())));
+                    return repository.definirDecadas(porItem).thenReturn((long) porItem.size());
+                })
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Lotes de LOTE_REINDEXACAO itens: uma consulta de atletas, uma de
+     * modalidades e um único bulk de $set por lote
+     *
+     * @return quantidade de itens reindexados
+     */
+    Mono<Long> reindexarNomes(Flux<ItemAcervo> vinculos) {
+        return vinculos
+                .buffer(LOTE_REINDEXACAO)
+                .concatMap(lote -> resolverNomesRelacionados(lote)
+                        .flatMap(nomes -> {
+                            Map<String, List<String>> porItem = new LinkedHashMap<>();
+                            for (int i = 0; i < lote.size(); i++) {
+                                porItem.put(lote.get(i).getId(), nomes.get(i));
+                            }
+                            return repository.definirNomesRelacionados(porItem).thenReturn((long) porItem.size());
+                        }))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Nomes (e nomes sociais) das atletas vinculadas + nome da modalidade,
+     * na mesma ordem dos itens recebidos
+     */
+    private Mono<List<List<String>>> resolverNomesRelacionados(List<ItemAcervo> itens) {
+        Set<String> atletasIds = new HashSet<>();
+        Set<String> modalidadesIds = new HashSet<>();
+        for (ItemAcervo item : itens) {
+            if (item.getAtletasIds() != null) {
+                item.getAtletasIds().stream().filter(Objects::nonNull).forEach(atletasIds::add);
+            }
+            if (item.getModalidadeId() != null) {
+                modalidadesIds.add(item.getModalidadeId());
+            }
+        }
+
+        Mono<Map<String, Atleta>> atletas = atletasIds.isEmpty()
+                ? Mono.just(Map.of())
+                : atletaRepository.findAllById(atletasIds).collectMap(Atleta::getId);
+        Mono<Map<String, Modalidade>> modalidades = modalidadesIds.isEmpty()
+                ? Mono.just(Map.of())
+                : modalidadeRepository.findAllById(modalidadesIds).collectMap(Modalidade::getId);
+
+        return Mono.zip(atletas, modalidades)
+                .map(tuple -> itens.stream()
+                        .map(item -> nomesRelacionados(item, tuple.getT1(), tuple.getT2()))
+                        .toList());
+    }
+
+    static List<String> nomesRelacionados(
+            ItemAcervo item,
+            Map<String, Atleta> atletas,
+            Map<String, Modalidade> modalidades
+    ) {
+        Set<String> nomes = new LinkedHashSet<>();
+        if (item.getAtletasIds() != null) {
+            for (String atletaId : item.getAtletasIds()) {
+                Atleta atleta = atletaId == null ? null : atletas.get(atletaId);
+                if (atleta != null) {
+                    nomes.add(atleta.getNome());
+                    nomes.add(atleta.getNomeSocial());
+                }
+            }
+        }
+        Modalidade modalidade = item.getModalidadeId() == null ? null : modalidades.get(item.getModalidadeId());
+        if (modalidade != null) {
+            nomes.add(modalidade.getNome());
+        }
+
+        return nomes.stream()
+                .filter(nome -> nome != null && !nome.isBlank())
+                .toList();
+    }
+
+    private Mono<ItemAcervo> salvarComNomesRelacionados(ItemAcervo item) {
+        return resolverNomesRelacionados(List.of(item))
+                .doOnNext(nomes -> item.setNomesRelacionados(nomes.get(0)))
+                .then(salvar(item));
+    }
+
+    /**
+     * O save regrava o documento inteiro, inclusive o resumoDireitos lido
+     * antes — que pode ter sido recalculado nesse meio-tempo. Recalcula em
+     * seguida para não deixar o resumo antigo no lugar.
+     */
+    private Mono<ItemAcervo> salvar(ItemAcervo item) {
+        return repository.save(item)
+                .flatMap(salvo -> resumoDireitosService.recalcular(salvo.getId()).thenReturn(salvo));
     }
 
     /* =====================================================
@@ -94,7 +460,8 @@ public class ItemAcervoService {
         item.setCriadoEm(Instant.now());
         item.setAtualizadoEm(Instant.now());
 
-        return repository.save(item);
+        return salvarComNomesRelacionados(item)
+                .flatMap(salvo -> registrarEstatisticas(null, salvo));
     }
 
     public Mono<ItemAcervo> atualizarProtegido(
@@ -122,9 +489,12 @@ public class ItemAcervoService {
                                 );
                             }
 
+                            RetratoItem anterior = RetratoItem.de(existente);
                             preencherDadosComuns(existente, dto);
                             existente.setAtualizadoEm(Instant.now());
-                            return repository.save(existente);
+                            return salvarComNomesRelacionados(existente)
+                                    .doOnNext(salvo -> itensPorId.invalidar(salvo.getId()))
+                                    .flatMap(salvo -> registrarEstatisticas(anterior, salvo));
                         })
         );
     }
@@ -136,20 +506,35 @@ public class ItemAcervoService {
     public Mono<ItemAcervo> publicar(String id) {
         return repository.findById(id)
                 .flatMap(item -> {
+                    RetratoItem anterior = RetratoItem.de(item);
                     item.setStatus(Boolean.TRUE.equals(item.getItemHistorico())
                             ? StatusItemAcervo.MEMORIAL
                             : StatusItemAcervo.PUBLICADO);
                     item.setAtualizadoEm(Instant.now());
-                    return repository.save(item);
+                    return salvar(item)
+                            .doOnNext(salvo -> itensPorId.invalidar(salvo.getId()))
+                            .flatMap(salvo -> registrarEstatisticas(anterior, salvo));
                 });
     }
 
+    /**
+     * O item é lido antes da remoção para descontar a sua contribuição
+     * das estatísticas (id inexistente → nada a descontar).
+     */
     public Mono<Void> remover(String id) {
-        return repository.deleteById(id);
+        return repository.findById(id)
+                .flatMap(existente -> repository.deleteById(id)
+                        .then(estatisticasService.registrarItem(RetratoItem.de(existente), null)))
+                .doOnSuccess(v -> itensPorId.invalidar(id));
+    }
+
+    private Mono<ItemAcervo> registrarEstatisticas(RetratoItem anterior, ItemAcervo salvo) {
+        return estatisticasService.registrarItem(anterior, RetratoItem.de(salvo))
+                .thenReturn(salvo);
     }
 
-    public Flux<ItemAcervo> listarTodos() {
-        return repository.findAll();
+    public Mono<PaginaDTO<ItemAcervo>> listarTodos(String cursor, Integer tamanho) {
+        return repository.paginarTodos(cursor, CursorPaginacao.tamanhoPagina(tamanho));
     }
 
     /* =====================================================
@@ -201,7 +586,8 @@ public class ItemAcervoService {
                                     item.getFotos().add(foto);
                                     item.setAtualizadoEm(Instant.now());
 
-                                    return repository.save(item)
+                                    return salvar(item)
+                                            .doOnNext(salvo -> itensPorId.invalidar(salvo.getId()))
                                             .thenReturn(toFotoDTO(foto));
                                 })
                 );
@@ -211,7 +597,7 @@ public class ItemAcervoService {
        MAPEAMENTOS
        ===================================================== */
 
-    private ItemAcervoResponseDTO toResponseDTO(ItemAcervo item) {
+    public ItemAcervoResponseDTO toResponseDTO(ItemAcervo item) {
         return new ItemAcervoResponseDTO(
                 item.getId(),
                 item.getTitulo(),
@@ -232,7 +618,35 @@ public class ItemAcervoService {
                         .map(this::toFotoDTO)
                         .collect(Collectors.toList()),
                 item.getCriadoEm(),
-                item.getAtualizadoEm()
+                item.getAtualizadoEm(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * Espera um item lido com projeção de card
+     * (fotos contém no máximo a capa).
+     */
+    public ItemAcervoCardDTO toCardDTO(ItemAcervo item) {
+        FotoDTO capa = item.getFotos() == null || item.getFotos().isEmpty()
+                ? null
+                : toFotoDTO(item.getFotos().get(0));
+
+        return new ItemAcervoCardDTO(
+                item.getId(),
+                item.getTitulo(),
+                item.getTipo(),
+                item.getStatus(),
+                item.getItemHistorico(),
+                item.getDisponivelParaLicenciamento(),
+                item.getResumoDireitos() == null ? null : item.getResumoDireitos().licenciavelEm(Instant.now()),
+                item.getModalidadeId(),
+                item.getAtletasIds(),
+                capa,
+                item.getAtualizadoEm(),
+                null,
+                null
         );
     }
 
@@ -255,6 +669,7 @@ public class ItemAcervoService {
         item.setDescricao(dto.descricao());
         item.setLocal(dto.local());
         item.setDataOriginal(dto.dataOriginal());
+        item.setDecada(decadaDe(dto.dataOriginal()));
         item.setProcedencia(dto.procedencia());
         item.setCreditoAutoral(dto.fotografoDoador());
         item.setTipo(dto.tipo());
@@ -276,4 +691,18 @@ public class ItemAcervoService {
             item.setPrecoBaseLicenciamento(dto.precoBaseLicenciamento());
         }
     }
+
+    /**
+     * Década do primeiro ano encontrado na data histórica livre
+     */
+    static Integer decadaDe(String dataOriginal) {
+        if (dataOriginal == null) {
+            return null;
+        }
+
+        Matcher matcher = ANO.matcher(dataOriginal);
+        return matcher.find()
+                ? Integer.parseInt(matcher.group(1)) / 10 * 10
+                : null;
+    }
 }
@@ -1,13 +1,20 @@
 package br.com.acervodaatletabrasileira.acervoapi.service;
 
 import br.com.acervodaatletabrasileira.acervoapi.model.DocumentoDireitos;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.ResumoDireitos;
 import br.com.acervodaatletabrasileira.acervoapi.repository.DocumentoDireitosRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Serviço responsável por centralizar as regras jurídicas
@@ -18,14 +25,26 @@ import java.util.List;
  * NÃO conhece regras fiscais
  *
  * Apenas valida se o uso é juridicamente permitido.
+ *
+ * As checagens por item leem o resumo desnormalizado (ResumoDireitos)
+ * enquanto ele estiver vigente; sem resumo, ou depois que algum
+ * documento venceu, a decisão volta a ser tomada pelos documentos.
  */
 @Service
 public class JuridicoService {
 
     private final DocumentoDireitosRepository documentoRepository;
+    private final ItemAcervoRepository itemRepository;
+    private final ResumoDireitosService resumoDireitosService;
 
-    public JuridicoService(DocumentoDireitosRepository documentoRepository) {
+    public JuridicoService(
+            DocumentoDireitosRepository documentoRepository,
+            ItemAcervoRepository itemRepository,
+            ResumoDireitosService resumoDireitosService
+    ) {
         this.documentoRepository = documentoRepository;
+        this.itemRepository = itemRepository;
+        this.resumoDireitosService = resumoDireitosService;
     }
 
     /* =====================================================
@@ -49,11 +68,66 @@ public class JuridicoService {
      * considerando todos os documentos jurídicos vinculados.
      */
     public Mono<Boolean> podeLicenciarItem(String itemAcervoId) {
+        return itemRepository.buscarResumoDireitos(itemAcervoId)
+                .flatMap(this::podeLicenciar)
+                .switchIfEmpty(Mono.defer(() -> podeLicenciarPelosDocumentos(itemAcervoId)));
+    }
+
+    /**
+     * Item já carregado (simulação / checkout): leitura de campo,
+     * sem consulta, enquanto o resumo estiver vigente
+     */
+    public Mono<Boolean> podeLicenciar(ItemAcervo item) {
+        ResumoDireitos resumo = resumoVigente(item);
+        if (resumo != null) {
+            return Mono.just(Boolean.TRUE.equals(resumo.getLicenciavel()));
+        }
+        return podeLicenciarPelosDocumentos(item.getId());
+    }
+
+    private Mono<Boolean> podeLicenciarPelosDocumentos(String itemAcervoId) {
         return documentoRepository.findByItemAcervoId(itemAcervoId)
                 .filter(DocumentoDireitos::permiteLicenciamento)
                 .hasElements();
     }
 
+    /**
+     * Validação em lote (carrinho): itens com resumo vigente não consultam
+     * nada; os demais são resolvidos numa única consulta.
+     *
+     * @return item → documento que autoriza o licenciamento
+     *         (itens sem documento válido ficam fora do mapa)
+     */
+    public Mono<Map<String, String>> documentosQueAutorizam(Collection<ItemAcervo> itens) {
+        Map<String, String> autorizados = new HashMap<>();
+        List<String> semResumo = new ArrayList<>();
+
+        for (ItemAcervo item : itens) {
+            ResumoDireitos resumo = resumoVigente(item);
+            if (resumo == null) {
+                semResumo.add(item.getId());
+            } else if (Boolean.TRUE.equals(resumo.getLicenciavel())
+                    && resumo.getDocumentosIds() != null
+                    && !resumo.getDocumentosIds().isEmpty()) {
+                autorizados.put(item.getId(), resumo.getDocumentosIds().get(0));
+            }
+        }
+
+        if (semResumo.isEmpty()) {
+            return Mono.just(autorizados);
+        }
+
+        return documentoRepository.findByItemAcervoIdIn(semResumo)
+                .filter(DocumentoDireitos::permiteLicenciamento)
+                .doOnNext(doc -> autorizados.putIfAbsent(doc.getItemAcervoId(), doc.getId()))
+                .then(Mono.just(autorizados));
+    }
+
+    private static ResumoDireitos resumoVigente(ItemAcervo item) {
+        ResumoDireitos resumo = item.getResumoDireitos();
+        return resumo != null && resumo.vigenteEm(Instant.now()) ? resumo : null;
+    }
+
     /**
      * Valida se uma foto específica pode ser licenciada.
      * Caso não haja documento específico da foto,
@@ -72,6 +146,16 @@ public class JuridicoService {
     public Mono<Boolean> podeUsarParaFinalidade(
             String itemAcervoId,
             DocumentoDireitos.FinalidadeUso finalidade
+    ) {
+        return itemRepository.buscarResumoDireitos(itemAcervoId)
+                .mapNotNull(JuridicoService::resumoVigente)
+                .map(resumo -> resumo.permiteFinalidade(finalidade))
+                .switchIfEmpty(Mono.defer(() -> podeUsarParaFinalidadePelosDocumentos(itemAcervoId, finalidade)));
+    }
+
+    private Mono<Boolean> podeUsarParaFinalidadePelosDocumentos(
+            String itemAcervoId,
+            DocumentoDireitos.FinalidadeUso finalidade
     ) {
         return documentoRepository.findByItemAcervoId(itemAcervoId)
                 .filter(doc ->
@@ -85,6 +169,16 @@ public class JuridicoService {
     public Mono<Boolean> podeUsarEmTerritorio(
             String itemAcervoId,
             DocumentoDireitos.TerritorioUso territorio
+    ) {
+        return itemRepository.buscarResumoDireitos(itemAcervoId)
+                .mapNotNull(JuridicoService::resumoVigente)
+                .map(resumo -> resumo.permiteTerritorio(territorio))
+                .switchIfEmpty(Mono.defer(() -> podeUsarEmTerritorioPelosDocumentos(itemAcervoId, territorio)));
+    }
+
+    private Mono<Boolean> podeUsarEmTerritorioPelosDocumentos(
+            String itemAcervoId,
+            DocumentoDireitos.TerritorioUso territorio
     ) {
         return documentoRepository.findByItemAcervoId(itemAcervoId)
                 .filter(doc ->
@@ -111,7 +205,10 @@ public class JuridicoService {
                     doc.setAtualizadoEm(Instant.now());
                     return documentoRepository.save(doc);
                 })
-                .count();
+                .map(DocumentoDireitos::getItemAcervoId)
+                .collectList()
+                .flatMap(itemIds -> resumoDireitosService.recalcular(itemIds)
+                        .thenReturn((long) itemIds.size()));
     }
 
     /* =====================================================
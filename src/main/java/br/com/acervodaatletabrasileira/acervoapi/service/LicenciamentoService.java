@@ -1,25 +1,43 @@
 package br.com.acervodaatletabrasileira.acervoapi.service;
 
+import br.com.acervodaatletabrasileira.acervoapi.dto.CarrinhoLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasLatenciaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ExtratoAtletaDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.PropostaLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ReciboCarrinhoDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.SimulacaoFaturamentoDTO;
 import br.com.acervodaatletabrasileira.acervoapi.dto.TransacaoResponseDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
 import br.com.acervodaatletabrasileira.acervoapi.model.ConfiguracaoFiscal;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
 import br.com.acervodaatletabrasileira.acervoapi.model.Licenciamento;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusLicenciamento;
 import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
 import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
-import br.com.acervodaatletabrasileira.acervoapi.repository.ConfiguracaoFiscalRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.LicenciamentoRepository;
 import br.com.acervodaatletabrasileira.acervoapi.repository.TransacaoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.util.MedidorLatencia;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Serviço de Licenciamento.
@@ -35,50 +53,116 @@ import java.util.List;
 @Service
 public class LicenciamentoService {
 
+    private static final Logger log = LoggerFactory.getLogger(LicenciamentoService.class);
+
     private final ItemAcervoRepository itemRepository;
     private final AtletaRepository atletaRepository;
     private final TransacaoRepository transacaoRepository;
-    private final ConfiguracaoFiscalRepository configRepository;
+    private final ConfiguracaoFiscalService configuracaoFiscalService;
     private final JuridicoService juridicoService;
     private final LicenciamentoRepository licenciamentoRepository;
+    private final EstatisticasService estatisticasService;
+    private final ReceitaService receitaService;
+    private final TransactionalOperator transacional;
+    private final int maximoItensCarrinho;
+    private final boolean carrinhoEmTransacao;
 
-    // Fallback caso o banco esteja sem configuração inicial
-    private static final String CONFIG_ID = "GLOBAL_SETTINGS";
-    private static final BigDecimal DEFAULT_REPASSE = new BigDecimal("0.85");
-    private static final BigDecimal DEFAULT_COMISSAO = new BigDecimal("0.15");
+    private final MedidorLatencia latencias = new MedidorLatencia();
 
     public LicenciamentoService(
             ItemAcervoRepository itemRepository,
             AtletaRepository atletaRepository,
             TransacaoRepository transacaoRepository,
-            ConfiguracaoFiscalRepository configRepository,
+            ConfiguracaoFiscalService configuracaoFiscalService,
             JuridicoService juridicoService,
-            LicenciamentoRepository licenciamentoRepository
+            LicenciamentoRepository licenciamentoRepository,
+            EstatisticasService estatisticasService,
+            ReceitaService receitaService,
+            ReactiveTransactionManager transactionManager,
+            @Value("${app.licenciamento.carrinho.maximo-itens:200}") int maximoItensCarrinho,
+            @Value("${app.licenciamento.carrinho.transacao:true}") boolean carrinhoEmTransacao
     ) {
         this.itemRepository = itemRepository;
         this.atletaRepository = atletaRepository;
         this.transacaoRepository = transacaoRepository;
-        this.configRepository = configRepository;
+        this.configuracaoFiscalService = configuracaoFiscalService;
         this.juridicoService = juridicoService;
         this.licenciamentoRepository = licenciamentoRepository;
+        this.estatisticasService = estatisticasService;
+        this.receitaService = receitaService;
+        this.transacional = TransactionalOperator.create(transactionManager);
+        this.maximoItensCarrinho = maximoItensCarrinho;
+        this.carrinhoEmTransacao = carrinhoEmTransacao;
     }
 
     /* =====================================================
        CONFIGURAÇÕES FISCAIS
        ===================================================== */
 
+    /**
+     * Servidas da memória (ConfiguracaoFiscalService), com o mesmo padrão
+     * 85% / 15% quando o Admin ainda não configurou
+     */
     private Mono<ConfiguracaoFiscal> obterRegrasFiscais() {
-        return configRepository.findById(CONFIG_ID)
-                .defaultIfEmpty(
-                        new ConfiguracaoFiscal(
-                                CONFIG_ID,
-                                DEFAULT_REPASSE,
-                                DEFAULT_COMISSAO,
-                                "Configuração padrão do sistema",
-                                Instant.now(),
-                                "SYSTEM"
-                        )
-                );
+        return configuracaoFiscalService.regras();
+    }
+
+    /* =====================================================
+       CONTEXTO DA PROPOSTA (BUSCAS EM PARALELO)
+       ===================================================== */
+
+    /**
+     * Tudo que simulação e efetivação precisam antes do cálculo
+     */
+    private record ContextoProposta(ConfiguracaoFiscal config, ItemAcervo item, Atleta atleta) {
+    }
+
+    /**
+     * Regras fiscais, item e atleta são independentes: disparadas juntas,
+     * a latência é a da mais lenta e não a soma. A validação jurídica lê
+     * o resumo de direitos do próprio item (sem consulta enquanto vigente).
+     *
+     * A primeira falha (bloqueio jurídico, item ou atleta inexistente)
+     * encerra o fluxo e cancela as buscas ainda em andamento.
+     */
+    private Mono<ContextoProposta> carregarContexto(PropostaLicenciamentoDTO proposta, String fluxo) {
+        Mono<ConfiguracaoFiscal> regras = latencias.medir(fluxo + ".regras", this::obterRegrasFiscais);
+
+        Mono<ItemAcervo> item = latencias.medir(fluxo + ".item",
+                        () -> itemRepository.findById(proposta.itemAcervoId()))
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Item não encontrado")))
+                .flatMap(encontrado -> latencias.medir(fluxo + ".juridico",
+                                () -> juridicoService.podeLicenciar(encontrado))
+                        .filter(Boolean::booleanValue)
+                        .map(liberado -> encontrado)
+                        .switchIfEmpty(Mono.error(
+                                new IllegalStateException("Licenciamento bloqueado por pendência jurídica")
+                        )));
+
+        Mono<Atleta> atleta = latencias.medir(fluxo + ".atleta",
+                        () -> atletaRepository.findById(proposta.atletaId()))
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Atleta não encontrada")));
+
+        return Mono.zip(regras, item, atleta)
+                .map(tuple -> new ContextoProposta(tuple.getT1(), tuple.getT2(), tuple.getT3()));
+    }
+
+    /**
+     * Repasse arredondado; a comissão é o restante (a soma fecha com o total)
+     */
+    private record Valores(BigDecimal total, BigDecimal repasseAtleta, BigDecimal comissaoPlataforma) {
+
+        static Valores de(ContextoProposta contexto) {
+            BigDecimal total = contexto.item().getPrecoBaseLicenciamento() != null
+                    ? contexto.item().getPrecoBaseLicenciamento()
+                    : BigDecimal.ZERO;
+
+            BigDecimal repasse = total
+                    .multiply(contexto.config().getPercentualRepasseAtleta())
+                    .setScale(2, RoundingMode.HALF_UP);
+
+            return new Valores(total, repasse, total.subtract(repasse));
+        }
     }
 
     /* =====================================================
@@ -88,55 +172,20 @@ public class LicenciamentoService {
     public Mono<SimulacaoFaturamentoDTO> gerarSimulacaoFaturamento(
             PropostaLicenciamentoDTO proposta
     ) {
-        return juridicoService
-                .podeLicenciarItem(proposta.itemAcervoId())
-                .flatMap(podeLicenciar -> {
-
-                    if (!podeLicenciar) {
-                        return Mono.error(
-                                new IllegalStateException(
-                                        "Licenciamento bloqueado por pendência jurídica"
-                                )
-                        );
-                    }
-
-                    return obterRegrasFiscais().flatMap(config ->
-                            itemRepository.findById(proposta.itemAcervoId())
-                                    .switchIfEmpty(
-                                            Mono.error(
-                                                    new IllegalArgumentException("Item não encontrado")
-                                            )
-                                    )
-                                    .zipWith(
-                                            atletaRepository.findById(proposta.atletaId())
-                                    )
-                                    .map(tuple -> {
-
-                                        var item = tuple.getT1();
-                                        var atleta = tuple.getT2();
-
-                                        BigDecimal valorTotal =
-                                                item.getPrecoBaseLicenciamento() != null
-                                                        ? item.getPrecoBaseLicenciamento()
-                                                        : BigDecimal.ZERO;
-
-                                        BigDecimal repasseAtleta = valorTotal
-                                                .multiply(config.getPercentualRepasseAtleta())
-                                                .setScale(2, RoundingMode.HALF_UP);
-
-                                        BigDecimal comissaoPlataforma =
-                                                valorTotal.subtract(repasseAtleta);
-
-                                        return new SimulacaoFaturamentoDTO(
-                                                item.getTitulo(),
-                                                valorTotal,
-                                                repasseAtleta,
-                                                comissaoPlataforma,
-                                                atleta.getChavePix()
-                                        );
-                                    })
-                    );
-                });
+        return latencias.medir("simulacao.total", () ->
+                carregarContexto(proposta, "simulacao")
+                        .map(contexto -> {
+                            Valores valores = Valores.de(contexto);
+
+                            return new SimulacaoFaturamentoDTO(
+                                    contexto.item().getTitulo(),
+                                    valores.total(),
+                                    valores.repasseAtleta(),
+                                    valores.comissaoPlataforma(),
+                                    contexto.atleta().getChavePix()
+                            );
+                        })
+        );
     }
 
     /* =====================================================
@@ -146,61 +195,285 @@ public class LicenciamentoService {
     public Mono<TransacaoResponseDTO> efetivarLicenciamento(
             PropostaLicenciamentoDTO proposta
     ) {
-        return juridicoService
-                .podeLicenciarItem(proposta.itemAcervoId())
-                .flatMap(podeLicenciar -> {
-
-                    if (!podeLicenciar) {
-                        return Mono.error(
-                                new IllegalStateException(
-                                        "Licenciamento bloqueado por pendência jurídica"
-                                )
-                        );
-                    }
-
-                    return obterRegrasFiscais().flatMap(config ->
-                            itemRepository.findById(proposta.itemAcervoId())
-                                    .zipWith(
-                                            atletaRepository.findById(proposta.atletaId())
-                                    )
-                                    .flatMap(tuple -> {
-
-                                        var item = tuple.getT1();
-                                        var atleta = tuple.getT2();
-
-                                        BigDecimal valorTotal =
-                                                item.getPrecoBaseLicenciamento() != null
-                                                        ? item.getPrecoBaseLicenciamento()
-                                                        : BigDecimal.ZERO;
-
-                                        BigDecimal repasseAtleta = valorTotal
-                                                .multiply(config.getPercentualRepasseAtleta())
-                                                .setScale(2, RoundingMode.HALF_UP);
-
-                                        BigDecimal comissaoPlataforma =
-                                                valorTotal.subtract(repasseAtleta);
-
-                                        Transacao transacao = new Transacao();
-                                        transacao.setItemId(item.getId());
-                                        transacao.setAtletaId(atleta.getId());
-                                        transacao.setValorBrutoTotal(valorTotal);
-                                        transacao.setValorLiquidoRepasse(repasseAtleta);
-                                        transacao.setValorComissaoPlataforma(comissaoPlataforma);
-                                        transacao.setPercentualComissao(
-                                                config.getPercentualComissaoPlataforma()
-                                        );
-                                        transacao.setTipoLicenca(proposta.tipoUso());
-                                        transacao.setMoeda("BRL");
-                                        transacao.setStatusFinanceiro("CONCLUIDA");
-                                        transacao.setDataTransacao(Instant.now());
-                                        transacao.setAtualizadoEm(Instant.now());
-
-                                        return transacaoRepository
-                                                .save(transacao)
-                                                .map(this::mapToResponseDTO);
-                                    })
-                    );
-                });
+        return latencias.medir("efetivacao.total", () ->
+                carregarContexto(proposta, "efetivacao")
+                        .flatMap(contexto -> {
+                            Valores valores = Valores.de(contexto);
+
+                            Transacao transacao = new Transacao();
+                            transacao.setItemId(contexto.item().getId());
+                            transacao.setAtletaId(contexto.atleta().getId());
+                            transacao.setValorBrutoTotal(valores.total());
+                            transacao.setValorLiquidoRepasse(valores.repasseAtleta());
+                            transacao.setValorComissaoPlataforma(valores.comissaoPlataforma());
+                            transacao.setPercentualComissao(
+                                    contexto.config().getPercentualComissaoPlataforma()
+                            );
+                            transacao.setTipoLicenca(proposta.tipoUso());
+                            transacao.setMoeda("BRL");
+                            transacao.setStatusFinanceiro("CONCLUIDA");
+                            transacao.setDataTransacao(Instant.now());
+                            transacao.setAtualizadoEm(Instant.now());
+
+                            return latencias.medir("efetivacao.gravacao", () -> transacaoRepository.save(transacao));
+                        })
+                        .flatMap(salva -> latencias.medir("efetivacao.agregados", () -> Mono.when(
+                                estatisticasService.registrarTransacao(salva),
+                                receitaService.registrarTransacao(salva)
+                        )).thenReturn(salva))
+                        .map(this::mapToResponseDTO)
+        );
+    }
+
+    /* =====================================================
+       CARRINHO (VÁRIOS ITENS, TUDO OU NADA)
+       ===================================================== */
+
+    /**
+     * Efetiva vários itens numa única operação:
+     *
+     * - itens e atletas buscados em lote, em paralelo;
+     * - direitos validados pelo resumo de cada item (uma só consulta
+     *   para os itens sem resumo vigente);
+     * - uma única leitura das regras fiscais para todo o carrinho;
+     * - transações e licenciamentos gravados com um insertMany por coleção,
+     *   dentro de uma transação do Mongo (nada é gravado se algo falhar);
+     * - estatísticas e receita incrementadas uma vez para o lote todo.
+     */
+    public Mono<ReciboCarrinhoDTO> efetivarCarrinho(
+            CarrinhoLicenciamentoDTO carrinho,
+            String compradorId
+    ) {
+        return latencias.medir("carrinho.total", () -> {
+            List<PropostaLicenciamentoDTO> propostas = validarCarrinho(carrinho);
+
+            Set<String> itemIds = new LinkedHashSet<>();
+            Set<String> atletaIds = new LinkedHashSet<>();
+            propostas.forEach(proposta -> {
+                itemIds.add(proposta.itemAcervoId());
+                atletaIds.add(proposta.atletaId());
+            });
+
+            Mono<ConfiguracaoFiscal> regras = latencias.medir("carrinho.regras", this::obterRegrasFiscais);
+            Mono<Map<String, ItemAcervo>> itens = latencias.medir("carrinho.itens",
+                    () -> itemRepository.findAllById(itemIds).collectMap(ItemAcervo::getId));
+            Mono<Map<String, Atleta>> atletas = latencias.medir("carrinho.atletas",
+                    () -> atletaRepository.findAllById(atletaIds).collectMap(Atleta::getId));
+
+            return Mono.zip(regras, itens, atletas)
+                    .flatMap(tuple -> latencias.medir("carrinho.juridico",
+                                    () -> juridicoService.documentosQueAutorizam(tuple.getT2().values()))
+                            .flatMap(autorizacoes -> montarPedido(
+                                    propostas, autorizacoes, tuple.getT1(), tuple.getT2(), tuple.getT3(), compradorId
+                            )))
+                    .flatMap(pedido -> latencias.medir("carrinho.gravacao", () -> gravarPedido(pedido)))
+                    .flatMap(pedido -> latencias.medir("carrinho.agregados", () -> Mono.when(
+                            estatisticasService.registrarTransacoes(pedido.transacoes()),
+                            receitaService.registrarTransacoes(pedido.transacoes())
+                    )).thenReturn(pedido))
+                    .map(this::mapToRecibo);
+        });
+    }
+
+    /**
+     * Transações e licenciamentos do carrinho, na ordem das propostas
+     * (ids atribuídos antes da gravação para ligar um ao outro)
+     */
+    private record Pedido(
+            String id,
+            Instant data,
+            List<ItemAcervo> itens,
+            List<Transacao> transacoes,
+            List<Licenciamento> licenciamentos
+    ) {
+    }
+
+    private List<PropostaLicenciamentoDTO> validarCarrinho(CarrinhoLicenciamentoDTO carrinho) {
+        if (carrinho == null || carrinho.itens() == null || carrinho.itens().isEmpty()) {
+            throw new IllegalArgumentException("Carrinho vazio");
+        }
+        if (carrinho.itens().size() > maximoItensCarrinho) {
+            throw new IllegalArgumentException(
+                    "Carrinho excede o máximo de " + maximoItensCarrinho + " itens"
+            );
+        }
+
+        Set<String> vistos = new HashSet<>();
+        for (PropostaLicenciamentoDTO proposta : carrinho.itens()) {
+            if (proposta == null || vazio(proposta.itemAcervoId()) || vazio(proposta.atletaId())) {
+                throw new IllegalArgumentException("Todo item do carrinho exige itemAcervoId e atletaId");
+            }
+            if (!vistos.add(proposta.itemAcervoId())) {
+                throw new IllegalArgumentException("Item repetido no carrinho: " + proposta.itemAcervoId());
+            }
+        }
+        return carrinho.itens();
+    }
+
+    private Mono<Pedido> montarPedido(
+            List<PropostaLicenciamentoDTO> propostas,
+            Map<String, String> autorizacoes,
+            ConfiguracaoFiscal config,
+            Map<String, ItemAcervo> itens,
+            Map<String, Atleta> atletas,
+            String compradorId
+    ) {
+        List<String> itensAusentes = propostas.stream()
+                .map(PropostaLicenciamentoDTO::itemAcervoId)
+                .filter(id -> !itens.containsKey(id))
+                .toList();
+        if (!itensAusentes.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Itens não encontrados: " + itensAusentes));
+        }
+
+        List<String> atletasAusentes = propostas.stream()
+                .map(PropostaLicenciamentoDTO::atletaId)
+                .filter(id -> !atletas.containsKey(id))
+                .distinct()
+                .toList();
+        if (!atletasAusentes.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Atletas não encontradas: " + atletasAusentes));
+        }
+
+        List<String> bloqueados = propostas.stream()
+                .map(PropostaLicenciamentoDTO::itemAcervoId)
+                .filter(id -> !autorizacoes.containsKey(id))
+                .toList();
+        if (!bloqueados.isEmpty()) {
+            return Mono.error(new IllegalStateException(
+                    "Licenciamento bloqueado por pendência jurídica: " + bloqueados
+            ));
+        }
+
+        String pedidoId = new ObjectId().toHexString();
+        Instant agora = Instant.now();
+
+        List<ItemAcervo> itensPedido = new ArrayList<>(propostas.size());
+        List<Transacao> transacoes = new ArrayList<>(propostas.size());
+        List<Licenciamento> licenciamentos = new ArrayList<>(propostas.size());
+
+        for (PropostaLicenciamentoDTO proposta : propostas) {
+            ItemAcervo item = itens.get(proposta.itemAcervoId());
+            Atleta atleta = atletas.get(proposta.atletaId());
+            Valores valores = Valores.de(new ContextoProposta(config, item, atleta));
+
+            Transacao transacao = new Transacao();
+            transacao.setId(new ObjectId().toHexString());
+            transacao.setPedidoId(pedidoId);
+            transacao.setItemId(item.getId());
+            transacao.setAtletaId(atleta.getId());
+            transacao.setCompradorId(compradorId);
+            transacao.setValorBrutoTotal(valores.total());
+            transacao.setValorLiquidoRepasse(valores.repasseAtleta());
+            transacao.setValorComissaoPlataforma(valores.comissaoPlataforma());
+            transacao.setPercentualComissao(config.getPercentualComissaoPlataforma());
+            transacao.setTipoLicenca(proposta.tipoUso());
+            transacao.setMoeda("BRL");
+            transacao.setStatusFinanceiro("CONCLUIDA");
+            transacao.setDataTransacao(agora);
+            transacao.setAtualizadoEm(agora);
+
+            Licenciamento licenciamento = new Licenciamento();
+            licenciamento.setId(new ObjectId().toHexString());
+            licenciamento.setPedidoId(pedidoId);
+            licenciamento.setTransacaoId(transacao.getId());
+            licenciamento.setItemAcervoId(item.getId());
+            licenciamento.setAtletaId(atleta.getId());
+            licenciamento.setDocumentoDireitosId(autorizacoes.get(item.getId()));
+            licenciamento.setTipoUso(proposta.tipoUso());
+            licenciamento.setValidoAte(proposta.prazoMeses() == null
+                    ? null
+                    : agora.atZone(ZoneOffset.UTC).plusMonths(proposta.prazoMeses()).toInstant());
+            licenciamento.setValorLicenciamento(valores.total());
+            licenciamento.setStatus(StatusLicenciamento.APROVADO);
+            licenciamento.setCriadoEm(agora);
+            licenciamento.setAtualizadoEm(agora);
+            // Aprovação automática: fundamentada no documento de direitos válido
+            licenciamento.setAprovadoPor("SYSTEM");
+
+            itensPedido.add(item);
+            transacoes.add(transacao);
+            licenciamentos.add(licenciamento);
+        }
+
+        return Mono.just(new Pedido(pedidoId, agora, itensPedido, transacoes, licenciamentos));
+    }
+
+    /**
+     * Um insertMany por coleção. Com app.licenciamento.carrinho.transacao
+     * desligado (Mongo standalone, sem suporte a transações), uma falha
+     * no meio é compensada apagando o que já foi gravado do pedido.
+     */
+    private Mono<Pedido> gravarPedido(Pedido pedido) {
+        Mono<Pedido> gravacao = transacaoRepository.insert(pedido.transacoes())
+                .thenMany(licenciamentoRepository.insert(pedido.licenciamentos()))
+                .then(Mono.just(pedido));
+
+        if (carrinhoEmTransacao) {
+            return transacional.transactional(gravacao);
+        }
+
+        return gravacao.onErrorResume(erro -> Mono.when(
+                        transacaoRepository.deleteByPedidoId(pedido.id()),
+                        licenciamentoRepository.deleteByPedidoId(pedido.id())
+                )
+                .onErrorResume(falhaCompensacao -> {
+                    log.error("Pedido {} gravado parcialmente; compensação falhou: {}",
+                            pedido.id(), falhaCompensacao.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.error(erro)));
+    }
+
+    private ReciboCarrinhoDTO mapToRecibo(Pedido pedido) {
+        List<ReciboCarrinhoDTO.ItemReciboDTO> itens = new ArrayList<>(pedido.transacoes().size());
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal repasses = BigDecimal.ZERO;
+        BigDecimal comissoes = BigDecimal.ZERO;
+
+        for (int i = 0; i < pedido.transacoes().size(); i++) {
+            Transacao transacao = pedido.transacoes().get(i);
+            Licenciamento licenciamento = pedido.licenciamentos().get(i);
+
+            total = total.add(transacao.getValorBrutoTotal());
+            repasses = repasses.add(transacao.getValorLiquidoRepasse());
+            comissoes = comissoes.add(transacao.getValorComissaoPlataforma());
+
+            itens.add(new ReciboCarrinhoDTO.ItemReciboDTO(
+                    transacao.getItemId(),
+                    pedido.itens().get(i).getTitulo(),
+                    transacao.getAtletaId(),
+                    transacao.getTipoLicenca(),
+                    transacao.getId(),
+                    licenciamento.getId(),
+                    licenciamento.getDocumentoDireitosId(),
+                    transacao.getValorBrutoTotal(),
+                    transacao.getValorLiquidoRepasse(),
+                    transacao.getValorComissaoPlataforma(),
+                    licenciamento.getValidoAte()
+            ));
+        }
+
+        return new ReciboCarrinhoDTO(
+                pedido.id(),
+                pedido.data(),
+                itens.size(),
+                total,
+                repasses,
+                comissoes,
+                itens
+        );
+    }
+
+    private static boolean vazio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    /**
+     * Tempo por etapa de simulação, efetivação e carrinho (instância atual)
+     */
+    public List<EstatisticasLatenciaDTO> estatisticasLatencia() {
+        return latencias.estatisticas();
     }
 
     /* =====================================================
@@ -3,18 +3,38 @@ package br.com.acervodaatletabrasileira.acervoapi.service;
 import br.com.acervodaatletabrasileira.acervoapi.dto.ModalidadeDTO;
 import br.com.acervodaatletabrasileira.acervoapi.model.Modalidade;
 import br.com.acervodaatletabrasileira.acervoapi.repository.ModalidadeRepository;
+import br.com.acervodaatletabrasileira.acervoapi.util.InstantaneoRecarregavel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.text.Normalizer;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
+/**
+ * Modalidades: conjunto pequeno e quase estático.
+ *
+ * As ativas ficam em um registro imutável em memória (por id e por slug,
+ * em um InstantaneoRecarregavel), carregado na inicialização e trocado
+ * por inteiro a cada escrita — local ou, via change stream, de outra
+ * instância — e na limpeza geral dos caches. Leituras públicas nunca
+ * vão ao banco: antes da primeira carga, respondem vazio.
+ */
 @Service
 public class ModalidadeService {
 
@@ -22,20 +42,60 @@ public class ModalidadeService {
 
     private final ModalidadeRepository repository;
     private final CloudinaryService cloudinaryService;
+    private final ItemAcervoService itemAcervoService;
+    private final InstantaneoRecarregavel<Registro> registro;
 
     private static final Pattern NONLATIN = Pattern.compile("[^\\w-]");
     private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
 
     public ModalidadeService(
             ModalidadeRepository repository,
-            CloudinaryService cloudinaryService
+            CloudinaryService cloudinaryService,
+            ItemAcervoService itemAcervoService,
+            CacheLocalService cacheLocalService,
+            @Value("${app.cache.ttl:10m}") Duration validade
     ) {
         this.repository = repository;
         this.cloudinaryService = cloudinaryService;
+        this.itemAcervoService = itemAcervoService;
+        this.registro = new InstantaneoRecarregavel<>("registro de modalidades", validade, Registro.VAZIO, this::lerAtivas);
+        cacheLocalService.aoAlterarDocumento("modalidades", id -> registro.recarregarEmSegundoPlano());
+        cacheLocalService.aoInvalidarTudo(registro::recarregarEmSegundoPlano);
     }
 
     /* ==========================
-       LEITURA
+       LEITURA (PÚBLICA – REGISTRO EM MEMÓRIA)
+       ========================== */
+
+    public List<Modalidade> listarAtivas() {
+        return registro.atual().ativas();
+    }
+
+    public Mono<Modalidade> buscarAtivaPorId(String id) {
+        return Mono.justOrEmpty(registro.atual().porId().get(id));
+    }
+
+    public Mono<Modalidade> buscarAtivaPorSlug(String slug) {
+        return Mono.justOrEmpty(registro.atual().porSlug().get(slug));
+    }
+
+    /**
+     * Lote por id, na ordem solicitada (inativas e inexistentes omitidas)
+     */
+    public Map<String, Modalidade> buscarAtivasPorIds(Collection<String> ids) {
+        Map<String, Modalidade> porId = registro.atual().porId();
+        Map<String, Modalidade> encontradas = new LinkedHashMap<>();
+        for (String id : ids) {
+            Modalidade modalidade = porId.get(id);
+            if (modalidade != null) {
+                encontradas.put(id, modalidade);
+            }
+        }
+        return encontradas;
+    }
+
+    /* ==========================
+       LEITURA (ADMIN)
        ========================== */
 
     public Flux<Modalidade> findAll() {
@@ -69,7 +129,8 @@ public class ModalidadeService {
         modalidade.setAtualizadoEm(Instant.now());
 
         return validateFotoDestaqueIfPresent(dto.fotoDestaquePublicId())
-                .then(repository.save(modalidade));
+                .then(repository.save(modalidade))
+                .flatMap(salva -> recarregarAposEscrita().thenReturn(salva));
     }
 
     /* ==========================
@@ -81,8 +142,10 @@ public class ModalidadeService {
                 .switchIfEmpty(
                         Mono.error(new IllegalArgumentException("Modalidade não encontrada com o ID: " + id))
                 )
-                .flatMap(existing ->
-                        validateFotoDestaqueIfPresent(dto.fotoDestaquePublicId())
+                .flatMap(existing -> {
+                    String nomeAnterior = existing.getNome();
+
+                    return validateFotoDestaqueIfPresent(dto.fotoDestaquePublicId())
                                 .then(Mono.fromCallable(() -> {
 
                                     if (dto.nome() != null && !existing.getNome().equalsIgnoreCase(dto.nome())) {
@@ -102,8 +165,15 @@ public class ModalidadeService {
                                     existing.setAtualizadoEm(Instant.now());
                                     return existing;
                                 }))
-                )
-                .flatMap(repository::save);
+                                .flatMap(repository::save)
+                                .flatMap(salva -> recarregarAposEscrita().thenReturn(salva))
+                                // O nome da modalidade entra no índice de busca dos itens
+                                .doOnNext(salva -> {
+                                    if (!Objects.equals(nomeAnterior, salva.getNome())) {
+                                        itemAcervoService.agendarReindexacaoPorModalidade(salva.getId());
+                                    }
+                                });
+                });
     }
 
     /* ==========================
@@ -111,7 +181,8 @@ public class ModalidadeService {
        ========================== */
 
     public Mono<Void> deleteById(String id) {
-        return repository.deleteById(id);
+        return repository.deleteById(id)
+                .then(recarregarAposEscrita());
     }
 
     /* ==========================
@@ -143,7 +214,72 @@ public class ModalidadeService {
 
                                     return repository.save(modalidade);
                                 })
-                );
+                )
+                .flatMap(salva -> recarregarAposEscrita().thenReturn(salva));
+    }
+
+    /* ==========================
+       REGISTRO EM MEMÓRIA
+       ========================== */
+
+    /**
+     * Carga inicial antes de a aplicação aceitar tráfego
+     * (o evento antecede o estado de prontidão).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarAtivas() {
+        if (registro.carregarNaInicializacao()) {
+            log.info("Registro de modalidades carregado: {} ativas", registro.atual().ativas().size());
+        }
+    }
+
+    /**
+     * A escrita já foi gravada: falha ao recarregar não vira erro da
+     * requisição (o registro se corrige pela validade ou pelo change stream)
+     */
+    private Mono<Void> recarregarAposEscrita() {
+        return recarregarAtivas().onErrorResume(e -> Mono.empty());
+    }
+
+    /**
+     * Relê as modalidades ativas e troca o registro de uma só vez
+     */
+    public Mono<Void> recarregarAtivas() {
+        return registro.recarregar();
+    }
+
+    private Mono<Registro> lerAtivas() {
+        return repository.findAll()
+                .filter(m -> Boolean.TRUE.equals(m.getAtiva()))
+                .collectList()
+                .map(Registro::de);
+    }
+
+    /**
+     * Instantâneo imutável das modalidades ativas (ordem por nome)
+     */
+    private record Registro(
+            List<Modalidade> ativas,
+            Map<String, Modalidade> porId,
+            Map<String, Modalidade> porSlug
+    ) {
+        static final Registro VAZIO = new Registro(List.of(), Map.of(), Map.of());
+
+        static Registro de(List<Modalidade> modalidades) {
+            List<Modalidade> ativas = modalidades.stream()
+                    .sorted(Comparator.comparing(Modalidade::getNome, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                    .toList();
+
+            Map<String, Modalidade> porId = new LinkedHashMap<>();
+            Map<String, Modalidade> porSlug = new LinkedHashMap<>();
+            for (Modalidade modalidade : ativas) {
+                porId.put(modalidade.getId(), modalidade);
+                if (modalidade.getSlug() != null) {
+                    porSlug.putIfAbsent(modalidade.getSlug(), modalidade);
+                }
+            }
+            return new Registro(ativas, Map.copyOf(porId), Map.copyOf(porSlug));
+        }
     }
 
     /* ==========================
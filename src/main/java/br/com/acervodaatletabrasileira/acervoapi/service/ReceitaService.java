@@ -0,0 +1,199 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.PontoReceitaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.SerieReceitaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.DimensaoReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.GranularidadeReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.ReceitaPeriodo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ReceitaPeriodoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ReceitaPeriodoRepositoryCustom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Séries temporais de receita (dia / mês / ano; global, por atleta,
+ * por tipo de licença e por item).
+ *
+ * Cada transação salva incrementa os seus períodos em receita_periodos;
+ * a leitura de uma série é uma consulta indexada de poucos documentos,
+ * sem varrer transacoes. O backfill reconstrói tudo a partir do histórico.
+ */
+@Service
+public class ReceitaService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReceitaService.class);
+
+    /**
+     * Teto de pontos por série (ex: ~2,7 anos em granularidade diária)
+     */
+    public static final int MAXIMO_PERIODOS = 1000;
+
+    private final ReceitaPeriodoRepository repository;
+    private final ZoneId fuso;
+
+    private final AtomicBoolean reconstruindo = new AtomicBoolean(false);
+
+    public ReceitaService(
+            ReceitaPeriodoRepository repository,
+            @Value("${app.receita.fuso:America/Sao_Paulo}") ZoneId fuso
+    ) {
+        this.repository = repository;
+        this.fuso = fuso;
+    }
+
+    /* =====================================================
+       ESCRITA
+       ===================================================== */
+
+    /**
+     * Falha ao agregar não desfaz a transação: fica no log e
+     * é corrigida pelo próximo backfill.
+     */
+    public Mono<Void> registrarTransacao(Transacao transacao) {
+        return repository.incrementar(transacao, fuso)
+                .onErrorResume(e -> {
+                    log.warn("Falha ao agregar receita da transação {}: {}", transacao.getId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Lote (carrinho): uma escrita para todas as transações
+     */
+    public Mono<Void> registrarTransacoes(List<Transacao> transacoes) {
+        return repository.incrementar(transacoes, fuso)
+                .onErrorResume(e -> {
+                    log.warn("Falha ao agregar receita de {} transação(ões): {}", transacoes.size(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /* =====================================================
+       BACKFILL
+       ===================================================== */
+
+    /**
+     * Primeira inicialização (coleção vazia): agrega o histórico existente
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInicial() {
+        repository.count()
+                .filter(total -> total == 0)
+                .flatMap(vazio -> reconstruir())
+                .subscribe(
+                        null,
+                        e -> log.warn("Backfill de receita não concluído: {}", e.getMessage())
+                );
+    }
+
+    /**
+     * Reconstrução completa a partir de transacoes (uma por vez).
+     * Incrementos que chegam durante ela são preservados pelo $merge.
+     */
+    public Mono<Void> reconstruir() {
+        return Mono.defer(() -> {
+            if (!reconstruindo.compareAndSet(false, true)) {
+                return Mono.error(new IllegalStateException("Reconstrução de receita já em andamento"));
+            }
+            long inicio = System.nanoTime();
+            return repository.reconstruir(fuso)
+                    .doOnSuccess(v -> log.info(
+                            "Agregados de receita reconstruídos em {} ms",
+                            (System.nanoTime() - inicio) / 1_000_000
+                    ))
+                    .doFinally(sinal -> reconstruindo.set(false));
+        });
+    }
+
+    /* =====================================================
+       CONSULTA
+       ===================================================== */
+
+    /**
+     * Receita total da plataforma: soma dos períodos anuais do recorte
+     * GLOBAL (única fonte do faturamento; estatísticas não o duplicam)
+     */
+    public Mono<ReceitaPeriodoRepositoryCustom.TotaisReceita> totalGlobal() {
+        return repository.somarPeriodos(DimensaoReceita.GLOBAL, "", GranularidadeReceita.ANO);
+    }
+
+    /**
+     * Série contínua entre inicio e fim (ajustados ao início do período);
+     * períodos sem transações vêm zerados. Sem intervalo → últimos
+     * períodos padrão da granularidade até o atual.
+     */
+    public Mono<SerieReceitaDTO> serie(
+            GranularidadeReceita granularidade,
+            DimensaoReceita dimensao,
+            String chave,
+            LocalDate inicio,
+            LocalDate fim
+    ) {
+        String chaveNormalizada = dimensao == DimensaoReceita.GLOBAL ? "" : chave == null ? "" : chave.trim();
+        if (dimensao != DimensaoReceita.GLOBAL && chaveNormalizada.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Informe a chave para a dimensão " + dimensao));
+        }
+
+        LocalDate ultimo = granularidade.inicioDoPeriodo(fim != null ? fim : LocalDate.now(fuso));
+        LocalDate primeiro = inicio != null
+                ? granularidade.inicioDoPeriodo(inicio)
+                : granularidade.somar(ultimo, 1L - granularidade.getPeriodosPadrao());
+
+        if (primeiro.isAfter(ultimo)) {
+            return Mono.error(new IllegalArgumentException("Início posterior ao fim do intervalo"));
+        }
+        long periodos = granularidade.periodosEntre(primeiro, ultimo);
+        if (periodos > MAXIMO_PERIODOS) {
+            return Mono.error(new IllegalArgumentException(
+                    "Intervalo excede " + MAXIMO_PERIODOS + " períodos (" + periodos + ")"
+            ));
+        }
+
+        return repository.buscarSerie(dimensao, chaveNormalizada, granularidade, primeiro, ultimo)
+                .collectMap(ReceitaPeriodo::getPeriodo, Function.identity())
+                .map(existentes -> new SerieReceitaDTO(
+                        granularidade.name(),
+                        dimensao.name(),
+                        chaveNormalizada,
+                        preencher(granularidade, primeiro, periodos, existentes)
+                ));
+    }
+
+    private static List<PontoReceitaDTO> preencher(
+            GranularidadeReceita granularidade,
+            LocalDate primeiro,
+            long periodos,
+            Map<String, ReceitaPeriodo> existentes
+    ) {
+        List<PontoReceitaDTO> pontos = new ArrayList<>((int) periodos);
+        for (long i = 0; i < periodos; i++) {
+            LocalDate periodo = granularidade.somar(primeiro, i);
+            ReceitaPeriodo receita = existentes.get(periodo.toString());
+            pontos.add(receita == null
+                    ? new PontoReceitaDTO(periodo, 0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO)
+                    : new PontoReceitaDTO(
+                            periodo,
+                            receita.getTransacoes(),
+                            receita.getFaturamentoBruto(),
+                            receita.getComissoesPlataforma(),
+                            receita.getRepassesAtletas()
+                    ));
+        }
+        return pontos;
+    }
+}
@@ -0,0 +1,232 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.DocumentoDireitos;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.ResumoDireitos;
+import br.com.acervodaatletabrasileira.acervoapi.repository.DocumentoDireitosRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Manutenção do resumo jurídico desnormalizado nos itens (ResumoDireitos).
+ *
+ * - Toda escrita de DocumentoDireitos pela API recalcula o resumo do item.
+ * - Resumos que venceram (algum documento chegou a validoAte) são
+ *   recalculados a cada app.juridico.resumo.expiracoes.
+ * - Um verificador compara todos os resumos com os documentos a cada
+ *   app.juridico.resumo.verificacao e corrige os divergentes (escritas
+ *   fora da API, recálculo perdido por falha). Na primeira execução
+ *   também preenche os itens que ainda não têm resumo.
+ *
+ * Falha ao recalcular nunca derruba a escrita do documento: o desvio
+ * fica no log e é corrigido pelo verificador.
+ */
+@Service
+public class ResumoDireitosService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumoDireitosService.class);
+
+    /**
+     * Itens por consulta de documentos durante a verificação
+     */
+    private static final int LOTE_VERIFICACAO = 500;
+
+    private final DocumentoDireitosRepository documentoRepository;
+    private final ItemAcervoRepository itemRepository;
+    private final Duration periodoExpiracoes;
+    private final Duration periodoVerificacao;
+
+    private volatile Disposable expiracoes;
+    private volatile Disposable verificacao;
+
+    public ResumoDireitosService(
+            DocumentoDireitosRepository documentoRepository,
+            ItemAcervoRepository itemRepository,
+            @Value("${app.juridico.resumo.expiracoes:5m}") Duration periodoExpiracoes,
+            @Value("${app.juridico.resumo.verificacao:6h}") Duration periodoVerificacao
+    ) {
+        this.documentoRepository = documentoRepository;
+        this.itemRepository = itemRepository;
+        this.periodoExpiracoes = periodoExpiracoes;
+        this.periodoVerificacao = periodoVerificacao;
+    }
+
+    /* =====================================================
+       RECÁLCULO POR ITEM
+       ===================================================== */
+
+    /**
+     * Relê os documentos do item e grava o resumo
+     * (item nulo ou inexistente → nada a fazer)
+     */
+    public Mono<Void> recalcular(String itemAcervoId) {
+        if (itemAcervoId == null || itemAcervoId.isBlank()) {
+            return Mono.empty();
+        }
+
+        return Mono.defer(() -> {
+                    // Marcado antes da leitura: um recálculo mais antigo não sobrescreve este
+                    Instant inicio = Instant.now();
+                    return documentoRepository.findByItemAcervoId(itemAcervoId)
+                            .collectList()
+                            .flatMap(docs -> itemRepository.definirResumoDireitos(
+                                    itemAcervoId, ResumoDireitos.de(docs, inicio)
+                            ));
+                })
+                .onErrorResume(e -> {
+                    log.warn("Falha ao recalcular resumo jurídico do item {} (corrigido na verificação): {}",
+                            itemAcervoId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Vários itens (ex: documento que trocou de item, expiração em lote)
+     */
+    public Mono<Void> recalcular(Collection<String> itemAcervoIds) {
+        return Flux.fromIterable(itemAcervoIds)
+                .filter(Objects::nonNull)
+                .distinct()
+                .flatMap(this::recalcular, 4)
+                .then();
+    }
+
+    /* =====================================================
+       AGENDAMENTO
+       ===================================================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (!periodoExpiracoes.isZero() && !periodoExpiracoes.isNegative()) {
+            expiracoes = Flux.interval(periodoExpiracoes, periodoExpiracoes)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> recalcularVencidos()
+                            .onErrorResume(e -> {
+                                log.warn("Recálculo de resumos jurídicos vencidos falhou: {}", e.getMessage());
+                                return Mono.empty();
+                            }), 1)
+                    .subscribe();
+        }
+
+        if (periodoVerificacao.isZero() || periodoVerificacao.isNegative()) {
+            log.info("Verificação periódica dos resumos jurídicos desabilitada");
+            return;
+        }
+
+        // Primeira verificação logo após a inicialização (também preenche resumos ausentes)
+        verificacao = Flux.interval(Duration.ZERO, periodoVerificacao)
+                .onBackpressureDrop()
+                .concatMap(tick -> verificar()
+                        .onErrorResume(e -> {
+                            log.warn("Verificação dos resumos jurídicos falhou: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void encerrar() {
+        Disposable atual = expiracoes;
+        if (atual != null) {
+            atual.dispose();
+        }
+        atual = verificacao;
+        if (atual != null) {
+            atual.dispose();
+        }
+    }
+
+    /**
+     * Itens cujo resumo tem proximaExpiracao no passado (índice em
+     * resumoDireitos.proximaExpiracao)
+     *
+     * @return quantidade de itens recalculados
+     */
+    public Mono<Long> recalcularVencidos() {
+        return itemRepository.buscarResumosDireitosVencidos(Instant.now())
+                .map(ItemAcervo::getId)
+                .flatMap(id -> recalcular(id).thenReturn(id), 4)
+                .count()
+                .doOnNext(total -> {
+                    if (total > 0) {
+                        log.info("Resumos jurídicos vencidos recalculados: {}", total);
+                    }
+                });
+    }
+
+    /* =====================================================
+       VERIFICAÇÃO
+       ===================================================== */
+
+    /**
+     * Percorre os itens em lotes (uma consulta de documentos por lote)
+     * e regrava os resumos ausentes ou divergentes da fonte.
+     *
+     * @return quantidade de resumos corrigidos
+     */
+    public Mono<Long> verificar() {
+        return itemRepository.transmitirResumosDireitos()
+                .buffer(LOTE_VERIFICACAO)
+                .concatMap(this::verificarLote)
+                .reduce(0L, Long::sum)
+                .doOnNext(corrigidos -> {
+                    if (corrigidos > 0) {
+                        log.warn("Verificação dos resumos jurídicos corrigiu {} item(ns)", corrigidos);
+                    } else {
+                        log.debug("Verificação dos resumos jurídicos: nenhum desvio");
+                    }
+                });
+    }
+
+    private Mono<Long> verificarLote(List<ItemAcervo> itens) {
+        Set<String> ids = itens.stream().map(ItemAcervo::getId).collect(Collectors.toSet());
+        Instant inicio = Instant.now();
+
+        return documentoRepository.findByItemAcervoIdIn(ids)
+                .collectMultimap(DocumentoDireitos::getItemAcervoId)
+                .flatMapMany(porItem -> Flux.fromIterable(itens)
+                        .filter(item -> divergente(item, porItem, inicio))
+                        .concatMap(item -> itemRepository.definirResumoDireitos(
+                                item.getId(),
+                                ResumoDireitos.de(porItem.getOrDefault(item.getId(), List.of()), inicio)
+                        )))
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+
+    private static boolean divergente(
+            ItemAcervo item,
+            Map<String, Collection<DocumentoDireitos>> porItem,
+            Instant inicio
+    ) {
+        ResumoDireitos esperado = ResumoDireitos.de(porItem.getOrDefault(item.getId(), List.of()), inicio);
+        ResumoDireitos atual = item.getResumoDireitos();
+
+        if (atual != null && !atual.mesmoConteudo(esperado)) {
+            log.info("Desvio no resumo jurídico do item {}: licenciavel {} → {}, documentos {} → {}",
+                    item.getId(),
+                    atual.getLicenciavel(), esperado.getLicenciavel(),
+                    atual.getDocumentosIds(), esperado.getDocumentosIds());
+        }
+        return atual == null || !atual.mesmoConteudo(esperado);
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheCoalescidoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheCoalescidoDTO.ChaveDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache de resultados calculados (ex: dashboards) com:
+ *
+ * - single-flight: requisições simultâneas da mesma chave compartilham
+ *   um único cálculo em andamento;
+ * - TTL curto: dentro dele o resultado é servido sem recalcular;
+ * - stale-while-revalidate: após o TTL, dentro da janela de obsolescência,
+ *   o valor anterior é servido na hora e o recálculo roda em segundo plano.
+ *
+ * Falhas não são cacheadas (o valor obsoleto, se houver, continua válido
+ * até o fim da janela). O cálculo não é cancelado se quem o disparou
+ * desistir: o resultado ainda abastece o cache.
+ */
+public final class CacheCoalescido<K, V> {
+
+    private static final class Entrada<V> {
+        private V valor;
+        private long calculadoEmNanos;
+        private Mono<V> emVoo;
+
+        private long calculos;
+        private long compartilhadas;
+        private long falhas;
+        private long nanosTotal;
+        private long nanosMaximo;
+        private long nanosUltimo;
+    }
+
+    private final String nome;
+    private final Duration ttl;
+    private final Duration obsoleto;
+    private final int capacidade;
+
+    private final LinkedHashMap<K, Entrada<V>> entradas;
+
+    private long geracao;
+    private long requisicoes;
+    private long acertos;
+    private long obsoletosServidos;
+    private long calculos;
+    private long compartilhadas;
+    private long falhas;
+
+    public CacheCoalescido(String nome, Duration ttl, Duration obsoleto, int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser positiva");
+        }
+
+        this.nome = nome;
+        this.ttl = ttl;
+        this.obsoleto = obsoleto;
+        this.capacidade = capacidade;
+
+        // accessOrder = true → ordem LRU
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entrada<V>> eldest) {
+                return size() > CacheCoalescido.this.capacidade;
+            }
+        };
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    public Mono<V> obter(K chave, Supplier<Mono<V>> calculo) {
+        return Mono.defer(() -> {
+            V obsoletoAtual = null;
+            Mono<V> revalidacao = null;
+
+            synchronized (this) {
+                requisicoes++;
+                Entrada<V> entrada = entradas.computeIfAbsent(chave, c -> new Entrada<>());
+                long idade = System.nanoTime() - entrada.calculadoEmNanos;
+
+                if (entrada.valor != null && idade < ttl.toNanos()) {
+                    acertos++;
+                    return Mono.just(entrada.valor);
+                }
+
+                if (entrada.valor != null && idade < ttl.toNanos() + obsoleto.toNanos()) {
+                    obsoletosServidos++;
+                    obsoletoAtual = entrada.valor;
+                    if (entrada.emVoo == null) {
+                        revalidacao = iniciar(chave, entrada, calculo);
+                    }
+                } else if (entrada.emVoo != null) {
+                    entrada.compartilhadas++;
+                    compartilhadas++;
+                    return entrada.emVoo;
+                } else {
+                    return iniciar(chave, entrada, calculo);
+                }
+            }
+
+            if (revalidacao != null) {
+                // Revalidação fora do lock; falhas já contabilizadas em falhar()
+                revalidacao.subscribe(null, e -> { });
+            }
+            return Mono.just(obsoletoAtual);
+        });
+    }
+
+    /**
+     * Chamado sob o lock: registra o cálculo como "em voo" para a chave
+     */
+    private Mono<V> iniciar(K chave, Entrada<V> entrada, Supplier<Mono<V>> calculo) {
+        long geracaoNoInicio = geracao;
+        calculos++;
+        entrada.calculos++;
+
+        Mono<V> voo = Mono.defer(() -> {
+                    long inicio = System.nanoTime();
+                    return calculo.get()
+                            .doOnSuccess(valor -> concluir(chave, entrada, geracaoNoInicio, valor, System.nanoTime() - inicio))
+                            .doOnError(e -> falhar(entrada));
+                })
+                .cache();
+
+        entrada.emVoo = voo;
+        return voo;
+    }
+
+    private synchronized void concluir(K chave, Entrada<V> entrada, long geracaoNoInicio, V valor, long nanos) {
+        entrada.emVoo = null;
+        entrada.nanosUltimo = nanos;
+        entrada.nanosTotal += nanos;
+        entrada.nanosMaximo = Math.max(entrada.nanosMaximo, nanos);
+
+        // Invalidado ou despejado durante o cálculo: entrega, mas não guarda
+        if (valor != null && geracaoNoInicio == geracao && entradas.get(chave) == entrada) {
+            entrada.valor = valor;
+            entrada.calculadoEmNanos = System.nanoTime();
+        }
+    }
+
+    private synchronized void falhar(Entrada<V> entrada) {
+        entrada.emVoo = null;
+        entrada.falhas++;
+        falhas++;
+    }
+
+    /* =====================================================
+       INVALIDAÇÃO
+       ===================================================== */
+
+    public synchronized void invalidarTudo() {
+        geracao++;
+        entradas.clear();
+    }
+
+    /* =====================================================
+       ESTATÍSTICAS
+       ===================================================== */
+
+    /**
+     * taxaCoalescencia: fração das requisições que precisavam de cálculo
+     * e aproveitaram um já em andamento
+     */
+    public synchronized EstatisticasCacheCoalescidoDTO estatisticas() {
+        long agora = System.nanoTime();
+        List<ChaveDTO> chaves = new ArrayList<>(entradas.size());
+        entradas.forEach((chave, entrada) -> chaves.add(new ChaveDTO(
+                String.valueOf(chave),
+                entrada.calculos,
+                entrada.compartilhadas,
+                entrada.falhas,
+                millis(entrada.nanosUltimo),
+                entrada.calculos == 0 ? 0.0 : millis(entrada.nanosTotal) / entrada.calculos,
+                millis(entrada.nanosMaximo),
+                entrada.valor == null ? null : (agora - entrada.calculadoEmNanos) / 1_000_000_000L
+        )));
+
+        long precisavamCalcular = calculos + compartilhadas;
+        return new EstatisticasCacheCoalescidoDTO(
+                nome,
+                ttl.toSeconds(),
+                obsoleto.toSeconds(),
+                requisicoes,
+                acertos,
+                obsoletosServidos,
+                calculos,
+                compartilhadas,
+                falhas,
+                precisavamCalcular == 0 ? 0.0 : (double) compartilhadas / precisavamCalcular,
+                chaves
+        );
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cache em memória (read-through) com expiração por TTL e limite de tamanho (LRU).
+ *
+ * - Apenas valores encontrados são guardados (ausência não é cacheada).
+ * - Toda invalidação avança a "geração" do cache: uma carga iniciada antes
+ *   da invalidação não grava o valor antigo ao terminar.
+ * - Operações são O(1) sob um lock curto; o carregamento em si roda fora dele.
+ */
+public final class CacheLocal<K, V> {
+
+    private record Entrada<V>(V valor, long expiraEmNanos) {
+    }
+
+    private final String nome;
+    private final Duration ttl;
+    private final int capacidade;
+
+    private final LinkedHashMap<K, Entrada<V>> entradas;
+
+    private long geracao;
+    private long acertos;
+    private long falhas;
+    private long despejos;
+    private long expiracoes;
+    private long invalidacoes;
+
+    public CacheLocal(String nome, Duration ttl, int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser positiva");
+        }
+
+        this.nome = nome;
+        this.ttl = ttl;
+        this.capacidade = capacidade;
+
+        // accessOrder = true → ordem LRU
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entrada<V>> eldest) {
+                if (size() > CacheLocal.this.capacidade) {
+                    despejos++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    /**
+     * Devolve o valor cacheado ou executa o carregador, guardando o resultado.
+     */
+    public Mono<V> obter(K chave, Function<K, Mono<V>> carregador) {
+        return Mono.defer(() -> {
+            long geracaoNaLeitura;
+            synchronized (this) {
+                V valor = lerValido(chave);
+                if (valor != null) {
+                    acertos++;
+                    return Mono.just(valor);
+                }
+                falhas++;
+                geracaoNaLeitura = geracao;
+            }
+
+            return carregador.apply(chave)
+                    .doOnNext(valor -> gravar(chave, valor, geracaoNaLeitura));
+        });
+    }
+
+    private V lerValido(K chave) {
+        Entrada<V> entrada = entradas.get(chave);
+        if (entrada == null) {
+            return null;
+        }
+        if (System.nanoTime() - entrada.expiraEmNanos() >= 0) {
+            entradas.remove(chave);
+            expiracoes++;
+            return null;
+        }
+        return entrada.valor();
+    }
+
+    private synchronized void gravar(K chave, V valor, long geracaoNaLeitura) {
+        if (geracaoNaLeitura != geracao) {
+            return;
+        }
+        entradas.put(chave, new Entrada<>(valor, System.nanoTime() + ttl.toNanos()));
+    }
+
+    /* =====================================================
+       INVALIDAÇÃO
+       ===================================================== */
+
+    public synchronized void invalidar(K chave) {
+        geracao++;
+        if (entradas.remove(chave) != null) {
+            invalidacoes++;
+        }
+    }
+
+    /**
+     * Remove as entradas cujo valor atende ao critério
+     * (ex: cache por slug invalidado a partir do id).
+     */
+    public synchronized void invalidarSe(Predicate<V> criterio) {
+        geracao++;
+        Iterator<Entrada<V>> iterator = entradas.values().iterator();
+        while (iterator.hasNext()) {
+            if (criterio.test(iterator.next().valor())) {
+                iterator.remove();
+                invalidacoes++;
+            }
+        }
+    }
+
+    public synchronized void invalidarTudo() {
+        geracao++;
+        invalidacoes += entradas.size();
+        entradas.clear();
+    }
+
+    /* =====================================================
+       ESTATÍSTICAS
+       ===================================================== */
+
+    public synchronized EstatisticasCacheDTO estatisticas() {
+        long consultas = acertos + falhas;
+        return new EstatisticasCacheDTO(
+                nome,
+                entradas.size(),
+                capacidade,
+                ttl.toSeconds(),
+                acertos,
+                falhas,
+                despejos,
+                expiracoes,
+                invalidacoes,
+                consultas == 0 ? 0.0 : (double) acertos / consultas
+        );
+    }
+}
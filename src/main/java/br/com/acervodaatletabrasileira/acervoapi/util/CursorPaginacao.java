@@ -0,0 +1,74 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utilitário de paginação por cursor (keyset).
+ *
+ * O cursor é opaco para o cliente: apenas os valores da chave de ordenação
+ * do último item da página, serializados em Base64 URL-safe.
+ * Cada repositório decide quais campos compõem a chave.
+ */
+public final class CursorPaginacao {
+
+    public static final int TAMANHO_PADRAO = 24;
+    public static final int TAMANHO_MAXIMO = 100;
+
+    private static final String SEPARADOR = "\u001F";
+
+    private CursorPaginacao() {
+    }
+
+    /**
+     * Normaliza o tamanho de página solicitado pelo cliente
+     * (nulo → padrão, limitado ao máximo permitido).
+     */
+    public static int tamanhoPagina(Integer solicitado) {
+        if (solicitado == null) {
+            return TAMANHO_PADRAO;
+        }
+        return Math.max(1, Math.min(solicitado, TAMANHO_MAXIMO));
+    }
+
+    public static String codificar(String... partes) {
+        String conteudo = String.join(SEPARADOR, partes);
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor, exigindo a quantidade exata de partes esperada.
+     * Partes vazias são devolvidas como string vazia.
+     *
+     * @throws CursorInvalidoException cursor que não foi gerado por codificar
+     */
+    public static String[] decodificar(String cursor, int partesEsperadas) {
+        String[] partes;
+        try {
+            String conteudo = new String(
+                    Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8
+            );
+            partes = conteudo.split(SEPARADOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new CursorInvalidoException(e);
+        }
+
+        if (partes.length != partesEsperadas) {
+            throw new CursorInvalidoException(null);
+        }
+        return partes;
+    }
+
+    /**
+     * Cursor malformado ou adulterado: erro do cliente (400), distinto das
+     * demais IllegalArgumentException da consulta
+     */
+    public static class CursorInvalidoException extends IllegalArgumentException {
+        public CursorInvalidoException(Throwable causa) {
+            super("Cursor de paginação inválido", causa);
+        }
+    }
+}
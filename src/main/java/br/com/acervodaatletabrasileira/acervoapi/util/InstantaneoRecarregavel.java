@@ -0,0 +1,164 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Cópia em memória de um dado pequeno e que muda raramente
+ * (ex: registro de modalidades, regras fiscais), trocada por inteiro.
+ *
+ * - Recargas numeradas: uma leitura mais antiga que termine depois
+ *   nunca sobrescreve um valor mais novo.
+ * - Vencido (mais velho que a validade) ou nunca carregado: a leitura
+ *   dispara uma recarga em segundo plano.
+ * - No máximo uma recarga em segundo plano por vez; um pedido que chega
+ *   durante ela agenda mais uma ao final (a leitura em andamento pode
+ *   ter começado antes da escrita que motivou o pedido).
+ * - Falha de recarga fica no log e o valor anterior continua valendo.
+ *
+ * Quem usa registra recarregarEmSegundoPlano nos avisos de escrita
+ * (change stream) e na limpeza geral dos caches (CacheLocalService).
+ */
+public final class InstantaneoRecarregavel<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(InstantaneoRecarregavel.class);
+
+    private record Versao<T>(long recarga, T valor, long carregadoEmNanos) {
+    }
+
+    private final String nome;
+    private final Duration validade;
+    private final Supplier<Mono<T>> leitura;
+
+    private final AtomicReference<Versao<T>> atual;
+    private final AtomicLong recargas = new AtomicLong();
+    private final AtomicBoolean recarregando = new AtomicBoolean(false);
+    private final AtomicBoolean pendente = new AtomicBoolean(false);
+
+    /**
+     * @param inicial valor servido por atual() antes da primeira carga
+     * @param leitura lê o valor completo da fonte (vazio não é aceito)
+     */
+    public InstantaneoRecarregavel(String nome, Duration validade, T inicial, Supplier<Mono<T>> leitura) {
+        this.nome = nome;
+        this.validade = validade;
+        this.leitura = leitura;
+        this.atual = new AtomicReference<>(new Versao<>(0, inicial, 0));
+    }
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    /**
+     * Valor em uso, sem esperar (antes da primeira carga, o inicial)
+     */
+    public T atual() {
+        Versao<T> versao = atual.get();
+        if (versao.recarga() == 0 || vencida(versao)) {
+            recarregarEmSegundoPlano();
+        }
+        return versao.valor();
+    }
+
+    /**
+     * Como atual(), mas antes da primeira carga aguarda a leitura
+     * (falha dela chega ao chamador)
+     */
+    public Mono<T> obter() {
+        Versao<T> versao = atual.get();
+        if (versao.recarga() == 0) {
+            return recarregar().then(Mono.fromSupplier(() -> atual.get().valor()));
+        }
+        if (vencida(versao)) {
+            recarregarEmSegundoPlano();
+        }
+        return Mono.just(versao.valor());
+    }
+
+    public boolean carregado() {
+        return atual.get().recarga() != 0;
+    }
+
+    private boolean vencida(Versao<T> versao) {
+        return System.nanoTime() - versao.carregadoEmNanos() > validade.toNanos();
+    }
+
+    /* =====================================================
+       RECARGA
+       ===================================================== */
+
+    /**
+     * Relê a fonte e troca o valor de uma só vez
+     */
+    public Mono<Void> recarregar() {
+        return Mono.defer(() -> {
+                    long recarga = recargas.incrementAndGet();
+                    return leitura.get()
+                            .switchIfEmpty(Mono.error(new IllegalStateException("Leitura sem valor")))
+                            .doOnNext(valor -> trocar(recarga, valor));
+                })
+                .doOnError(e -> log.warn("Falha ao recarregar {}: {}", nome, e.getMessage()))
+                .then();
+    }
+
+    /**
+     * Troca por um valor já conhecido (ex: o que acabou de ser gravado)
+     */
+    public void definir(T valor) {
+        trocar(recargas.incrementAndGet(), valor);
+    }
+
+    public void recarregarEmSegundoPlano() {
+        // Marcado antes de disputar: se a recarga em andamento já passou
+        // da verificação final, esta chamada vence a disputa e relê
+        pendente.set(true);
+        if (!recarregando.compareAndSet(false, true)) {
+            return;
+        }
+        pendente.set(false);
+        recarregar()
+                .doFinally(sinal -> {
+                    recarregando.set(false);
+                    if (pendente.get()) {
+                        recarregarEmSegundoPlano();
+                    }
+                })
+                // Falha já registrada no log
+                .subscribe(null, e -> { });
+    }
+
+    /**
+     * Carga inicial bloqueante (ApplicationReadyEvent), com novas tentativas.
+     * Falha persistente não impede a subida: a próxima leitura tenta de novo.
+     *
+     * @return true se carregou
+     */
+    public boolean carregarNaInicializacao() {
+        try {
+            recarregar()
+                    .retryWhen(Retry.backoff(5, Duration.ofSeconds(1)))
+                    .block(Duration.ofMinutes(1));
+            return true;
+        } catch (RuntimeException e) {
+            log.error("{} não carregado na inicialização: {}", nome, e.getMessage());
+            return false;
+        }
+    }
+
+    private void trocar(long recarga, T valor) {
+        Versao<T> nova = new Versao<>(recarga, valor, System.nanoTime());
+        atual.accumulateAndGet(
+                nova,
+                (vigente, candidata) -> candidata.recarga() > vigente.recarga() ? candidata : vigente
+        );
+    }
+}
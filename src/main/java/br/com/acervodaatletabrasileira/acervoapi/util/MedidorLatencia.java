@@ -0,0 +1,122 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasLatenciaDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Latência por etapa de um fluxo reativo (desde o início da instância).
+ *
+ * O tempo de cada etapa vai da inscrição até o primeiro sinal terminal
+ * (valor, vazio, erro ou cancelamento) — sem incluir o processamento
+ * que vem depois dela no pipeline.
+ *
+ * Percentis calculados sobre as últimas AMOSTRAS execuções de cada etapa.
+ */
+public final class MedidorLatencia {
+
+    private static final int AMOSTRAS = 512;
+
+    private static final class Etapa {
+        private final String nome;
+        private final long[] amostras = new long[AMOSTRAS];
+        private int proxima;
+        private int preenchidas;
+
+        private long execucoes;
+        private long falhas;
+        private long cancelamentos;
+        private long nanosTotal;
+        private long nanosMaximo;
+        private long nanosUltimo;
+
+        private Etapa(String nome) {
+            this.nome = nome;
+        }
+
+        private synchronized void registrar(long nanos, boolean falhou, boolean cancelada) {
+            if (cancelada) {
+                // Cancelada por outra etapa (ex: falha de uma busca paralela): não entra nos tempos
+                cancelamentos++;
+                return;
+            }
+
+            execucoes++;
+            if (falhou) {
+                falhas++;
+            }
+            nanosUltimo = nanos;
+            nanosTotal += nanos;
+            nanosMaximo = Math.max(nanosMaximo, nanos);
+
+            amostras[proxima] = nanos;
+            proxima = (proxima + 1) % AMOSTRAS;
+            preenchidas = Math.min(preenchidas + 1, AMOSTRAS);
+        }
+
+        private synchronized EstatisticasLatenciaDTO estatisticas() {
+            long[] ordenadas = Arrays.copyOf(amostras, preenchidas);
+            Arrays.sort(ordenadas);
+
+            return new EstatisticasLatenciaDTO(
+                    nome,
+                    execucoes,
+                    falhas,
+                    cancelamentos,
+                    millis(nanosUltimo),
+                    execucoes == 0 ? 0.0 : millis(nanosTotal) / execucoes,
+                    percentil(ordenadas, 0.50),
+                    percentil(ordenadas, 0.95),
+                    percentil(ordenadas, 0.99),
+                    millis(nanosMaximo)
+            );
+        }
+    }
+
+    private final Map<String, Etapa> etapas = new ConcurrentHashMap<>();
+
+    /**
+     * Mede a etapa a cada inscrição (não altera valor nem erro).
+     * A fonte é montada na inscrição: exceções ao montá-la viram erro do Mono.
+     */
+    public <T> Mono<T> medir(String etapa, Supplier<Mono<T>> fonte) {
+        Etapa registro = etapas.computeIfAbsent(etapa, Etapa::new);
+
+        return Mono.defer(() -> {
+            long inicio = System.nanoTime();
+            return Mono.defer(fonte)
+                    .doOnSuccess(valor -> registro.registrar(System.nanoTime() - inicio, false, false))
+                    .doOnError(e -> registro.registrar(System.nanoTime() - inicio, true, false))
+                    .doOnCancel(() -> registro.registrar(System.nanoTime() - inicio, false, true));
+        });
+    }
+
+    public List<EstatisticasLatenciaDTO> estatisticas() {
+        return etapas.values()
+                .stream()
+                .map(Etapa::estatisticas)
+                .sorted(Comparator.comparing(EstatisticasLatenciaDTO::etapa))
+                .toList();
+    }
+
+    /**
+     * Vizinho mais próximo (sem interpolação)
+     */
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0.0;
+        }
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return millis(ordenadas[Math.max(0, indice)]);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional (ETag / Last-Modified / 304) para recursos públicos.
+ *
+ * - Recursos individuais: ETag forte derivado de id + atualizadoEm.
+ * - Coleções: ETag fraco (W/) derivado de (id, atualizadoEm) de cada item,
+ *   sem Last-Modified (remoções não avançam a data máxima).
+ *
+ * A versão é calculada antes do corpo: num 304 o DTO nem chega a ser montado.
+ * Cache-Control "no-cache, public" permite que navegador e CDN guardem a
+ * resposta, revalidando a cada uso.
+ */
+public final class RespostaCondicional {
+
+    private static final CacheControl REVALIDAR = CacheControl.noCache().cachePublic();
+
+    private RespostaCondicional() {
+    }
+
+    /**
+     * ETag + data de última modificação de uma representação
+     * (ultimaModificacao nula → apenas ETag).
+     */
+    public record Versao(String etag, Instant ultimaModificacao) {
+    }
+
+    /* =====================================================
+       CÁLCULO DE VERSÃO
+       ===================================================== */
+
+    public static Versao versao(String id, Instant atualizadoEm) {
+        return new Versao("\"" + id + "-" + epochMillis(atualizadoEm) + "\"", atualizadoEm);
+    }
+
+    /**
+     * ETag forte para representações compostas (ex: perfil = atleta + acervo)
+     */
+    public static Versao versaoComposta(Instant ultimaModificacao, Object... partes) {
+        return new Versao("\"" + resumo(partes) + "\"", ultimaModificacao);
+    }
+
+    public static <T> Versao versaoColecao(
+            Collection<T> itens,
+            Function<T, String> id,
+            Function<T, Instant> atualizadoEm,
+            Object... extras
+    ) {
+        StringBuilder conteudo = new StringBuilder(resumo(extras));
+        for (T item : itens) {
+            conteudo.append(';').append(id.apply(item)).append(':').append(epochMillis(atualizadoEm.apply(item)));
+        }
+        return new Versao("W/\"" + resumo(conteudo) + "\"", null);
+    }
+
+    /* =====================================================
+       RESPOSTA
+       ===================================================== */
+
+    /**
+     * 304 quando If-None-Match / If-Modified-Since confere;
+     * caso contrário 200 com o corpo produzido sob demanda.
+     */
+    public static <T> Mono<ResponseEntity<T>> responder(
+            ServerWebExchange exchange,
+            Versao versao,
+            Supplier<Mono<T>> corpo
+    ) {
+        boolean naoModificado = versao.ultimaModificacao() != null
+                ? exchange.checkNotModified(versao.etag(), versao.ultimaModificacao())
+                : exchange.checkNotModified(versao.etag());
+
+        if (naoModificado) {
+            return Mono.just(cabecalhos(ResponseEntity.status(HttpStatus.NOT_MODIFIED), versao).build());
+        }
+
+        return corpo.get().map(conteudo -> cabecalhos(ResponseEntity.ok(), versao).body(conteudo));
+    }
+
+    /**
+     * Variante para corpos já carregados (coleções)
+     */
+    public static <T> Mono<ResponseEntity<T>> responder(ServerWebExchange exchange, Versao versao, T corpo) {
+        return responder(exchange, versao, () -> Mono.just(corpo));
+    }
+
+    private static ResponseEntity.BodyBuilder cabecalhos(ResponseEntity.BodyBuilder builder, Versao versao) {
+        builder.eTag(versao.etag()).cacheControl(REVALIDAR);
+        if (versao.ultimaModificacao() != null) {
+            builder.lastModified(versao.ultimaModificacao());
+        }
+        return builder;
+    }
+
+    /* =====================================================
+       UTIL
+       ===================================================== */
+
+    private static long epochMillis(Instant instante) {
+        return instante == null ? 0L : instante.toEpochMilli();
+    }
+
+    private static String resumo(Object... partes) {
+        StringBuilder conteudo = new StringBuilder();
+        for (Object parte : partes) {
+            conteudo.append(Objects.toString(parte, "")).append('\u001F');
+        }
+        return DigestUtils.md5DigestAsHex(conteudo.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.acervodaatletabrasileira.acervoapi.config;
+
+import br.com.acervodaatletabrasileira.acervoapi.service.CacheLocalService;
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheChangeStreamListenerTest {
+
+    private static final String COLECAO_TOKENS = "sincronizacao_cache";
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class, RETURNS_DEEP_STUBS);
+    private final CacheLocalService cacheLocalService = mock(CacheLocalService.class);
+
+    private final CacheChangeStreamListener listener = new CacheChangeStreamListener(
+            mongoTemplate,
+            cacheLocalService,
+            "instancia-a",
+            Duration.ofMinutes(1)
+    );
+
+    @AfterEach
+    void encerrar() {
+        listener.encerrar();
+    }
+
+    @Test
+    void historicoPerdidoApagaOTokenERecomecaSemRelerOBanco() {
+        when(mongoTemplate.indexOps(COLECAO_TOKENS).ensureIndex(any(IndexDefinition.class))).thenReturn(Mono.just("atualizadoEm_1"));
+        when(mongoTemplate.findById(anyString(), eq(Document.class), eq(COLECAO_TOKENS)))
+                .thenReturn(Mono.just(new Document("token", "{\"_data\": \"expirado\"}")));
+        when(mongoTemplate.remove(any(Query.class), eq(COLECAO_TOKENS)))
+                .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+
+        Flux<ChangeStreamEvent<Document>> historicoPerdido = Flux.error(erroServidor(286));
+        Flux<ChangeStreamEvent<Document>> conectado = Flux.never();
+        when(mongoTemplate.changeStream(Document.class).withOptions(any()).listen())
+                .thenReturn(historicoPerdido, conectado);
+
+        ReflectionTestUtils.setField(listener, "habilitado", true);
+        listener.iniciar();
+
+        // Segunda conexão (do ponto atual) depois da primeira falhar
+        verify(mongoTemplate.changeStream(Document.class).withOptions(any()), timeout(5_000).times(2)).listen();
+
+        verify(mongoTemplate, times(1)).findById(eq("change-stream-caches:instancia-a"), eq(Document.class), eq(COLECAO_TOKENS));
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(COLECAO_TOKENS));
+        verify(cacheLocalService, times(1)).invalidarTudo();
+    }
+
+    @Test
+    void changeStreamNaoSuportadoNaoTentaDeNovo() {
+        when(mongoTemplate.indexOps(COLECAO_TOKENS).ensureIndex(any(IndexDefinition.class))).thenReturn(Mono.just("atualizadoEm_1"));
+        when(mongoTemplate.findById(anyString(), eq(Document.class), eq(COLECAO_TOKENS))).thenReturn(Mono.empty());
+
+        Flux<ChangeStreamEvent<Document>> standalone = Flux.error(erroServidor(40573));
+        when(mongoTemplate.changeStream(Document.class).withOptions(any()).listen()).thenReturn(standalone);
+
+        ReflectionTestUtils.setField(listener, "habilitado", true);
+        listener.iniciar();
+
+        verify(mongoTemplate.changeStream(Document.class).withOptions(any()), timeout(2_000).times(1)).listen();
+        verify(cacheLocalService, never()).invalidarTudo();
+        verify(mongoTemplate, never()).remove(any(Query.class), anyString());
+    }
+
+    private static MongoCommandException erroServidor(int codigo) {
+        return new MongoCommandException(
+                new BsonDocument("ok", new BsonInt32(0))
+                        .append("code", new BsonInt32(codigo))
+                        .append("errmsg", new BsonString("erro " + codigo)),
+                new ServerAddress()
+        );
+    }
+}
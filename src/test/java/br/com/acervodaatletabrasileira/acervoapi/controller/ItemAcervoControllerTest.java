@@ -0,0 +1,147 @@
+package br.com.acervodaatletabrasileira.acervoapi.controller;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.ItemAcervoCardDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.LoteIdsDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.service.ExpansaoAcervoService;
+import br.com.acervodaatletabrasileira.acervoapi.service.ItemAcervoService;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * expand ou cursor inválido → 400 com a mensagem (expand sem consultar o acervo);
+ * demais erros não são convertidos; versão (ETag) das páginas de cards
+ */
+class ItemAcervoControllerTest {
+
+    private static final List<String> EXPAND_INVALIDO = List.of("atletas", "fotografas");
+
+    private final ItemAcervoService service = mock(ItemAcervoService.class);
+    private final ExpansaoAcervoService expansaoService = mock(ExpansaoAcervoService.class);
+    private final ItemAcervoController controller = new ItemAcervoController(service, expansaoService, new ObjectMapper());
+
+    private final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/acervo"));
+
+    @Test
+    void expandInvalidoNasListagensRespondeBadRequest() {
+        assertBadRequest(() -> controller.listarPublicados(null, null, EXPAND_INVALIDO, exchange));
+        assertBadRequest(() -> controller.buscar("remo", null, null, EXPAND_INVALIDO));
+        assertBadRequest(() -> controller.pesquisar(null, null, null, null, null, null, null, null, EXPAND_INVALIDO));
+        assertBadRequest(() -> controller.listarPorAtleta("a1", null, null, EXPAND_INVALIDO, exchange));
+        assertBadRequest(() -> controller.listarPorModalidade("m1", null, null, EXPAND_INVALIDO, exchange));
+
+        verifyNoInteractions(service, expansaoService);
+    }
+
+    @Test
+    void expandInvalidoNosDetalhesRespondeBadRequest() {
+        assertBadRequest(() -> controller.buscarPorId("i1", EXPAND_INVALIDO, exchange));
+        assertBadRequest(() -> controller.buscarEmLote(new LoteIdsDTO(List.of("i1")), EXPAND_INVALIDO));
+
+        verifyNoInteractions(service, expansaoService);
+    }
+
+    @Test
+    void expandInvalidoNoFluxoFalhaAntesDoPrimeiroCard() {
+        ResponseStatusException erro = assertThrows(
+                ResponseStatusException.class,
+                () -> controller.transmitirPublicados(EXPAND_INVALIDO).blockFirst()
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, erro.getStatusCode());
+        verifyNoInteractions(service, expansaoService);
+    }
+
+    @Test
+    void expandInvalidoLevaAMensagemNoCorpo() {
+        ResponseEntity<?> resposta = controller.buscar("remo", null, null, List.of("fotografas")).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, resposta.getStatusCode());
+        assertEquals(Map.of("error", "Expansão inválida: fotografas"), resposta.getBody());
+    }
+
+    /* =====================================================
+       CURSOR
+       ===================================================== */
+
+    @Test
+    void cursorInvalidoRespondeBadRequestComMensagem() {
+        when(service.listarPublicados("@@@", null))
+                .thenReturn(Mono.error(new CursorPaginacao.CursorInvalidoException(null)));
+
+        ResponseEntity<?> resposta = controller.listarPublicados("@@@", null, null, exchange()).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, resposta.getStatusCode());
+        assertEquals(Map.of("error", "Cursor de paginação inválido"), resposta.getBody());
+    }
+
+    @Test
+    void outrosErrosDaConsultaNaoViramBadRequest() {
+        when(service.buscarPublicado("i1")).thenReturn(Mono.error(new IllegalArgumentException("Item não encontrado")));
+        when(service.buscar("remo", null, null)).thenReturn(Mono.error(new IllegalStateException("Índice de texto ausente")));
+
+        assertThrows(IllegalArgumentException.class, () -> controller.buscarPorId("i1", null, exchange()).block());
+        assertThrows(IllegalStateException.class, () -> controller.buscar("remo", null, null, null).block());
+    }
+
+    /* =====================================================
+       VERSÃO DA PÁGINA
+       ===================================================== */
+
+    @Test
+    void etagDaPaginaMudaQuandoOsDireitosMudamSemAtualizadoEm() {
+        when(expansaoService.expandirPagina(any(), eq(Set.of())))
+                .thenAnswer(invocacao -> Mono.just(invocacao.getArgument(0)));
+
+        when(service.listarPublicados(null, null)).thenReturn(Mono.just(pagina(true)));
+        String licenciavel = controller.listarPublicados(null, null, null, exchange()).block().getHeaders().getETag();
+
+        when(service.listarPublicados(null, null)).thenReturn(Mono.just(pagina(false)));
+        String vencido = controller.listarPublicados(null, null, null, exchange()).block().getHeaders().getETag();
+
+        assertNotEquals(licenciavel, vencido);
+    }
+
+    private static PaginaDTO<ItemAcervoCardDTO> pagina(Boolean direitosLicenciaveis) {
+        ItemAcervoCardDTO card = new ItemAcervoCardDTO(
+                "i1", "Final de 1932", TipoItemAcervo.FOTO, StatusItemAcervo.PUBLICADO, false, true,
+                direitosLicenciaveis, "m1", List.of("a1"), null, Instant.parse("2026-01-01T00:00:00Z"),
+                null, null
+        );
+        return new PaginaDTO<>(List.of(card), null);
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/acervo"));
+    }
+
+    private static void assertBadRequest(Supplier<? extends Mono<? extends ResponseEntity<?>>> chamada) {
+        // Montar a cadeia não pode lançar: o erro só aparece na inscrição
+        Mono<? extends ResponseEntity<?>> resposta = chamada.get();
+        assertEquals(HttpStatus.BAD_REQUEST, resposta.block().getStatusCode());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.acervodaatletabrasileira.acervoapi.controller;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.CarrinhoLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PropostaLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.service.IdempotenciaService;
+import br.com.acervodaatletabrasileira.acervoapi.service.LicenciamentoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Erros da Idempotency-Key → 400 / 422 / 409; os demais seguem inalterados
+ */
+class LicenciamentoControllerTest {
+
+    private static final PropostaLicenciamentoDTO PROPOSTA =
+            new PropostaLicenciamentoDTO("i1", "a1", null, "EDITORIAL", 12);
+
+    private final LicenciamentoService service = mock(LicenciamentoService.class);
+    private final IdempotenciaService idempotenciaService = mock(IdempotenciaService.class);
+    private final LicenciamentoController controller = new LicenciamentoController(service, idempotenciaService);
+
+    private final Principal principal = () -> "usuaria";
+
+    @Test
+    void errosDaChaveViramStatusDoCliente() {
+        assertStatus(HttpStatus.BAD_REQUEST, new IdempotenciaService.ChaveInvalidaException("longa"));
+        assertStatus(HttpStatus.UNPROCESSABLE_ENTITY, new IdempotenciaService.ChaveReutilizadaException("outro corpo"));
+        assertStatus(HttpStatus.CONFLICT, new IdempotenciaService.ChaveEmProcessamentoException("em andamento"));
+    }
+
+    @Test
+    void carrinhoTambemMapeiaConflito() {
+        when(idempotenciaService.executar(anyString(), eq("k1"), any(), any(), any()))
+                .thenReturn(Mono.error(new IdempotenciaService.ChaveEmProcessamentoException("em andamento")));
+
+        ResponseStatusException erro = assertThrows(
+                ResponseStatusException.class,
+                () -> controller.efetivarCarrinho(new CarrinhoLicenciamentoDTO(List.of(PROPOSTA)), "k1", principal).block()
+        );
+        assertEquals(HttpStatus.CONFLICT, erro.getStatusCode());
+    }
+
+    @Test
+    void outrosErrosNaoSaoConvertidos() {
+        when(idempotenciaService.executar(anyString(), eq("k1"), any(), any(), any()))
+                .thenReturn(Mono.error(new IllegalStateException("Configuração fiscal ausente")));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> controller.efetivarLicenciamento(PROPOSTA, "k1", principal).block()
+        );
+    }
+
+    private void assertStatus(HttpStatus esperado, RuntimeException erroDaChave) {
+        when(idempotenciaService.executar(anyString(), eq("k1"), any(), any(), any()))
+                .thenReturn(Mono.error(erroDaChave));
+
+        ResponseStatusException erro = assertThrows(
+                ResponseStatusException.class,
+                () -> controller.efetivarLicenciamento(PROPOSTA, "k1", principal).block()
+        );
+        assertEquals(esperado, erro.getStatusCode());
+    }
+}
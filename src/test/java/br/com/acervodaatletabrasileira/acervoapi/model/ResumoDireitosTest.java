@@ -0,0 +1,127 @@
+package br.com.acervodaatletabrasileira.acervoapi.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cálculo do resumo a partir dos documentos e comparação usada pelo verificador
+ */
+class ResumoDireitosTest {
+
+    private static final Instant AGORA = Instant.parse("2026-03-01T12:00:00Z");
+
+    /* =====================================================
+       CÁLCULO
+       ===================================================== */
+
+    @Test
+    void uneFinalidadesETerritoriosDosDocumentosValidos() {
+        DocumentoDireitos editorial = documento("d2", List.of(DocumentoDireitos.FinalidadeUso.EDITORIAL),
+                List.of(DocumentoDireitos.TerritorioUso.BRASIL), AGORA.plus(Duration.ofDays(30)));
+        DocumentoDireitos comercial = documento("d1", List.of(DocumentoDireitos.FinalidadeUso.COMERCIAL),
+                List.of(DocumentoDireitos.TerritorioUso.BRASIL), AGORA.plus(Duration.ofDays(10)));
+
+        ResumoDireitos resumo = ResumoDireitos.de(List.of(editorial, comercial), AGORA);
+
+        assertTrue(resumo.getLicenciavel());
+        assertEquals(
+                Set.of(DocumentoDireitos.FinalidadeUso.EDITORIAL, DocumentoDireitos.FinalidadeUso.COMERCIAL),
+                Set.copyOf(resumo.getFinalidadesPermitidas())
+        );
+        assertEquals(List.of(DocumentoDireitos.TerritorioUso.BRASIL), resumo.getTerritoriosPermitidos());
+        assertEquals(AGORA.plus(Duration.ofDays(10)), resumo.getProximaExpiracao());
+        assertEquals(List.of("d1", "d2"), resumo.getDocumentosIds());
+        assertEquals(AGORA, resumo.getCalculadoEm());
+    }
+
+    @Test
+    void documentoSemRestricaoLiberaTudoESemValidadeNaoVence() {
+        ResumoDireitos resumo = ResumoDireitos.de(List.of(documento("d1", null, null, null)), AGORA);
+
+        assertEquals(EnumSet.allOf(DocumentoDireitos.FinalidadeUso.class), Set.copyOf(resumo.getFinalidadesPermitidas()));
+        assertEquals(EnumSet.allOf(DocumentoDireitos.TerritorioUso.class), Set.copyOf(resumo.getTerritoriosPermitidos()));
+        assertNull(resumo.getProximaExpiracao());
+        assertTrue(resumo.licenciavelEm(AGORA.plus(Duration.ofDays(3650))));
+    }
+
+    @Test
+    void documentosVencidosPendentesOuSemUsoComercialNaoContam() {
+        DocumentoDireitos vencido = documento("d1", null, null, AGORA.minusSeconds(1));
+        DocumentoDireitos pendente = documento("d2", null, null, null);
+        pendente.setStatus(DocumentoDireitos.StatusDocumentoDireitos.PENDENTE_ANALISE);
+        DocumentoDireitos semUsoComercial = documento("d3", null, null, null);
+        semUsoComercial.setPermiteUsoComercial(false);
+
+        ResumoDireitos resumo = ResumoDireitos.de(List.of(vencido, pendente, semUsoComercial), AGORA);
+
+        assertFalse(resumo.getLicenciavel());
+        assertTrue(resumo.getFinalidadesPermitidas().isEmpty());
+        assertTrue(resumo.getDocumentosIds().isEmpty());
+        assertNull(resumo.getProximaExpiracao());
+    }
+
+    @Test
+    void resumoDeixaDeSerLicenciavelAoVencer() {
+        Instant validoAte = AGORA.plus(Duration.ofDays(1));
+        ResumoDireitos resumo = ResumoDireitos.de(List.of(documento("d1", null, null, validoAte)), AGORA);
+
+        assertTrue(resumo.licenciavelEm(validoAte.minusSeconds(1)));
+        assertFalse(resumo.licenciavelEm(validoAte));
+        assertFalse(resumo.vigenteEm(validoAte));
+    }
+
+    /* =====================================================
+       COMPARAÇÃO
+       ===================================================== */
+
+    @Test
+    void mesmoConteudoIgnoraCalculadoEmEOrdem() {
+        ResumoDireitos antes = new ResumoDireitos(true,
+                List.of(DocumentoDireitos.FinalidadeUso.EDITORIAL, DocumentoDireitos.FinalidadeUso.COMERCIAL),
+                List.of(DocumentoDireitos.TerritorioUso.BRASIL), null, List.of("d1", "d2"), AGORA);
+        ResumoDireitos depois = new ResumoDireitos(true,
+                List.of(DocumentoDireitos.FinalidadeUso.COMERCIAL, DocumentoDireitos.FinalidadeUso.EDITORIAL),
+                List.of(DocumentoDireitos.TerritorioUso.BRASIL), null, List.of("d2", "d1"), AGORA.plusSeconds(60));
+
+        assertTrue(antes.mesmoConteudo(depois));
+    }
+
+    @Test
+    void mesmoConteudoDetectaDocumentoOuExpiracaoDiferente() {
+        ResumoDireitos base = ResumoDireitos.de(List.of(documento("d1", null, null, null)), AGORA);
+
+        assertFalse(base.mesmoConteudo(ResumoDireitos.de(List.of(documento("d2", null, null, null)), AGORA)));
+        assertFalse(base.mesmoConteudo(ResumoDireitos.de(
+                List.of(documento("d1", null, null, AGORA.plus(Duration.ofDays(1)))), AGORA
+        )));
+        assertFalse(base.mesmoConteudo(ResumoDireitos.de(List.of(), AGORA)));
+        assertFalse(base.mesmoConteudo(null));
+    }
+
+    private static DocumentoDireitos documento(
+            String id,
+            List<DocumentoDireitos.FinalidadeUso> finalidades,
+            List<DocumentoDireitos.TerritorioUso> territorios,
+            Instant validoAte
+    ) {
+        DocumentoDireitos doc = new DocumentoDireitos();
+        doc.setId(id);
+        doc.setItemAcervoId("i1");
+        doc.setPermiteUsoComercial(true);
+        doc.setStatus(DocumentoDireitos.StatusDocumentoDireitos.VALIDADO);
+        doc.setFinalidadesPermitidas(finalidades);
+        doc.setTerritoriosPermitidos(territorios);
+        doc.setValidoAte(validoAte);
+        return doc;
+    }
+}
@@ -0,0 +1,185 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Estatisticas;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Agregações do dashboard administrativo: o pipeline enviado ao servidor
+ * termina em $group (só as linhas agregadas voltam para a aplicação)
+ * e o mapeamento das linhas devolvidas é exato.
+ */
+class DashboardAgregacaoTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardAgregacaoTest.class);
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+
+    /* =====================================================
+       ITENS POR TIPO
+       ===================================================== */
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void contarPorTipoAgrupaNoServidor() {
+        ItemAcervoRepositoryCustomImpl repository = new ItemAcervoRepositoryCustomImpl(mongoTemplate, Duration.ofSeconds(2));
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(Flux.just(
+                new Document("_id", "FOTO").append("total", 600_000),
+                new Document("_id", "VIDEO").append("total", 400_000L)
+        ));
+
+        Map<String, Long> porTipo = repository.contarPorTipo().block();
+
+        ArgumentCaptor<TypedAggregation<?>> aggregation = ArgumentCaptor.forClass(TypedAggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(Document.class));
+        verifyNoMoreInteractions(mongoTemplate);
+
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        log.info("contarPorTipo: pipeline {} -> {}", pipeline, porTipo);
+
+        assertEquals(List.of(
+                new Document("$match", new Document("tipo", new Document("$ne", null))),
+                new Document("$group", new Document("_id", "$tipo").append("total", new Document("$sum", 1)))
+        ), pipeline);
+        assertEquals(Map.of("FOTO", 600_000L, "VIDEO", 400_000L), porTipo);
+    }
+
+    /* =====================================================
+       FATURAMENTO
+       ===================================================== */
+
+    @Test
+    void somarFaturamentoConverteTextoEDecimal128() {
+        TransacaoRepositoryCustomImpl repository = new TransacaoRepositoryCustomImpl(mongoTemplate);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("transacoes"), eq(Document.class)))
+                .thenReturn(Flux.just(new Document("_id", null).append("total", new Decimal128(new BigDecimal("50000000.00")))));
+
+        BigDecimal total = repository.somarFaturamentoBruto().block();
+
+        List<Document> pipeline = capturarPipeline();
+        log.info("somarFaturamentoBruto: pipeline {} -> {}", pipeline, total);
+
+        assertEquals(List.of(new Document("$group", new Document("_id", null)
+                .append("total", new Document("$sum", TransacaoRepositoryCustomImpl.decimal("$valorBrutoTotal"))))
+        ), pipeline);
+        assertEquals(new BigDecimal("50000000.00"), total);
+    }
+
+    @Test
+    void somarFaturamentoSemTransacoesDevolveZero() {
+        TransacaoRepositoryCustomImpl repository = new TransacaoRepositoryCustomImpl(mongoTemplate);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("transacoes"), eq(Document.class))).thenReturn(Flux.empty());
+
+        assertEquals(BigDecimal.ZERO, repository.somarFaturamentoBruto().block());
+    }
+
+    @Test
+    void somarRepassesFiltraPelaAtletaAntesDoGroup() {
+        TransacaoRepositoryCustomImpl repository = new TransacaoRepositoryCustomImpl(mongoTemplate);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("transacoes"), eq(Document.class)))
+                .thenReturn(Flux.just(new Document("_id", null).append("transacoes", 3).append("repasses", 42.5)));
+
+        TransacaoRepositoryCustom.TotaisAtleta totais = repository.somarRepassesDaAtleta("a1").block();
+
+        List<Document> pipeline = capturarPipeline();
+        log.info("somarRepassesDaAtleta: pipeline {} -> {}", pipeline, totais);
+
+        assertEquals(new Document("$match", new Document("atletaId", "a1")), pipeline.get(0));
+        assertEquals(2, pipeline.size());
+        assertEquals(3L, totais.transacoes());
+        assertEquals(new BigDecimal("42.5"), totais.repasses());
+    }
+
+    /* =====================================================
+       ESTATÍSTICAS MATERIALIZADAS ($facet)
+       ===================================================== */
+
+    @Test
+    void recalcularMapeiaFacetasELinhasPorAtleta() {
+        EstatisticasRepositoryCustomImpl repository = new EstatisticasRepositoryCustomImpl(mongoTemplate);
+        when(mongoTemplate.aggregate(any(Aggregation.class), any(String.class), eq(Document.class))).thenAnswer(invocacao -> {
+            List<Document> pipeline = ((Aggregation) invocacao.getArgument(0)).toPipeline(Aggregation.DEFAULT_CONTEXT);
+            String colecao = invocacao.getArgument(1);
+            String primeiraEtapa = pipeline.get(0).keySet().iterator().next();
+            log.info("recalcular: {} {}", colecao, pipeline);
+
+            return Flux.just(switch (colecao + primeiraEtapa) {
+                case "itens_acervo$facet" -> new Document()
+                        .append("status", List.of(
+                                new Document("_id", "PUBLICADO").append("n", 2),
+                                new Document("_id", "RASCUNHO").append("n", 1)))
+                        .append("tipo", List.of(new Document("_id", "FOTO").append("n", 3)))
+                        .append("modalidade", List.of(
+                                new Document("_id", "m1").append("n", 2),
+                                new Document("_id", null).append("n", 1)))
+                        .append("total", List.of(new Document("n", 3)));
+                case "itens_acervo$project" -> new Document("_id", "a1")
+                        .append("total", 2)
+                        .append("porStatus", List.of(new Document("_id", "PUBLICADO").append("n", 2)));
+                case "transacoes$match" -> new Document("_id", "a1")
+                        .append("n", 1)
+                        .append("bruto", new Decimal128(new BigDecimal("10.00")))
+                        .append("repasse", new Decimal128(new BigDecimal("8.00")));
+                default -> throw new AssertionError("Etapa inesperada: " + colecao + " " + pipeline);
+            });
+        });
+
+        Map<String, Estatisticas> porId = repository.recalcular()
+                .collectMap(Estatisticas::getId)
+                .block();
+
+        Estatisticas global = porId.get(Estatisticas.ID_GLOBAL);
+        assertEquals(3L, global.getTotalItens());
+        assertEquals(Map.of("PUBLICADO", 2L, "RASCUNHO", 1L), global.getItensPorStatus());
+        assertEquals(Map.of("FOTO", 3L), global.getItensPorTipo());
+        assertEquals(Map.of("m1", 2L), global.getItensPorModalidade());
+        // Financeiro da plataforma vem só de receita_periodos
+        assertEquals(0L, global.getTotalTransacoes());
+        assertEquals(BigDecimal.ZERO, global.getFaturamentoBruto());
+
+        Estatisticas atleta = porId.get(Estatisticas.idAtleta("a1"));
+        assertEquals(2L, atleta.getTotalItens());
+        assertEquals(1L, atleta.getTotalTransacoes());
+        assertEquals(new BigDecimal("8.00"), atleta.getRepassesAtletas());
+        assertEquals(2, porId.size());
+    }
+
+    /* =====================================================
+       CONVERSÃO
+       ===================================================== */
+
+    @Test
+    void paraBigDecimalAceitaOsFormatosDoServidor() {
+        assertEquals(new BigDecimal("10.00"), TransacaoRepositoryCustomImpl.paraBigDecimal(new Decimal128(new BigDecimal("10.00"))));
+        assertEquals(new BigDecimal("7"), TransacaoRepositoryCustomImpl.paraBigDecimal(7));
+        assertEquals(BigDecimal.ZERO, TransacaoRepositoryCustomImpl.paraBigDecimal(null));
+    }
+
+    private List<Document> capturarPipeline() {
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq("transacoes"), eq(Document.class));
+        verifyNoMoreInteractions(mongoTemplate);
+        return aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+    }
+}
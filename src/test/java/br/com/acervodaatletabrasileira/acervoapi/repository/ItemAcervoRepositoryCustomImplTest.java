@@ -0,0 +1,75 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.ResumoDireitos;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * definirResumoDireitos: $set só do subdocumento, condicionado a calculadoEm
+ */
+class ItemAcervoRepositoryCustomImplTest {
+
+    private static final Instant CALCULADO_EM = Instant.parse("2026-03-01T12:00:00Z");
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+    private final ItemAcervoRepositoryCustomImpl repository =
+            new ItemAcervoRepositoryCustomImpl(mongoTemplate, Duration.ofSeconds(2));
+
+    private final ResumoDireitos resumo =
+            new ResumoDireitos(true, List.of(), List.of(), null, List.of("d1"), CALCULADO_EM);
+
+    @Test
+    void resumoMaisAntigoQueOGravadoNaoSobrescreve() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(ItemAcervo.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+
+        assertTrue(repository.definirResumoDireitos("i1", resumo).block());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> update = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(ItemAcervo.class));
+
+        Document filtro = query.getValue().getQueryObject();
+        List<?> condicoes = filtro.getList("$and", Object.class);
+        assertEquals(new Document("id", "i1"), condicoes.get(0));
+        assertEquals(
+                new Document("$or", List.of(
+                        new Document("resumoDireitos.calculadoEm", new Document("$exists", false)),
+                        new Document("resumoDireitos.calculadoEm", new Document("$lte", CALCULADO_EM))
+                )),
+                condicoes.get(1)
+        );
+
+        // Só o subdocumento: atualizadoEm e demais campos do item ficam intactos
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(List.of("resumoDireitos"), List.copyOf(set.keySet()));
+    }
+
+    @Test
+    void nenhumDocumentoCasadoIndicaResumoMaisRecenteJaGravado() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(UpdateDefinition.class), eq(ItemAcervo.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(0, 0L, null)));
+
+        assertFalse(repository.definirResumoDireitos("i1", resumo).block());
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.FiltroAcervoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Cursor malformado vira Mono.error (→ 400 nos controllers),
+ * sem exceção síncrona e sem consulta ao banco.
+ */
+class PaginacaoCursorInvalidoTest {
+
+    private static final String CURSOR_INVALIDO = "@@@";
+    private static final List<StatusItemAcervo> STATUS = List.of(StatusItemAcervo.PUBLICADO);
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+
+    @Test
+    void itensDevolvemErroNaInscricao() {
+        ItemAcervoRepositoryCustomImpl repository = new ItemAcervoRepositoryCustomImpl(mongoTemplate, Duration.ofSeconds(2));
+
+        assertErroNaInscricao(() -> repository.paginarCardsPorStatus(STATUS, CURSOR_INVALIDO, 10));
+        assertErroNaInscricao(() -> repository.paginarTodos(CURSOR_INVALIDO, 10));
+        assertErroNaInscricao(() -> repository.buscarCardsPorTexto("remo", STATUS, CURSOR_INVALIDO, 10));
+        assertErroNaInscricao(() -> repository.pesquisarCardsFacetados(
+                new FiltroAcervoDTO(null, null, null, null, null), STATUS, List.of(), CURSOR_INVALIDO, 10));
+    }
+
+    @Test
+    void deslocamentoNegativoDaBuscaEhInvalido() {
+        ItemAcervoRepositoryCustomImpl repository = new ItemAcervoRepositoryCustomImpl(mongoTemplate, Duration.ofSeconds(2));
+        String cursor = CursorPaginacao.codificar("-24");
+
+        assertErroNaInscricao(() -> repository.buscarCardsPorTexto("remo", STATUS, cursor, 10));
+    }
+
+    @Test
+    void atletasEFotografasDevolvemErroNaInscricao() {
+        AtletaRepositoryCustomImpl atletas = new AtletaRepositoryCustomImpl(mongoTemplate);
+        FotografaRepositoryCustomImpl fotografas = new FotografaRepositoryCustomImpl(mongoTemplate);
+
+        assertErroNaInscricao(() -> atletas.paginarPublicas(null, CURSOR_INVALIDO, 10));
+        assertErroNaInscricao(() -> fotografas.paginarPublicas(null, CURSOR_INVALIDO, 10));
+    }
+
+    private void assertErroNaInscricao(Supplier<Mono<?>> chamada) {
+        // Montar o Mono não pode lançar
+        Mono<?> resultado = chamada.get();
+
+        assertThrows(CursorPaginacao.CursorInvalidoException.class, resultado::block);
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.PaginaDTO;
+import br.com.acervodaatletabrasileira.acervoapi.util.CursorPaginacao;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PaginacaoPorNomeTest {
+
+    record Registro(String nome, String id) {
+    }
+
+    /* =====================================================
+       PÁGINA
+       ===================================================== */
+
+    @Test
+    void excedenteViraCursorDoUltimoDaPagina() {
+        List<Registro> banco = List.of(new Registro("Ana", "1"), new Registro("Bia", "2"), new Registro("Cris", "3"));
+
+        PaginaDTO<Registro> pagina = PaginacaoPorNome.paginar(
+                null, 2, keyset -> Flux.fromIterable(banco), Registro::nome, Registro::id
+        ).block();
+
+        assertEquals(banco.subList(0, 2), pagina.itens());
+        assertArrayEquals(new String[]{"Bia", "2"}, CursorPaginacao.decodificar(pagina.proximoCursor(), 2));
+    }
+
+    @Test
+    void ultimaPaginaNaoTemCursor() {
+        List<Criteria> keysets = new ArrayList<>();
+
+        PaginaDTO<Registro> pagina = PaginacaoPorNome.paginar(
+                PaginacaoPorNome.cursorDe("Bia", "2"),
+                2,
+                keyset -> {
+                    keysets.add(keyset);
+                    return Flux.just(new Registro("Cris", "3"));
+                },
+                Registro::nome,
+                Registro::id
+        ).block();
+
+        assertEquals(1, pagina.itens().size());
+        assertNull(pagina.proximoCursor());
+        assertEquals(PaginacaoPorNome.aposCursor(PaginacaoPorNome.cursorDe("Bia", "2")).getCriteriaObject(),
+                keysets.get(0).getCriteriaObject());
+    }
+
+    /* =====================================================
+       CONSULTA
+       ===================================================== */
+
+    @Test
+    void consultaCombinaFiltroEKeysetNaOrdemPorNome() {
+        Criteria filtro = Criteria.where("categoria").is("OLIMPICA");
+        Criteria keyset = PaginacaoPorNome.aposCursor(PaginacaoPorNome.cursorDe("Bia", "2"));
+
+        Document consulta = PaginacaoPorNome.consulta(filtro, keyset, new String[]{"nome"}).getQueryObject();
+
+        assertEquals(List.of(filtro.getCriteriaObject(), keyset.getCriteriaObject()), consulta.get("$and"));
+        assertEquals(new Document("nome", 1).append("id", 1),
+                PaginacaoPorNome.consulta(null, null, new String[]{"nome"}).getSortObject());
+    }
+
+    @Test
+    void nomeAusenteOrdenaAntesDeQualquerTexto() {
+        Document depoisDeSemNome = PaginacaoPorNome.aposCursor(PaginacaoPorNome.cursorDe(null, "7")).getCriteriaObject();
+
+        List<?> alternativas = depoisDeSemNome.getList("$or", Object.class);
+        assertEquals(new Document("nome", null).append("id", new Document("$gt", "7")), alternativas.get(0));
+        assertEquals(new Document("nome", new Document("$ne", null)), alternativas.get(1));
+    }
+}
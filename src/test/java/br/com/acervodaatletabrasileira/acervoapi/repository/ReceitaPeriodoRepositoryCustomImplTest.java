@@ -0,0 +1,199 @@
+package br.com.acervodaatletabrasileira.acervoapi.repository;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.DimensaoReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.GranularidadeReceita;
+import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReceitaPeriodoRepositoryCustomImplTest {
+
+    private static final ZoneId FUSO = ZoneId.of("America/Sao_Paulo");
+
+    private final ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+    private final ReceitaPeriodoRepositoryCustomImpl repository = new ReceitaPeriodoRepositoryCustomImpl(mongoTemplate);
+
+    /* =====================================================
+       INCREMENTO
+       ===================================================== */
+
+    @Test
+    void loteSomaTransacoesDoMesmoPeriodoNumUnicoUpsert() {
+        ReactiveBulkOperations lote = mock(ReactiveBulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "receita_periodos")).thenReturn(lote);
+        when(lote.execute()).thenReturn(Mono.empty());
+
+        Instant dia = Instant.parse("2024-03-15T15:00:00Z");
+        repository.incrementar(List.of(
+                transacao("a1", "EDITORIAL", "i1", dia, "100.00"),
+                transacao("a1", null, "i2", dia, "50.00")
+        ), FUSO).block();
+
+        ArgumentCaptor<Query> consultas = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<UpdateDefinition> updates = ArgumentCaptor.forClass(UpdateDefinition.class);
+        verify(lote, times(15)).upsert(consultas.capture(), updates.capture());
+
+        Map<String, Document> porId = new LinkedHashMap<>();
+        for (int i = 0; i < consultas.getAllValues().size(); i++) {
+            porId.put(consultas.getAllValues().get(i).getQueryObject().getString("_id"),
+                    updates.getAllValues().get(i).getUpdateObject());
+        }
+
+        // 3 granularidades × (GLOBAL + ATLETA + 1 TIPO_LICENCA + 2 ITEM)
+        Document mesAtleta = porId.get("MES|2024-03-01|ATLETA|a1").get("$inc", Document.class);
+        assertEquals(2L, mesAtleta.get("transacoes"));
+        assertEquals(new Decimal128(new BigDecimal("150.00")), mesAtleta.get("faturamentoBruto"));
+
+        Document anoTipo = porId.get("ANO|2024-01-01|TIPO_LICENCA|EDITORIAL").get("$inc", Document.class);
+        assertEquals(1L, anoTipo.get("transacoes"));
+        assertTrue(porId.containsKey("DIA|2024-03-15|GLOBAL|"));
+        assertFalse(porId.keySet().stream().anyMatch(id -> id.endsWith("TIPO_LICENCA|null")));
+    }
+
+    @Test
+    void transacaoNoFimDoDiaUtcCaiNoDiaDoFuso() {
+        ReactiveBulkOperations lote = mock(ReactiveBulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "receita_periodos")).thenReturn(lote);
+        when(lote.execute()).thenReturn(Mono.empty());
+
+        repository.incrementar(transacao(null, null, null, Instant.parse("2024-04-01T02:00:00Z"), "10.00"), FUSO).block();
+
+        ArgumentCaptor<Query> consultas = ArgumentCaptor.forClass(Query.class);
+        verify(lote, times(3)).upsert(consultas.capture(), any(UpdateDefinition.class));
+        assertEquals(
+                List.of("DIA|2024-03-31|GLOBAL|", "MES|2024-03-01|GLOBAL|", "ANO|2024-01-01|GLOBAL|"),
+                consultas.getAllValues().stream().map(consulta -> consulta.getQueryObject().getString("_id")).toList()
+        );
+    }
+
+    /* =====================================================
+       TOTAIS
+       ===================================================== */
+
+    @Test
+    void totalSomaOsPeriodosDaGranularidade() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("receita_periodos"), eq(Document.class)))
+                .thenReturn(Flux.just(new Document("_id", null)
+                        .append("transacoes", 7L)
+                        .append("faturamentoBruto", new Decimal128(new BigDecimal("700.00")))
+                        .append("comissoesPlataforma", new Decimal128(new BigDecimal("140.00")))
+                        .append("repassesAtletas", new Decimal128(new BigDecimal("560.00")))));
+
+        ReceitaPeriodoRepositoryCustom.TotaisReceita totais = repository
+                .somarPeriodos(DimensaoReceita.GLOBAL, "", GranularidadeReceita.ANO)
+                .block();
+
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq("receita_periodos"), eq(Document.class));
+        assertEquals(
+                new Document("$match", new Document("dimensao", "GLOBAL").append("chave", "").append("granularidade", "ANO")),
+                aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(0)
+        );
+        assertEquals(new ReceitaPeriodoRepositoryCustom.TotaisReceita(
+                7L, new BigDecimal("700.00"), new BigDecimal("140.00"), new BigDecimal("560.00")), totais);
+    }
+
+    @Test
+    void totalSemPeriodosEZero() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("receita_periodos"), eq(Document.class))).thenReturn(Flux.empty());
+
+        assertEquals(ReceitaPeriodoRepositoryCustom.TotaisReceita.ZERO,
+                repository.somarPeriodos(DimensaoReceita.GLOBAL, "", GranularidadeReceita.ANO).block());
+    }
+
+    /* =====================================================
+       RECONSTRUÇÃO
+       ===================================================== */
+
+    @Test
+    void reconstrucaoPreservaIncrementosConcorrentes() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq("receita_periodos")))
+                .thenReturn(Mono.empty());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("transacoes"), eq(Document.class))).thenReturn(Flux.empty());
+        when(mongoTemplate.remove(any(Query.class), eq("receita_periodos"))).thenReturn(Mono.empty());
+
+        Instant antes = Instant.now();
+        repository.reconstruir(FUSO).block();
+
+        InOrder ordem = inOrder(mongoTemplate);
+        ArgumentCaptor<UpdateDefinition> base = ArgumentCaptor.forClass(UpdateDefinition.class);
+        ordem.verify(mongoTemplate).updateMulti(eq(new Query()), base.capture(), eq("receita_periodos"));
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        ordem.verify(mongoTemplate).aggregate(aggregation.capture(), eq("transacoes"), eq(Document.class));
+        ArgumentCaptor<Query> semRecalculo = ArgumentCaptor.forClass(Query.class);
+        ordem.verify(mongoTemplate).updateMulti(semRecalculo.capture(), any(AggregationUpdate.class), eq("receita_periodos"));
+        ordem.verify(mongoTemplate).remove(any(Query.class), eq("receita_periodos"));
+
+        // 1. base = totais atuais
+        Document copiaBase = (Document) ((AggregationUpdate) base.getValue()).toPipeline(Aggregation.DEFAULT_CONTEXT)
+                .get(0).get("$set", Document.class).get("base");
+        assertEquals("$faturamentoBruto", copiaBase.get("faturamentoBruto"));
+
+        // 2. só transações anteriores ao marco
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        Date marco = pipeline.get(0).get("$match", Document.class).get("dataTransacao", Document.class).get("$lt", Date.class);
+        assertFalse(marco.toInstant().isBefore(antes));
+        assertEquals(new Document("atualizadoEm", new Document("$gte", marco)).append("base", new Document("$exists", true)),
+                reordenar(semRecalculo.getValue().getQueryObject()));
+
+        // 3. $merge: recalculado + (atual - base)
+        Document merge = pipeline.get(pipeline.size() - 1).get("$merge", Document.class);
+        assertEquals("insert", merge.get("whenNotMatched"));
+        Document substituicao = merge.getList("whenMatched", Document.class).get(0).get("$replaceWith", Document.class);
+        List<?> partes = substituicao.getList("$mergeObjects", Object.class);
+        assertEquals("$$new", partes.get(0));
+        assertEquals(ReceitaPeriodoRepositoryCustomImpl.somarIncrementosDesdeABase("$$new."), partes.get(1));
+        assertEquals(
+                new Document("$add", List.of("$$new.transacoes", new Document("$subtract", List.of(
+                        new Document("$ifNull", List.of("$transacoes", 0)),
+                        new Document("$ifNull", List.of("$base.transacoes", 0))
+                )))),
+                ((Document) partes.get(1)).get("transacoes")
+        );
+    }
+
+    private static Document reordenar(Document consulta) {
+        return new Document("atualizadoEm", consulta.get("atualizadoEm")).append("base", consulta.get("base"));
+    }
+
+    private static Transacao transacao(String atletaId, String tipoLicenca, String itemId, Instant data, String bruto) {
+        Transacao transacao = new Transacao();
+        transacao.setAtletaId(atletaId);
+        transacao.setTipoLicenca(tipoLicenca);
+        transacao.setItemId(itemId);
+        transacao.setDataTransacao(data);
+        transacao.setValorBrutoTotal(new BigDecimal(bruto));
+        return transacao;
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepositoryCustom.AcervoVisivel;
+import br.com.acervodaatletabrasileira.acervoapi.util.RespostaCondicional;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AtletaServiceTest {
+
+    private static final Instant T0 = Instant.parse("2024-03-01T12:00:00Z");
+
+    private final ItemAcervoRepository acervoRepository = mock(ItemAcervoRepository.class);
+
+    private final AtletaService service = new AtletaService(
+            mock(AtletaRepository.class),
+            acervoRepository,
+            mock(PasswordEncoder.class),
+            mock(ItemAcervoService.class),
+            new CacheLocalService(Duration.ofMinutes(1), 10)
+    );
+
+    private final Atleta atleta = atleta();
+
+    /* =====================================================
+       VERSÃO DO PERFIL
+       ===================================================== */
+
+    @Test
+    void mesmoAcervoMesmaVersaoSemLastModified() {
+        RespostaCondicional.Versao primeira = versaoCom(List.of(item("i1", T0), item("i2", T0)), Map.of("FOTO", 2L));
+        RespostaCondicional.Versao segunda = versaoCom(List.of(item("i1", T0), item("i2", T0)), Map.of("FOTO", 2L));
+
+        assertEquals(primeira, segunda);
+        assertNull(primeira.ultimaModificacao());
+    }
+
+    @Test
+    void removerItemDaPaginaMudaAVersao() {
+        RespostaCondicional.Versao antes = versaoCom(List.of(item("i1", T0), item("i2", T0)), Map.of("FOTO", 2L));
+        RespostaCondicional.Versao depois = versaoCom(List.of(item("i1", T0)), Map.of("FOTO", 1L));
+
+        assertNotEquals(antes.etag(), depois.etag());
+    }
+
+    @Test
+    void removerItemForaDaPaginaMudaAVersaoPelosTotais() {
+        List<ItemAcervo> pagina = List.of(item("i1", T0));
+
+        assertNotEquals(
+                versaoCom(pagina, Map.of("FOTO", 40L)).etag(),
+                versaoCom(pagina, Map.of("FOTO", 39L)).etag()
+        );
+    }
+
+    @Test
+    void editarItemOuAtletaMudaAVersao() {
+        RespostaCondicional.Versao antes = versaoCom(List.of(item("i1", T0)), Map.of("FOTO", 1L));
+
+        assertNotEquals(antes.etag(), versaoCom(List.of(item("i1", T0.plusSeconds(1))), Map.of("FOTO", 1L)).etag());
+
+        atleta.setAtualizadoEm(T0.plusSeconds(60));
+        assertNotEquals(antes.etag(), versaoCom(List.of(item("i1", T0)), Map.of("FOTO", 1L)).etag());
+    }
+
+    /* =====================================================
+       AUXILIARES
+       ===================================================== */
+
+    private RespostaCondicional.Versao versaoCom(List<ItemAcervo> pagina, Map<String, Long> totais) {
+        when(acervoRepository.buscarAcervoVisivel(eq("a1"), any(), anyInt()))
+                .thenReturn(Mono.just(new AcervoVisivel(pagina, totais)));
+        return service.versaoPerfil(atleta).block();
+    }
+
+    private static Atleta atleta() {
+        Atleta atleta = new Atleta();
+        atleta.setId("a1");
+        atleta.setAtualizadoEm(T0);
+        return atleta;
+    }
+
+    private static ItemAcervo item(String id, Instant atualizadoEm) {
+        ItemAcervo item = new ItemAcervo();
+        item.setId(id);
+        item.setAtualizadoEm(atualizadoEm);
+        return item;
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ConfiguracaoFiscal;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ConfiguracaoFiscalRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConfiguracaoFiscalServiceTest {
+
+    private final ConfiguracaoFiscalRepository repository = mock(ConfiguracaoFiscalRepository.class);
+    private final CacheLocalService cacheLocalService = new CacheLocalService(Duration.ofMinutes(10), 10);
+    private final ConfiguracaoFiscalService service =
+            new ConfiguracaoFiscalService(repository, cacheLocalService, Duration.ofHours(1));
+
+    @Test
+    void semDocumentoGravadoUsaOPadrao() {
+        when(repository.findById(ConfiguracaoFiscalService.CONFIG_ID)).thenReturn(Mono.empty());
+
+        assertEquals(new BigDecimal("0.85"), service.regras().block().getPercentualRepasseAtleta());
+        assertNull(service.configurada().block());
+    }
+
+    @Test
+    void regrasNoPrazoNaoVaoAoBanco() {
+        when(repository.findById(ConfiguracaoFiscalService.CONFIG_ID)).thenReturn(Mono.just(config("0.80")));
+
+        service.regras().block();
+        service.regras().block();
+        service.configurada().block();
+
+        verify(repository, times(1)).findById(ConfiguracaoFiscalService.CONFIG_ID);
+    }
+
+    @Test
+    void limpezaGeralDosCachesRecarregaAsRegras() {
+        when(repository.findById(ConfiguracaoFiscalService.CONFIG_ID)).thenReturn(Mono.just(config("0.80")));
+        service.recarregar().block();
+
+        when(repository.findById(ConfiguracaoFiscalService.CONFIG_ID)).thenReturn(Mono.just(config("0.70")));
+        cacheLocalService.invalidarTudo();
+
+        assertEquals(new BigDecimal("0.70"), service.regras().block().getPercentualRepasseAtleta());
+    }
+
+    private static ConfiguracaoFiscal config(String repasse) {
+        BigDecimal percentual = new BigDecimal(repasse);
+        return new ConfiguracaoFiscal(
+                ConfiguracaoFiscalService.CONFIG_ID,
+                percentual,
+                BigDecimal.ONE.subtract(percentual),
+                "teste",
+                Instant.now(),
+                "admin"
+        );
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Estatisticas;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.TipoItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
+import br.com.acervodaatletabrasileira.acervoapi.repository.EstatisticasRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EstatisticasServiceTest {
+
+    private final EstatisticasRepository repository = mock(EstatisticasRepository.class);
+    private final EstatisticasService service = new EstatisticasService(repository, Duration.ZERO);
+
+    /* =====================================================
+       INCREMENTOS
+       ===================================================== */
+
+    @Test
+    void mudancaDeStatusIncrementaSoOsContadoresAlterados() {
+        when(repository.incrementar(any())).thenReturn(Mono.empty());
+
+        EstatisticasService.RetratoItem antes = new EstatisticasService.RetratoItem(
+                StatusItemAcervo.RASCUNHO, TipoItemAcervo.FOTO, "m1", Set.of("a1"));
+        EstatisticasService.RetratoItem depois = new EstatisticasService.RetratoItem(
+                StatusItemAcervo.PUBLICADO, TipoItemAcervo.FOTO, "m1", Set.of("a1"));
+
+        service.registrarItem(antes, depois).block();
+
+        assertEquals(Map.of(
+                Estatisticas.ID_GLOBAL, Map.of("itensPorStatus.RASCUNHO", -1L, "itensPorStatus.PUBLICADO", 1L),
+                Estatisticas.idAtleta("a1"), Map.of("itensPorStatus.RASCUNHO", -1L, "itensPorStatus.PUBLICADO", 1L)
+        ), incrementos());
+    }
+
+    @Test
+    void criacaoSomaEmTodosOsRecortesDoItem() {
+        when(repository.incrementar(any())).thenReturn(Mono.empty());
+
+        service.registrarItem(null, new EstatisticasService.RetratoItem(
+                StatusItemAcervo.PUBLICADO, TipoItemAcervo.VIDEO, "m1", Set.of("a1", "a2"))).block();
+
+        Map<String, Map<String, Number>> incrementos = incrementos();
+        assertEquals(Map.of(
+                "totalItens", 1L,
+                "itensPorStatus.PUBLICADO", 1L,
+                "itensPorTipo.VIDEO", 1L,
+                "itensPorModalidade.m1", 1L
+        ), incrementos.get(Estatisticas.ID_GLOBAL));
+        assertEquals(Map.of("totalItens", 1L, "itensPorStatus.PUBLICADO", 1L), incrementos.get(Estatisticas.idAtleta("a2")));
+        assertEquals(3, incrementos.size());
+    }
+
+    @Test
+    void transacoesDoCarrinhoSomadasPorAtletaSemDocumentoGlobal() {
+        when(repository.incrementar(any())).thenReturn(Mono.empty());
+
+        service.registrarTransacoes(List.of(
+                transacao("a1", "100.00", "80.00"),
+                transacao("a1", "50.00", "40.00"),
+                transacao(null, "10.00", "0.00")
+        )).block();
+
+        assertEquals(Map.of(Estatisticas.idAtleta("a1"), Map.of(
+                "totalTransacoes", 2L,
+                "faturamentoBruto", new BigDecimal("150.00"),
+                "repassesAtletas", new BigDecimal("120.00")
+        )), incrementos());
+    }
+
+    @Test
+    void falhaAoIncrementarNaoPropaga() {
+        when(repository.incrementar(any())).thenReturn(Mono.error(new IllegalStateException("indisponível")));
+
+        service.registrarTransacao(transacao("a1", "10.00", "8.00")).block();
+    }
+
+    /* =====================================================
+       RECÁLCULO
+       ===================================================== */
+
+    @Test
+    void recalculoSubstituiDivergentesPelaVersaoLida() {
+        Estatisticas igual = Estatisticas.vazia(Estatisticas.idAtleta("a1"));
+        igual.setTotalItens(2L);
+        igual.setVersao(5L);
+        Estatisticas divergente = Estatisticas.vazia(Estatisticas.ID_GLOBAL);
+        divergente.setTotalItens(9L);
+        divergente.setVersao(7L);
+        Estatisticas semItens = Estatisticas.vazia(Estatisticas.idAtleta("a2"));
+        semItens.setTotalItens(1L);
+        semItens.setVersao(3L);
+
+        Estatisticas global = Estatisticas.vazia(Estatisticas.ID_GLOBAL);
+        global.setTotalItens(2L);
+        Estatisticas atleta = Estatisticas.vazia(Estatisticas.idAtleta("a1"));
+        atleta.setTotalItens(2L);
+
+        when(repository.findAll()).thenReturn(Flux.just(igual, divergente, semItens));
+        when(repository.recalcular()).thenReturn(Flux.just(global, atleta));
+        when(repository.substituirSeVersao(any(), anyLong())).thenReturn(Mono.just(true));
+
+        assertEquals(2L, service.recalcular().block());
+
+        verify(repository).substituirSeVersao(global, 7L);
+        ArgumentCaptor<Estatisticas> zerada = ArgumentCaptor.forClass(Estatisticas.class);
+        verify(repository).substituirSeVersao(zerada.capture(), eq(3L));
+        assertEquals(Estatisticas.idAtleta("a2"), zerada.getValue().getId());
+        assertEquals(0L, zerada.getValue().getTotalItens());
+        assertNotNull(zerada.getValue().getReparadoEm());
+        verify(repository, never()).substituirSeVersao(eq(atleta), anyLong());
+    }
+
+    @Test
+    void incrementoConcorrenteAdiaOReparo() {
+        Estatisticas atual = Estatisticas.vazia(Estatisticas.ID_GLOBAL);
+        atual.setVersao(4L);
+        Estatisticas recalculada = Estatisticas.vazia(Estatisticas.ID_GLOBAL);
+        recalculada.setTotalItens(1L);
+
+        when(repository.findAll()).thenReturn(Flux.just(atual));
+        when(repository.recalcular()).thenReturn(Flux.just(recalculada));
+        when(repository.substituirSeVersao(recalculada, 4L)).thenReturn(Mono.just(false));
+
+        assertEquals(0L, service.recalcular().block());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, Number>> incrementos() {
+        ArgumentCaptor<Map<String, Map<String, Number>>> incrementos = ArgumentCaptor.forClass(Map.class);
+        verify(repository).incrementar(incrementos.capture());
+        return incrementos.getValue();
+    }
+
+    private static Transacao transacao(String atletaId, String bruto, String repasse) {
+        Transacao transacao = new Transacao();
+        transacao.setAtletaId(atletaId);
+        transacao.setValorBrutoTotal(new BigDecimal(bruto));
+        transacao.setValorLiquidoRepasse(new BigDecimal(repasse));
+        return transacao;
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.ChaveIdempotencia;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ChaveIdempotenciaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Idempotency-Key: execução única, repetição com a resposta guardada,
+ * recusa de corpo diferente e de reserva sem conclusão (nunca reexecutada).
+ */
+class IdempotenciaServiceTest {
+
+    private static final String ESCOPO = "licenciamento.efetivar:usuaria";
+    private static final String CHAVE = "k1";
+    private static final String ID = ESCOPO + "|" + CHAVE;
+
+    record Pedido(String itemId) {
+    }
+
+    record Resposta(String transacaoId) {
+    }
+
+    private final ChaveIdempotenciaRepository repository = mock(ChaveIdempotenciaRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final IdempotenciaService service = new IdempotenciaService(
+            repository, objectMapper, Duration.ofHours(24), Duration.ofMillis(300), Duration.ofMinutes(2)
+    );
+
+    private final AtomicInteger execucoes = new AtomicInteger();
+    private final Supplier<Mono<Resposta>> operacao = () -> Mono.fromSupplier(() -> {
+        execucoes.incrementAndGet();
+        return new Resposta("t" + execucoes.get());
+    });
+
+    @Test
+    void primeiraRequisicaoExecutaEGuardaAResposta() {
+        when(repository.reservar(any())).thenReturn(Mono.just(true));
+        when(repository.concluir(eq(ID), anyString(), anyString(), any(), any())).thenReturn(Mono.just(true));
+
+        Resposta resposta = service.executar(ESCOPO, CHAVE, new Pedido("i1"), Resposta.class, operacao).block();
+
+        assertEquals(new Resposta("t1"), resposta);
+        assertEquals(1, execucoes.get());
+        verify(repository).concluir(eq(ID), anyString(), eq("{\"transacaoId\":\"t1\"}"), any(), any());
+    }
+
+    @Test
+    void repeticaoConcluidaDevolveARespostaGuardadaSemExecutar() throws Exception {
+        when(repository.reservar(any())).thenReturn(Mono.just(false));
+        ChaveIdempotencia concluida = reserva(impressao(new Pedido("i1")), ChaveIdempotencia.Status.CONCLUIDA, Instant.now());
+        concluida.setResposta("{\"transacaoId\":\"t-original\"}");
+        when(repository.findById(ID)).thenReturn(Mono.just(concluida));
+
+        Resposta resposta = service.executar(ESCOPO, CHAVE, new Pedido("i1"), Resposta.class, operacao).block();
+
+        assertEquals(new Resposta("t-original"), resposta);
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    void mesmaChaveComOutroCorpoERecusada() throws Exception {
+        when(repository.reservar(any())).thenReturn(Mono.just(false));
+        when(repository.findById(ID)).thenReturn(Mono.just(
+                reserva(impressao(new Pedido("i1")), ChaveIdempotencia.Status.CONCLUIDA, Instant.now())
+        ));
+
+        Mono<Resposta> repeticao = service.executar(ESCOPO, CHAVE, new Pedido("i2"), Resposta.class, operacao);
+
+        assertThrows(IdempotenciaService.ChaveReutilizadaException.class, repeticao::block);
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    void reservaSemConclusaoAposProcessamentoMaximoNaoEReexecutada() throws Exception {
+        when(repository.reservar(any())).thenReturn(Mono.just(false));
+        when(repository.findById(ID)).thenReturn(Mono.just(reserva(
+                impressao(new Pedido("i1")),
+                ChaveIdempotencia.Status.EM_ANDAMENTO,
+                Instant.now().minus(Duration.ofMinutes(10))
+        )));
+
+        Mono<Resposta> repeticao = service.executar(ESCOPO, CHAVE, new Pedido("i1"), Resposta.class, operacao);
+
+        assertThrows(IdempotenciaService.ChaveEmProcessamentoException.class, repeticao::block);
+        assertEquals(0, execucoes.get());
+        verify(repository, never()).liberar(anyString(), anyString());
+    }
+
+    @Test
+    void reservaRecenteEmAndamentoEsgotaAEsperaSemExecutar() throws Exception {
+        when(repository.reservar(any())).thenReturn(Mono.just(false));
+        when(repository.findById(ID)).thenReturn(Mono.just(
+                reserva(impressao(new Pedido("i1")), ChaveIdempotencia.Status.EM_ANDAMENTO, Instant.now())
+        ));
+
+        Mono<Resposta> repeticao = service.executar(ESCOPO, CHAVE, new Pedido("i1"), Resposta.class, operacao);
+
+        assertThrows(IdempotenciaService.ChaveEmProcessamentoException.class, repeticao::block);
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    void falhaDaOperacaoLiberaAChave() {
+        when(repository.reservar(any())).thenReturn(Mono.just(true));
+        when(repository.liberar(eq(ID), anyString())).thenReturn(Mono.empty());
+
+        Mono<Resposta> falha = service.executar(
+                ESCOPO, CHAVE, new Pedido("i1"), Resposta.class,
+                () -> Mono.error(new IllegalArgumentException("Item não licenciável"))
+        );
+
+        assertThrows(IllegalArgumentException.class, falha::block);
+        verify(repository).liberar(eq(ID), anyString());
+        verify(repository, never()).concluir(anyString(), anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void chaveLongaDemaisERecusadaSemReservar() {
+        Mono<Resposta> requisicao = service.executar(
+                ESCOPO, "k".repeat(256), new Pedido("i1"), Resposta.class, operacao
+        );
+
+        assertThrows(IdempotenciaService.ChaveInvalidaException.class, requisicao::block);
+        verify(repository, never()).reservar(any());
+    }
+
+    private static ChaveIdempotencia reserva(String impressao, ChaveIdempotencia.Status status, Instant criadaEm) {
+        return new ChaveIdempotencia(ID, impressao, status, "outro-dono", null, criadaEm, null, criadaEm.plus(Duration.ofHours(24)));
+    }
+
+    private String impressao(Object requisicao) throws Exception {
+        byte[] corpo = objectMapper.writeValueAsBytes(requisicao);
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(corpo));
+    }
+}
@@ -0,0 +1,233 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Modalidade;
+import br.com.acervodaatletabrasileira.acervoapi.model.ResumoDireitos;
+import br.com.acervodaatletabrasileira.acervoapi.model.StatusItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ModalidadeRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ItemAcervoServiceTest {
+
+    private final ItemAcervoRepository repository = mock(ItemAcervoRepository.class);
+    private final AtletaRepository atletaRepository = mock(AtletaRepository.class);
+    private final ModalidadeRepository modalidadeRepository = mock(ModalidadeRepository.class);
+    private final EstatisticasService estatisticasService = mock(EstatisticasService.class);
+    private final ResumoDireitosService resumoDireitosService = mock(ResumoDireitosService.class);
+
+    private final ItemAcervoService service = new ItemAcervoService(
+            repository,
+            atletaRepository,
+            modalidadeRepository,
+            mock(CloudinaryService.class),
+            new CacheLocalService(Duration.ofMinutes(1), 10),
+            estatisticasService,
+            resumoDireitosService
+    );
+
+    /* =====================================================
+       NOMES RELACIONADOS
+       ===================================================== */
+
+    @Test
+    void nomesIncluemNomeSocialEModalidadeSemRepetir() {
+        ItemAcervo item = item("i1", "m1", "a1", "a2");
+
+        List<String> nomes = ItemAcervoService.nomesRelacionados(
+                item,
+                Map.of(
+                        "a1", atleta("a1", "Aída dos Santos", null),
+                        "a2", atleta("a2", "Maria Lenk", "Aída dos Santos")
+                ),
+                Map.of("m1", modalidade("m1", "Atletismo"))
+        );
+
+        assertEquals(List.of("Aída dos Santos", "Maria Lenk", "Atletismo"), nomes);
+    }
+
+    @Test
+    void vinculosInexistentesENomesVaziosSaoIgnorados() {
+        ItemAcervo item = item("i1", "m-removida", "a1", null, "a-removida");
+
+        List<String> nomes = ItemAcervoService.nomesRelacionados(
+                item,
+                Map.of("a1", atleta("a1", "  ", "Wanda dos Santos")),
+                Map.of()
+        );
+
+        assertEquals(List.of("Wanda dos Santos"), nomes);
+    }
+
+    /* =====================================================
+       REINDEXAÇÃO EM LOTE
+       ===================================================== */
+
+    @Test
+    void reindexacaoFazUmaConsultaEUmBulkPorLote() {
+        when(atletaRepository.findAllById(anyIterable())).thenReturn(Flux.just(
+                atleta("a1", "Aída dos Santos", null),
+                atleta("a2", "Maria Lenk", null)
+        ));
+        when(modalidadeRepository.findAllById(anyIterable())).thenReturn(Flux.just(modalidade("m1", "Natação")));
+        when(repository.definirNomesRelacionados(anyMap())).thenReturn(Mono.empty());
+
+        long total = service.reindexarNomes(Flux.just(
+                item("i1", "m1", "a1"),
+                item("i2", "m1", "a1", "a2"),
+                item("i3", null)
+        )).block();
+
+        assertEquals(3, total);
+        verify(atletaRepository, times(1)).findAllById(anyIterable());
+        verify(modalidadeRepository, times(1)).findAllById(anyIterable());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, List<String>>> gravados = ArgumentCaptor.forClass(Map.class);
+        verify(repository, times(1)).definirNomesRelacionados(gravados.capture());
+        assertEquals(
+                Map.of(
+                        "i1", List.of("Aída dos Santos", "Natação"),
+                        "i2", List.of("Aída dos Santos", "Maria Lenk", "Natação"),
+                        "i3", List.of()
+                ),
+                gravados.getValue()
+        );
+    }
+
+    @Test
+    void reindexacaoDivideEmLotes() {
+        when(atletaRepository.findAllById(anyIterable())).thenReturn(Flux.empty());
+        when(repository.definirNomesRelacionados(anyMap())).thenReturn(Mono.empty());
+
+        Flux<ItemAcervo> itens = Flux.fromStream(IntStream.range(0, 1_200).mapToObj(i -> item("i" + i, null, "a1")));
+
+        assertEquals(1_200L, service.reindexarNomes(itens).block());
+        verify(repository, times(3)).definirNomesRelacionados(anyMap());
+        verify(atletaRepository, times(3)).findAllById(anyIterable());
+    }
+
+    @Test
+    void semItensNadaEhGravado() {
+        assertEquals(0L, service.reindexarNomes(Flux.empty()).block());
+        verify(repository, times(0)).definirNomesRelacionados(any(Map.class));
+    }
+
+    /* =====================================================
+       DÉCADA
+       ===================================================== */
+
+    @Test
+    void decadaVemDoPrimeiroAnoDoTextoLivre() {
+        assertEquals(1920, ItemAcervoService.decadaDe("Década de 1920"));
+        assertEquals(2000, ItemAcervoService.decadaDe("Junho de 2004"));
+        assertEquals(1960, ItemAcervoService.decadaDe("entre 1968 e 1972"));
+        assertEquals(1800, ItemAcervoService.decadaDe("1800"));
+    }
+
+    @Test
+    void semAnoReconhecivelNaoHaDecada() {
+        assertNull(ItemAcervoService.decadaDe(null));
+        assertNull(ItemAcervoService.decadaDe("data desconhecida"));
+        assertNull(ItemAcervoService.decadaDe("12345"));
+        assertNull(ItemAcervoService.decadaDe("1750"));
+    }
+
+    @Test
+    void preenchimentoGravaDecadasEmLote() {
+        when(repository.transmitirSemDecada()).thenReturn(Flux.just(
+                comData("i1", "Olimpíadas de 1932"),
+                comData("i2", "sem data precisa")
+        ));
+        when(repository.definirDecadas(anyMap())).thenReturn(Mono.empty());
+
+        assertEquals(2L, service.preencherDecadas().block());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Integer>> gravadas = ArgumentCaptor.forClass(Map.class);
+        verify(repository, times(1)).definirDecadas(gravadas.capture());
+        assertEquals(1930, gravadas.getValue().get("i1"));
+        assertTrue(gravadas.getValue().containsKey("i2"));
+        assertNull(gravadas.getValue().get("i2"));
+    }
+
+    /* =====================================================
+       RESUMO JURÍDICO
+       ===================================================== */
+
+    @Test
+    void saveCompletoRecalculaOResumoEmSeguida() {
+        ItemAcervo item = item("i1", "m1", "a1");
+        item.setResumoDireitos(new ResumoDireitos(true, List.of(), List.of(), null, List.of("d1"), Instant.EPOCH));
+        when(repository.findById("i1")).thenReturn(Mono.just(item));
+        when(repository.save(any(ItemAcervo.class))).thenAnswer(invocacao -> Mono.just(invocacao.getArgument(0)));
+        when(resumoDireitosService.recalcular("i1")).thenReturn(Mono.empty());
+        when(estatisticasService.registrarItem(any(), any())).thenReturn(Mono.empty());
+
+        assertEquals(StatusItemAcervo.PUBLICADO, service.publicar("i1").block().getStatus());
+
+        // O save regrava o resumo lido antes: o recálculo vem depois dele
+        InOrder ordem = inOrder(repository, resumoDireitosService);
+        ordem.verify(repository).save(item);
+        ordem.verify(resumoDireitosService).recalcular("i1");
+    }
+
+    /* =====================================================
+       AUXILIARES
+       ===================================================== */
+
+    private static ItemAcervo item(String id, String modalidadeId, String... atletasIds) {
+        ItemAcervo item = new ItemAcervo();
+        item.setId(id);
+        item.setModalidadeId(modalidadeId);
+        item.setAtletasIds(Arrays.asList(atletasIds));
+        return item;
+    }
+
+    private static ItemAcervo comData(String id, String dataOriginal) {
+        ItemAcervo item = new ItemAcervo();
+        item.setId(id);
+        item.setDataOriginal(dataOriginal);
+        return item;
+    }
+
+    private static Atleta atleta(String id, String nome, String nomeSocial) {
+        Atleta atleta = new Atleta();
+        atleta.setId(id);
+        atleta.setNome(nome);
+        atleta.setNomeSocial(nomeSocial);
+        return atleta;
+    }
+
+    private static Modalidade modalidade(String id, String nome) {
+        Modalidade modalidade = new Modalidade();
+        modalidade.setId(id);
+        modalidade.setNome(nome);
+        return modalidade;
+    }
+}
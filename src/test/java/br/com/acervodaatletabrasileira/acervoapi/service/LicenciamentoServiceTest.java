@@ -0,0 +1,248 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.CarrinhoLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.PropostaLicenciamentoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.dto.ReciboCarrinhoDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Atleta;
+import br.com.acervodaatletabrasileira.acervoapi.model.ConfiguracaoFiscal;
+import br.com.acervodaatletabrasileira.acervoapi.model.ItemAcervo;
+import br.com.acervodaatletabrasileira.acervoapi.model.Licenciamento;
+import br.com.acervodaatletabrasileira.acervoapi.model.Transacao;
+import br.com.acervodaatletabrasileira.acervoapi.repository.AtletaRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ItemAcervoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.LicenciamentoRepository;
+import br.com.acervodaatletabrasileira.acervoapi.repository.TransacaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Carrinho: validação tudo-ou-nada antes de gravar e
+ * compensação quando a gravação falha no meio.
+ */
+class LicenciamentoServiceTest {
+
+    private final ItemAcervoRepository itemRepository = mock(ItemAcervoRepository.class);
+    private final AtletaRepository atletaRepository = mock(AtletaRepository.class);
+    private final TransacaoRepository transacaoRepository = mock(TransacaoRepository.class);
+    private final ConfiguracaoFiscalService configuracaoFiscalService = mock(ConfiguracaoFiscalService.class);
+    private final JuridicoService juridicoService = mock(JuridicoService.class);
+    private final LicenciamentoRepository licenciamentoRepository = mock(LicenciamentoRepository.class);
+    private final EstatisticasService estatisticasService = mock(EstatisticasService.class);
+    private final ReceitaService receitaService = mock(ReceitaService.class);
+    private final ReactiveTransactionManager transactionManager = mock(ReactiveTransactionManager.class);
+
+    @BeforeEach
+    void preparar() {
+        ConfiguracaoFiscal config = new ConfiguracaoFiscal();
+        config.setPercentualRepasseAtleta(new BigDecimal("0.85"));
+        config.setPercentualComissaoPlataforma(new BigDecimal("0.15"));
+        when(configuracaoFiscalService.regras()).thenReturn(Mono.just(config));
+
+        when(itemRepository.findAllById(anyIterable())).thenReturn(Flux.just(item("i1", "100.00"), item("i2", "50.00")));
+        when(atletaRepository.findAllById(anyIterable())).thenReturn(Flux.just(atleta("a1")));
+        when(juridicoService.documentosQueAutorizam(any())).thenReturn(Mono.just(Map.of("i1", "d1", "i2", "d2")));
+
+        when(transacaoRepository.insert(anyIterable())).thenAnswer(invocacao -> Flux.fromIterable(invocacao.getArgument(0)));
+        when(licenciamentoRepository.insert(anyIterable())).thenAnswer(invocacao -> Flux.fromIterable(invocacao.getArgument(0)));
+        when(transacaoRepository.deleteByPedidoId(anyString())).thenReturn(Mono.just(1L));
+        when(licenciamentoRepository.deleteByPedidoId(anyString())).thenReturn(Mono.just(0L));
+
+        when(estatisticasService.registrarTransacoes(anyList())).thenReturn(Mono.empty());
+        when(receitaService.registrarTransacoes(anyList())).thenReturn(Mono.empty());
+    }
+
+    private LicenciamentoService servico(boolean emTransacao) {
+        return new LicenciamentoService(
+                itemRepository,
+                atletaRepository,
+                transacaoRepository,
+                configuracaoFiscalService,
+                juridicoService,
+                licenciamentoRepository,
+                estatisticasService,
+                receitaService,
+                transactionManager,
+                3,
+                emTransacao
+        );
+    }
+
+    /* =====================================================
+       VALIDAÇÃO (NADA É GRAVADO)
+       ===================================================== */
+
+    @Test
+    void carrinhoInvalidoFalhaAntesDeConsultar() {
+        LicenciamentoService service = servico(false);
+
+        assertThrows(IllegalArgumentException.class, () -> service.efetivarCarrinho(new CarrinhoLicenciamentoDTO(List.of()), "c1").block());
+        assertThrows(IllegalArgumentException.class, () -> service.efetivarCarrinho(carrinho("i1", "i1"), "c1").block());
+        assertThrows(IllegalArgumentException.class, () -> service.efetivarCarrinho(carrinho("i1", "i2", "i3", "i4"), "c1").block());
+        assertThrows(IllegalArgumentException.class, () -> service.efetivarCarrinho(
+                new CarrinhoLicenciamentoDTO(List.of(new PropostaLicenciamentoDTO("i1", null, null, "EDITORIAL", null))), "c1").block());
+
+        verifyNoInteractions(itemRepository, atletaRepository, transacaoRepository, licenciamentoRepository);
+    }
+
+    @Test
+    void itemInexistenteCancelaOCarrinhoInteiro() {
+        LicenciamentoService service = servico(false);
+
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class,
+                () -> service.efetivarCarrinho(carrinho("i1", "i9"), "c1").block());
+
+        assertTrue(erro.getMessage().contains("i9"));
+        verify(transacaoRepository, never()).insert(anyIterable());
+        verify(licenciamentoRepository, never()).insert(anyIterable());
+    }
+
+    @Test
+    void umItemBloqueadoJuridicamenteCancelaOCarrinhoInteiro() {
+        when(juridicoService.documentosQueAutorizam(any())).thenReturn(Mono.just(Map.of("i1", "d1")));
+        LicenciamentoService service = servico(false);
+
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> service.efetivarCarrinho(carrinho("i1", "i2"), "c1").block());
+
+        assertTrue(erro.getMessage().contains("i2"));
+        verify(transacaoRepository, never()).insert(anyIterable());
+        verifyNoInteractions(estatisticasService, receitaService);
+    }
+
+    /* =====================================================
+       GRAVAÇÃO
+       ===================================================== */
+
+    @Test
+    void carrinhoValidoGravaTudoNumPedido() {
+        ReciboCarrinhoDTO recibo = servico(false).efetivarCarrinho(carrinho("i1", "i2"), "c1").block();
+
+        assertEquals(2, recibo.quantidadeItens());
+        assertEquals(new BigDecimal("150.00"), recibo.valorTotal());
+        assertEquals(new BigDecimal("127.50"), recibo.repasseAtletas());
+        assertEquals(new BigDecimal("22.50"), recibo.comissaoPlataforma());
+
+        List<Transacao> transacoes = transacoesInseridas();
+        List<Licenciamento> licenciamentos = licenciamentosInseridos();
+        assertEquals(2, transacoes.size());
+        for (int i = 0; i < transacoes.size(); i++) {
+            assertEquals(recibo.pedidoId(), transacoes.get(i).getPedidoId());
+            assertEquals(recibo.pedidoId(), licenciamentos.get(i).getPedidoId());
+            assertEquals(transacoes.get(i).getId(), licenciamentos.get(i).getTransacaoId());
+        }
+        assertEquals("d2", licenciamentos.get(1).getDocumentoDireitosId());
+
+        verify(estatisticasService).registrarTransacoes(transacoes);
+        verify(receitaService).registrarTransacoes(transacoes);
+    }
+
+    @Test
+    void falhaNoMeioDaGravacaoApagaOQueJaFoiGravado() {
+        when(licenciamentoRepository.insert(anyIterable())).thenReturn(Flux.error(new IllegalStateException("escrita recusada")));
+
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> servico(false).efetivarCarrinho(carrinho("i1", "i2"), "c1").block());
+
+        assertEquals("escrita recusada", erro.getMessage());
+        String pedidoId = transacoesInseridas().get(0).getPedidoId();
+        verify(transacaoRepository).deleteByPedidoId(pedidoId);
+        verify(licenciamentoRepository).deleteByPedidoId(pedidoId);
+        verifyNoInteractions(estatisticasService, receitaService);
+    }
+
+    @Test
+    void falhaNaCompensacaoPreservaOErroOriginal() {
+        when(licenciamentoRepository.insert(anyIterable())).thenReturn(Flux.error(new IllegalStateException("escrita recusada")));
+        when(transacaoRepository.deleteByPedidoId(anyString())).thenReturn(Mono.error(new IllegalStateException("sem conexão")));
+
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> servico(false).efetivarCarrinho(carrinho("i1", "i2"), "c1").block());
+
+        assertEquals("escrita recusada", erro.getMessage());
+    }
+
+    @Test
+    void comTransacaoAFalhaFazRollbackSemCompensar() {
+        ReactiveTransaction transacao = mock(ReactiveTransaction.class);
+        when(transacao.isNewTransaction()).thenReturn(true);
+        when(transactionManager.getReactiveTransaction(any())).thenReturn(Mono.just(transacao));
+        when(transactionManager.rollback(transacao)).thenReturn(Mono.empty());
+        when(licenciamentoRepository.insert(anyIterable())).thenReturn(Flux.error(new IllegalStateException("escrita recusada")));
+
+        assertThrows(IllegalStateException.class,
+                () -> servico(true).efetivarCarrinho(carrinho("i1", "i2"), "c1").block());
+
+        verify(transactionManager).rollback(transacao);
+        verify(transactionManager, never()).commit(any());
+        verify(transacaoRepository, never()).deleteByPedidoId(anyString());
+    }
+
+    /* =====================================================
+       UTIL
+       ===================================================== */
+
+    @SuppressWarnings("unchecked")
+    private List<Transacao> transacoesInseridas() {
+        ArgumentCaptor<Iterable<Transacao>> inseridas = ArgumentCaptor.forClass(Iterable.class);
+        verify(transacaoRepository).insert(inseridas.capture());
+        return lista(inseridas.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Licenciamento> licenciamentosInseridos() {
+        ArgumentCaptor<Iterable<Licenciamento>> inseridos = ArgumentCaptor.forClass(Iterable.class);
+        verify(licenciamentoRepository).insert(inseridos.capture());
+        return lista(inseridos.getValue());
+    }
+
+    private static <T> List<T> lista(Iterable<T> entidades) {
+        List<T> lista = new ArrayList<>();
+        entidades.forEach(lista::add);
+        return lista;
+    }
+
+    private static CarrinhoLicenciamentoDTO carrinho(String... itemIds) {
+        List<PropostaLicenciamentoDTO> propostas = new ArrayList<>();
+        for (String itemId : itemIds) {
+            propostas.add(new PropostaLicenciamentoDTO(itemId, "a1", null, "EDITORIAL", 12));
+        }
+        return new CarrinhoLicenciamentoDTO(propostas);
+    }
+
+    private static ItemAcervo item(String id, String preco) {
+        ItemAcervo item = new ItemAcervo();
+        item.setId(id);
+        item.setTitulo("Item " + id);
+        item.setPrecoBaseLicenciamento(new BigDecimal(preco));
+        return item;
+    }
+
+    private static Atleta atleta(String id) {
+        Atleta atleta = new Atleta();
+        atleta.setId(id);
+        return atleta;
+    }
+}
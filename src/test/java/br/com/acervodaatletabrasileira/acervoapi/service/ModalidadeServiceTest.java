@@ -0,0 +1,120 @@
+package br.com.acervodaatletabrasileira.acervoapi.service;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.ModalidadeDTO;
+import br.com.acervodaatletabrasileira.acervoapi.model.Modalidade;
+import br.com.acervodaatletabrasileira.acervoapi.repository.ModalidadeRepository;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ModalidadeServiceTest {
+
+    private final ModalidadeRepository repository = mock(ModalidadeRepository.class);
+    private final CacheLocalService cacheLocalService = new CacheLocalService(Duration.ofMinutes(10), 10);
+
+    private ModalidadeService servico(Duration validade) {
+        return new ModalidadeService(
+                repository,
+                mock(CloudinaryService.class),
+                mock(ItemAcervoService.class),
+                cacheLocalService,
+                validade
+        );
+    }
+
+    @Test
+    void limpezaGeralDosCachesRecarregaORegistro() {
+        ModalidadeService service = servico(Duration.ofHours(1));
+        when(repository.findAll()).thenReturn(Flux.just(modalidade("m1", "Natação", true)));
+        service.recarregarAtivas().block();
+
+        when(repository.findAll()).thenReturn(Flux.just(
+                modalidade("m1", "Natação", true),
+                modalidade("m2", "Atletismo", true)
+        ));
+        cacheLocalService.invalidarTudo();
+
+        assertEquals(List.of("Atletismo", "Natação"), nomes(service.listarAtivas()));
+    }
+
+    @Test
+    void registroVencidoEhRelidoEmSegundoPlano() {
+        ModalidadeService service = servico(Duration.ZERO);
+        when(repository.findAll()).thenReturn(
+                Flux.just(modalidade("m1", "Natação", true)),
+                Flux.just(modalidade("m1", "Natação", true), modalidade("m2", "Remo", true))
+        );
+
+        // Nunca carregado: serve o vazio e dispara a carga
+        assertTrue(service.listarAtivas().isEmpty());
+        // Carregado, mas já vencido: serve o atual e dispara nova leitura
+        assertEquals(List.of("Natação"), nomes(service.listarAtivas()));
+        assertEquals(List.of("Natação", "Remo"), nomes(service.listarAtivas()));
+    }
+
+    @Test
+    void registroNoPrazoNaoVaiAoBanco() {
+        ModalidadeService service = servico(Duration.ofHours(1));
+        when(repository.findAll()).thenReturn(Flux.just(modalidade("m1", "Natação", true)));
+        service.recarregarAtivas().block();
+
+        service.listarAtivas();
+        service.buscarAtivaPorId("m1").block();
+        service.buscarAtivaPorSlug("natacao").block();
+
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void inativasFicamForaDoRegistro() {
+        ModalidadeService service = servico(Duration.ofHours(1));
+        when(repository.findAll()).thenReturn(Flux.just(
+                modalidade("m1", "Natação", true),
+                modalidade("m2", "Esgrima", false)
+        ));
+        service.recarregarAtivas().block();
+
+        assertEquals(List.of("Natação"), nomes(service.listarAtivas()));
+        assertTrue(service.buscarAtivaPorId("m2").blockOptional().isEmpty());
+    }
+
+    @Test
+    void falhaAoRecarregarNaoDerrubaAEscritaJaGravada() {
+        ModalidadeService service = servico(Duration.ofHours(1));
+        when(repository.save(any(Modalidade.class))).thenAnswer(invocacao -> {
+            Modalidade salva = invocacao.getArgument(0);
+            salva.setId("m9");
+            return Mono.just(salva);
+        });
+        when(repository.findAll()).thenReturn(Flux.error(new IllegalStateException("Mongo indisponível")));
+
+        Modalidade criada = service.create(new ModalidadeDTO("Skate", null, null, true, null, null)).block();
+
+        assertEquals("m9", criada.getId());
+        assertEquals("skate", criada.getSlug());
+    }
+
+    private static Modalidade modalidade(String id, String nome, boolean ativa) {
+        Modalidade modalidade = new Modalidade();
+        modalidade.setId(id);
+        modalidade.setNome(nome);
+        modalidade.setSlug(nome.toLowerCase().replace("ç", "c").replace("ã", "a"));
+        modalidade.setAtiva(ativa);
+        return modalidade;
+    }
+
+    private static List<String> nomes(List<Modalidade> modalidades) {
+        return modalidades.stream().map(Modalidade::getNome).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheCoalescidoDTO;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CacheCoalescidoTest {
+
+    private final AtomicInteger calculos = new AtomicInteger();
+
+    /**
+     * Cada cálculo devolve "v1", "v2", ... na ordem em que é disparado
+     */
+    private final Supplier<Mono<String>> calculo = () -> Mono.fromSupplier(() -> "v" + calculos.incrementAndGet());
+
+    /* =====================================================
+       SINGLE-FLIGHT
+       ===================================================== */
+
+    @Test
+    void requisicoesSimultaneasCompartilhamOMesmoCalculo() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ofMinutes(1), Duration.ZERO, 10);
+        Sinks.One<String> lento = Sinks.one();
+        AtomicInteger disparos = new AtomicInteger();
+        Supplier<Mono<String>> calculoLento = () -> {
+            disparos.incrementAndGet();
+            return lento.asMono();
+        };
+
+        List<String> respostas = new ArrayList<>();
+        cache.obter("admin", calculoLento).subscribe(respostas::add);
+        cache.obter("admin", calculoLento).subscribe(respostas::add);
+        cache.obter("admin", calculoLento).subscribe(respostas::add);
+        lento.tryEmitValue("pronto");
+
+        assertEquals(1, disparos.get());
+        assertEquals(List.of("pronto", "pronto", "pronto"), respostas);
+
+        EstatisticasCacheCoalescidoDTO estatisticas = cache.estatisticas();
+        assertEquals(1L, estatisticas.calculos());
+        assertEquals(2L, estatisticas.compartilhadas());
+        assertEquals(2.0 / 3.0, estatisticas.taxaCoalescencia(), 1e-9);
+    }
+
+    @Test
+    void chavesDiferentesCalculamSeparadamente() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ofMinutes(1), Duration.ZERO, 10);
+
+        assertEquals("v1", cache.obter("a", calculo).block());
+        assertEquals("v2", cache.obter("b", calculo).block());
+        assertEquals("v1", cache.obter("a", calculo).block());
+    }
+
+    /* =====================================================
+       TTL / STALE-WHILE-REVALIDATE
+       ===================================================== */
+
+    @Test
+    void dentroDoTtlNaoRecalcula() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ofMinutes(1), Duration.ZERO, 10);
+
+        cache.obter("admin", calculo).block();
+        cache.obter("admin", calculo).block();
+
+        assertEquals(1, calculos.get());
+        assertEquals(1L, cache.estatisticas().acertos());
+    }
+
+    @Test
+    void obsoletoEhServidoEnquantoRecalculaEmSegundoPlano() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ZERO, Duration.ofHours(1), 10);
+
+        assertEquals("v1", cache.obter("admin", calculo).block());
+        // Vencido: devolve o anterior na hora e dispara o recálculo
+        assertEquals("v1", cache.obter("admin", calculo).block());
+        assertEquals(2, calculos.get());
+        assertEquals("v2", cache.obter("admin", calculo).block());
+
+        assertEquals(2L, cache.estatisticas().obsoletosServidos());
+    }
+
+    @Test
+    void foraDaJanelaDeObsolescenciaEsperaONovoCalculo() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ZERO, Duration.ZERO, 10);
+
+        assertEquals("v1", cache.obter("admin", calculo).block());
+        assertEquals("v2", cache.obter("admin", calculo).block());
+    }
+
+    /* =====================================================
+       FALHAS / INVALIDAÇÃO
+       ===================================================== */
+
+    @Test
+    void falhaNaoEhCacheada() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ofMinutes(1), Duration.ZERO, 10);
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.obter("admin", () -> Mono.error(new IllegalStateException("banco fora"))).block());
+        assertEquals("v1", cache.obter("admin", calculo).block());
+
+        assertEquals(1L, cache.estatisticas().falhas());
+    }
+
+    @Test
+    void resultadoDeCalculoInvalidadoNaoEhGuardado() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ofMinutes(1), Duration.ZERO, 10);
+        Sinks.One<String> lento = Sinks.one();
+
+        List<String> respostas = new ArrayList<>();
+        cache.obter("admin", lento::asMono).subscribe(respostas::add);
+        cache.invalidarTudo();
+        lento.tryEmitValue("antigo");
+
+        // Quem esperava recebe o valor, mas ele não abastece o cache
+        assertEquals(List.of("antigo"), respostas);
+        assertEquals("v1", cache.obter("admin", calculo).block());
+    }
+
+    @Test
+    void capacidadeDespejaAChaveMenosUsada() {
+        CacheCoalescido<String, String> cache = new CacheCoalescido<>("teste", Duration.ofMinutes(1), Duration.ZERO, 1);
+
+        cache.obter("a", calculo).block();
+        cache.obter("b", calculo).block();
+        assertEquals("v3", cache.obter("a", calculo).block());
+    }
+}
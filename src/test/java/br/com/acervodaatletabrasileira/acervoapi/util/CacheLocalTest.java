@@ -0,0 +1,139 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import br.com.acervodaatletabrasileira.acervoapi.dto.EstatisticasCacheDTO;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CacheLocalTest {
+
+    private final AtomicInteger cargas = new AtomicInteger();
+
+    private final Function<String, Mono<String>> carregador = chave -> {
+        cargas.incrementAndGet();
+        return Mono.just(chave.toUpperCase());
+    };
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    @Test
+    void segundaLeituraServeDoCache() {
+        CacheLocal<String, String> cache = new CacheLocal<>("teste", Duration.ofMinutes(1), 10);
+
+        assertEquals("A", cache.obter("a", carregador).block());
+        assertEquals("A", cache.obter("a", carregador).block());
+
+        assertEquals(1, cargas.get());
+        EstatisticasCacheDTO estatisticas = cache.estatisticas();
+        assertEquals(1L, estatisticas.acertos());
+        assertEquals(1L, estatisticas.falhas());
+        assertEquals(0.5, estatisticas.taxaAcerto());
+    }
+
+    @Test
+    void ausenciaNaoEhCacheada() {
+        CacheLocal<String, String> cache = new CacheLocal<>("teste", Duration.ofMinutes(1), 10);
+        Function<String, Mono<String>> vazio = chave -> {
+            cargas.incrementAndGet();
+            return Mono.empty();
+        };
+
+        assertNull(cache.obter("a", vazio).block());
+        assertNull(cache.obter("a", vazio).block());
+
+        assertEquals(2, cargas.get());
+        assertEquals(0L, cache.estatisticas().tamanho());
+    }
+
+    @Test
+    void entradaVencidaEhRecarregada() {
+        CacheLocal<String, String> cache = new CacheLocal<>("teste", Duration.ZERO, 10);
+
+        cache.obter("a", carregador).block();
+        cache.obter("a", carregador).block();
+
+        assertEquals(2, cargas.get());
+        assertEquals(1L, cache.estatisticas().expiracoes());
+    }
+
+    /* =====================================================
+       CAPACIDADE (LRU)
+       ===================================================== */
+
+    @Test
+    void capacidadeDespejaAMenosUsadaRecentemente() {
+        CacheLocal<String, String> cache = new CacheLocal<>("teste", Duration.ofMinutes(1), 2);
+
+        cache.obter("a", carregador).block();
+        cache.obter("b", carregador).block();
+        cache.obter("a", carregador).block(); // "a" passa a ser a mais recente
+        cache.obter("c", carregador).block(); // despeja "b"
+
+        cache.obter("a", carregador).block();
+        assertEquals(3, cargas.get());
+
+        cache.obter("b", carregador).block();
+        assertEquals(4, cargas.get());
+        assertEquals(2L, cache.estatisticas().despejos());
+    }
+
+    @Test
+    void capacidadeDeveSerPositiva() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheLocal<String, String>("teste", Duration.ofMinutes(1), 0));
+    }
+
+    /* =====================================================
+       INVALIDAÇÃO
+       ===================================================== */
+
+    @Test
+    void cargaIniciadaAntesDaInvalidacaoNaoGrava() {
+        CacheLocal<String, String> cache = new CacheLocal<>("teste", Duration.ofMinutes(1), 10);
+        Sinks.One<String> lenta = Sinks.one();
+
+        Mono<String> emAndamento = cache.obter("a", chave -> lenta.asMono());
+        emAndamento.subscribe();
+        cache.invalidar("a");
+        lenta.tryEmitValue("ANTIGO");
+
+        assertEquals("A", cache.obter("a", carregador).block());
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    void invalidarSeRemoveSoAsEntradasQueAtendemAoCriterio() {
+        CacheLocal<String, String> cache = new CacheLocal<>("teste", Duration.ofMinutes(1), 10);
+        cache.obter("a", carregador).block();
+        cache.obter("b", carregador).block();
+
+        cache.invalidarSe("B"::equals);
+
+        cache.obter("a", carregador).block();
+        cache.obter("b", carregador).block();
+        assertEquals(3, cargas.get());
+        assertEquals(1L, cache.estatisticas().invalidacoes());
+    }
+
+    @Test
+    void invalidarTudoEsvaziaOCache() {
+        CacheLocal<String, String> cache = new CacheLocal<>("teste", Duration.ofMinutes(1), 10);
+        cache.obter("a", carregador).block();
+        cache.obter("b", carregador).block();
+
+        cache.invalidarTudo();
+
+        EstatisticasCacheDTO estatisticas = cache.estatisticas();
+        assertEquals(0L, estatisticas.tamanho());
+        assertEquals(2L, estatisticas.invalidacoes());
+    }
+}
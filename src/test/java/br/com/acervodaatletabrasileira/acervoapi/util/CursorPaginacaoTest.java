@@ -0,0 +1,75 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorPaginacaoTest {
+
+    @Test
+    void codificaEDecodificaAsPartes() {
+        String cursor = CursorPaginacao.codificar("PUBLICADO", "1700000000000", "abc123");
+
+        assertArrayEquals(
+                new String[]{"PUBLICADO", "1700000000000", "abc123"},
+                CursorPaginacao.decodificar(cursor, 3)
+        );
+    }
+
+    @Test
+    void preservaPartesVaziasEAcentos() {
+        String cursor = CursorPaginacao.codificar("", "Maria Lenk — São Paulo", "");
+
+        assertArrayEquals(
+                new String[]{"", "Maria Lenk — São Paulo", ""},
+                CursorPaginacao.decodificar(cursor, 3)
+        );
+    }
+
+    @Test
+    void cursorEhUrlSafeESemPreenchimento() {
+        String cursor = CursorPaginacao.codificar("??>>", "~~~");
+
+        assertEquals(-1, cursor.indexOf('+'));
+        assertEquals(-1, cursor.indexOf('/'));
+        assertEquals(-1, cursor.indexOf('='));
+    }
+
+    @Test
+    void rejeitaBase64Invalido() {
+        CursorPaginacao.CursorInvalidoException erro = assertThrows(
+                CursorPaginacao.CursorInvalidoException.class,
+                () -> CursorPaginacao.decodificar("não é base64!", 2)
+        );
+        assertEquals("Cursor de paginação inválido", erro.getMessage());
+    }
+
+    @Test
+    void rejeitaQuantidadeDePartesDiferente() {
+        String cursor = CursorPaginacao.codificar("nome", "id");
+
+        assertThrows(CursorPaginacao.CursorInvalidoException.class, () -> CursorPaginacao.decodificar(cursor, 3));
+        assertThrows(CursorPaginacao.CursorInvalidoException.class, () -> CursorPaginacao.decodificar(cursor, 1));
+    }
+
+    @Test
+    void rejeitaConteudoSemSeparador() {
+        String cursor = Base64.getUrlEncoder().encodeToString("qualquer".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(CursorPaginacao.CursorInvalidoException.class, () -> CursorPaginacao.decodificar(cursor, 2));
+    }
+
+    @Test
+    void tamanhoPaginaUsaPadraoELimites() {
+        assertEquals(CursorPaginacao.TAMANHO_PADRAO, CursorPaginacao.tamanhoPagina(null));
+        assertEquals(1, CursorPaginacao.tamanhoPagina(0));
+        assertEquals(1, CursorPaginacao.tamanhoPagina(-5));
+        assertEquals(10, CursorPaginacao.tamanhoPagina(10));
+        assertEquals(CursorPaginacao.TAMANHO_MAXIMO, CursorPaginacao.tamanhoPagina(10_000));
+    }
+}
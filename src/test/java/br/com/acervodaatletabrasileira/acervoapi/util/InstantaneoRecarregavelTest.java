@@ -0,0 +1,130 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstantaneoRecarregavelTest {
+
+    private final AtomicInteger leituras = new AtomicInteger();
+
+    /**
+     * Cada leitura devolve "v1", "v2", ... na ordem em que é disparada
+     */
+    private final Supplier<Mono<String>> leitura = () -> Mono.fromSupplier(() -> "v" + leituras.incrementAndGet());
+
+    /* =====================================================
+       LEITURA
+       ===================================================== */
+
+    @Test
+    void atualServeOInicialEDisparaACarga() {
+        InstantaneoRecarregavel<String> instantaneo =
+                new InstantaneoRecarregavel<>("teste", Duration.ofHours(1), "inicial", leitura);
+
+        assertEquals("inicial", instantaneo.atual());
+        assertTrue(instantaneo.carregado());
+        assertEquals("v1", instantaneo.atual());
+        assertEquals(1, leituras.get());
+    }
+
+    @Test
+    void obterAguardaAPrimeiraCarga() {
+        InstantaneoRecarregavel<String> instantaneo =
+                new InstantaneoRecarregavel<>("teste", Duration.ofHours(1), null, leitura);
+
+        assertEquals("v1", instantaneo.obter().block());
+        assertEquals("v1", instantaneo.obter().block());
+        assertEquals(1, leituras.get());
+    }
+
+    @Test
+    void vencidoServeOAtualERecarregaEmSegundoPlano() {
+        InstantaneoRecarregavel<String> instantaneo =
+                new InstantaneoRecarregavel<>("teste", Duration.ZERO, null, leitura);
+        instantaneo.recarregar().block();
+
+        assertEquals("v1", instantaneo.obter().block());
+        assertEquals("v2", instantaneo.obter().block());
+    }
+
+    /* =====================================================
+       RECARGA
+       ===================================================== */
+
+    @Test
+    void leituraAntigaQueTerminaDepoisNaoSobrescreve() {
+        Sinks.One<String> lenta = Sinks.one();
+        InstantaneoRecarregavel<String> instantaneo =
+                new InstantaneoRecarregavel<>("teste", Duration.ofHours(1), null, lenta::asMono);
+
+        instantaneo.recarregar().subscribe();
+        instantaneo.definir("gravado");
+        lenta.tryEmitValue("antigo");
+
+        assertEquals("gravado", instantaneo.atual());
+    }
+
+    @Test
+    void pedidoDuranteRecargaAgendaMaisUmaAoFinal() {
+        List<Sinks.One<String>> pendentes = new ArrayList<>();
+        InstantaneoRecarregavel<String> instantaneo = new InstantaneoRecarregavel<>(
+                "teste", Duration.ofHours(1), null,
+                () -> {
+                    Sinks.One<String> sink = Sinks.one();
+                    pendentes.add(sink);
+                    return sink.asMono();
+                }
+        );
+
+        instantaneo.recarregarEmSegundoPlano();
+        instantaneo.recarregarEmSegundoPlano();
+        instantaneo.recarregarEmSegundoPlano();
+        assertEquals(1, pendentes.size());
+
+        // A leitura em andamento pode ter começado antes da escrita avisada
+        pendentes.get(0).tryEmitValue("antes");
+        assertEquals(2, pendentes.size());
+        pendentes.get(1).tryEmitValue("depois");
+
+        assertEquals(2, pendentes.size());
+        assertEquals("depois", instantaneo.atual());
+    }
+
+    @Test
+    void falhaMantemOValorAnterior() {
+        AtomicInteger chamadas = new AtomicInteger();
+        InstantaneoRecarregavel<String> instantaneo = new InstantaneoRecarregavel<>(
+                "teste", Duration.ofHours(1), null,
+                () -> chamadas.incrementAndGet() == 1
+                        ? Mono.just("v1")
+                        : Mono.error(new IllegalStateException("banco fora"))
+        );
+        instantaneo.recarregar().block();
+
+        instantaneo.recarregarEmSegundoPlano();
+        assertEquals("v1", instantaneo.atual());
+        assertThrows(IllegalStateException.class, () -> instantaneo.recarregar().block());
+        assertEquals("v1", instantaneo.atual());
+    }
+
+    @Test
+    void leituraVaziaEhFalha() {
+        InstantaneoRecarregavel<String> instantaneo =
+                new InstantaneoRecarregavel<>("teste", Duration.ofHours(1), "inicial", Mono::empty);
+
+        assertThrows(IllegalStateException.class, () -> instantaneo.obter().block());
+        assertFalse(instantaneo.carregado());
+    }
+}
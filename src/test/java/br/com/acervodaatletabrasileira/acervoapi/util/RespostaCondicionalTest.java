@@ -0,0 +1,166 @@
+package br.com.acervodaatletabrasileira.acervoapi.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RespostaCondicionalTest {
+
+    private static final Instant T0 = Instant.parse("2024-03-01T12:00:00Z");
+
+    private record Card(String id, Instant atualizadoEm) {
+    }
+
+    /* =====================================================
+       VERSÃO
+       ===================================================== */
+
+    @Test
+    void versaoIndividualEhForteEDependeDaData() {
+        RespostaCondicional.Versao versao = RespostaCondicional.versao("abc", T0);
+
+        assertEquals("\"abc-" + T0.toEpochMilli() + "\"", versao.etag());
+        assertEquals(T0, versao.ultimaModificacao());
+        assertNotEquals(versao.etag(), RespostaCondicional.versao("abc", T0.plusMillis(1)).etag());
+    }
+
+    @Test
+    void versaoColecaoEhFracaSemLastModifiedESensivelAOrdemEAosExtras() {
+        List<Card> cards = List.of(new Card("a", T0), new Card("b", T0));
+
+        RespostaCondicional.Versao versao = RespostaCondicional.versaoColecao(cards, Card::id, Card::atualizadoEm, "cursor");
+
+        assertTrue(versao.etag().startsWith("W/\""));
+        assertNull(versao.ultimaModificacao());
+        assertEquals(versao, RespostaCondicional.versaoColecao(cards, Card::id, Card::atualizadoEm, "cursor"));
+        assertNotEquals(versao, RespostaCondicional.versaoColecao(List.of(cards.get(1), cards.get(0)), Card::id, Card::atualizadoEm, "cursor"));
+        assertNotEquals(versao, RespostaCondicional.versaoColecao(cards, Card::id, Card::atualizadoEm, "outro"));
+        assertNotEquals(versao, RespostaCondicional.versaoColecao(cards.subList(0, 1), Card::id, Card::atualizadoEm, "cursor"));
+    }
+
+    @Test
+    void versaoCompostaDistingueSeparacaoDasPartes() {
+        assertNotEquals(
+                RespostaCondicional.versaoComposta(null, "ab", "c").etag(),
+                RespostaCondicional.versaoComposta(null, "a", "bc").etag()
+        );
+    }
+
+    /* =====================================================
+       RESPOSTA
+       ===================================================== */
+
+    @Test
+    void semCabecalhosCondicionaisResponde200ComCorpoEValidadores() {
+        RespostaCondicional.Versao versao = RespostaCondicional.versao("abc", T0);
+
+        ResponseEntity<String> resposta = responder(MockServerHttpRequest.get("/recurso").build(), versao, new AtomicInteger());
+
+        assertEquals(HttpStatus.OK, resposta.getStatusCode());
+        assertEquals("corpo", resposta.getBody());
+        assertEquals(versao.etag(), resposta.getHeaders().getETag());
+        assertEquals(T0.toEpochMilli(), resposta.getHeaders().getLastModified());
+        assertEquals("no-cache, public", resposta.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void ifNoneMatchIgualResponde304SemMontarCorpo() {
+        RespostaCondicional.Versao versao = RespostaCondicional.versao("abc", T0);
+        AtomicInteger corpos = new AtomicInteger();
+
+        ResponseEntity<String> resposta = responder(
+                MockServerHttpRequest.get("/recurso").header(HttpHeaders.IF_NONE_MATCH, versao.etag()).build(),
+                versao,
+                corpos
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, resposta.getStatusCode());
+        assertNull(resposta.getBody());
+        assertEquals(versao.etag(), resposta.getHeaders().getETag());
+        assertEquals(0, corpos.get());
+    }
+
+    @Test
+    void ifNoneMatchDiferenteResponde200() {
+        RespostaCondicional.Versao versao = RespostaCondicional.versao("abc", T0);
+        AtomicInteger corpos = new AtomicInteger();
+
+        ResponseEntity<String> resposta = responder(
+                MockServerHttpRequest.get("/recurso").header(HttpHeaders.IF_NONE_MATCH, "\"outra\"").build(),
+                versao,
+                corpos
+        );
+
+        assertEquals(HttpStatus.OK, resposta.getStatusCode());
+        assertEquals(1, corpos.get());
+    }
+
+    @Test
+    void etagFracoConfereComIfNoneMatch() {
+        RespostaCondicional.Versao versao = RespostaCondicional.versaoColecao(
+                List.of(new Card("a", T0)), Card::id, Card::atualizadoEm);
+
+        ResponseEntity<String> resposta = responder(
+                MockServerHttpRequest.get("/colecao").header(HttpHeaders.IF_NONE_MATCH, versao.etag()).build(),
+                versao,
+                new AtomicInteger()
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, resposta.getStatusCode());
+    }
+
+    @Test
+    void ifModifiedSinceNaoAnteriorResponde304() {
+        RespostaCondicional.Versao versao = RespostaCondicional.versao("abc", T0.truncatedTo(ChronoUnit.SECONDS));
+
+        ResponseEntity<String> resposta = responder(
+                MockServerHttpRequest.get("/recurso").ifModifiedSince(T0.toEpochMilli()).build(),
+                versao,
+                new AtomicInteger()
+        );
+
+        assertEquals(HttpStatus.NOT_MODIFIED, resposta.getStatusCode());
+    }
+
+    @Test
+    void ifModifiedSinceAnteriorResponde200() {
+        RespostaCondicional.Versao versao = RespostaCondicional.versao("abc", T0);
+
+        ResponseEntity<String> resposta = responder(
+                MockServerHttpRequest.get("/recurso").ifModifiedSince(T0.minusSeconds(60).toEpochMilli()).build(),
+                versao,
+                new AtomicInteger()
+        );
+
+        assertEquals(HttpStatus.OK, resposta.getStatusCode());
+    }
+
+    private static ResponseEntity<String> responder(
+            MockServerHttpRequest requisicao,
+            RespostaCondicional.Versao versao,
+            AtomicInteger corpos
+    ) {
+        return RespostaCondicional.responder(
+                MockServerWebExchange.from(requisicao),
+                versao,
+                () -> Mono.fromCallable(() -> {
+                    corpos.incrementAndGet();
+                    return "corpo";
+                })
+        ).block();
+    }
+}